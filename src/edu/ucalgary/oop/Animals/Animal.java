@@ -5,7 +5,7 @@ import edu.ucalgary.oop.Schedule.*;
 /**
  * Represents an animal in the Wildlife Shelter. This class encapsulates details such as
  * the animal's unique identifier, nickname, species, and provides a structured way to manage animal information
- * and their basic care needs, such as feeding schedules.
+ * and their basic care needs, such as feeding schedules, which are read from the animal's species profile.
  * 
  * @author Matteo Valente
  * @author Marcus Gee
@@ -87,13 +87,33 @@ public class Animal {
     }
 
     /**
-     * Generates a default feeding schedule item for the animal. This method is intended to be
-     * overridden by subclasses to provide species-specific feeding schedules if necessary.
+     * Generates the feeding schedule item for the animal from its species' profile in the default
+     * {@link SpeciesRegistry}, so the feeding hours are kept in one place for every species.
      *
-     * @return An Item object representing the default feeding schedule for this animal, 
-     *         assuming a 5-minute duration within a 3-hour window starting from midnight.
+     * @return An Item object representing the feeding schedule for this animal, or a 5-minute feeding within a
+     *         3-hour window starting from midnight if its species has no profile.
      */
     public Item feeding() {
-        return new Item(this.ID, 0, 0, 3, 5);
+        return feeding(SpeciesRegistry.createDefault());
+    }
+
+    /**
+     * Generates the feeding schedule item for the animal from its species' profile in a registry. The item is
+     * listed as the built-in {@link TaskRegistry#FEEDING_TASK}, so the scheduler charges its food prep.
+     *
+     * @param registry The species profiles to read the feeding hours from.
+     * @return An Item object representing the feeding schedule for this animal, or a 5-minute feeding within a
+     *         3-hour window starting from midnight if its species has no profile.
+     * @throws IllegalArgumentException if the registry is null.
+     */
+    public Item feeding(SpeciesRegistry registry) {
+        if (registry == null)
+            throw new IllegalArgumentException("Species registry cannot be null.");
+        int species = registry.getSpeciesID(animalSpecies);
+        if (species < 0) {
+            return new Item(this.ID, TaskRegistry.FEEDING_TASK, 0, 3, 5);
+        }
+        return new Item(this.ID, TaskRegistry.FEEDING_TASK, registry.getFeedingStartHour(species),
+                registry.getFeedingWindow(species), registry.getFeedingMinutes(species));
     }
 }
@@ -5,8 +5,8 @@ import edu.ucalgary.oop.Schedule.*;
 /**
  * Represents a Coyote, extending the {@link Animal} class with specific behaviors and properties
  * unique to coyotes.
- * This class overrides the feeding method to provide feeding schedule specifics
- * suited for a Coyote, taking into account its crepuscular nature.
+ * Its crepuscular feeding schedule comes from the coyote profile of the default {@link SpeciesRegistry},
+ * through the feeding method of {@link Animal}.
  * 
  * @author Matteo Valente
  * @author Marcus Gee
@@ -27,16 +27,4 @@ public class Coyote extends Animal {
     public Coyote(int ID, String nickName, String animalSpecies) {
         super(ID, nickName, animalSpecies);
     }
-
-    /**
-     * Creates and returns an {@link Item} object with Coyote-specific feeding values.
-     * This method overrides the Animal class's feeding method to reflect the Coyote's
-     * crepuscular activity pattern, with feeding starting at 7 PM.
-     * 
-     * @return An {@link Item} object representing the Coyote's feeding schedule.
-     */
-    @Override
-    public Item feeding() {
-        return new Item(getID(), 0, 19, 3, 5);
-    }
 }
@@ -5,8 +5,8 @@ import edu.ucalgary.oop.Schedule.*;
 /**
  * Represents a Fox, extending the {@link Animal} class with specific behaviors and properties
  * unique to foxes.
- * This class overrides the feeding behavior to account for the fox's nocturnal feeding habits,
- * setting a specific feeding schedule that starts at midnight.
+ * Its nocturnal feeding schedule comes from the fox profile of the default {@link SpeciesRegistry},
+ * through the feeding method of {@link Animal}.
  * 
  * @author Matteo Valente
  * @author Marcus Gee
@@ -28,17 +28,6 @@ public class Fox extends Animal {
     public Fox(int ID, String nickName, String animalSpecies) {
         super(ID, nickName, animalSpecies);
     }
-
-    /**
-     * Creates and returns an Item object with Fox-specific feeding values, reflecting its nocturnal nature.
-     * This method overrides the Animal class's feeding method to provide a feeding schedule that starts at midnight.
-     * 
-     * @return An Item object representing the Fox's feeding schedule, starting at 12 AM, within a 3-hour window, for a duration of 5 minutes.
-     */
-    @Override
-    public Item feeding() {
-        return new Item(getID(), 0, 0, 3, 5);
-    }
 }
 
  
\ No newline at end of file
@@ -5,8 +5,8 @@ import edu.ucalgary.oop.Schedule.*;
 /**
  * Represents a Porcupine, extending the {@link Animal} class with specific behaviors and properties
  * unique to porcupines.
- * This class provides functionality to set up a porcupine-specific feeding schedule,
- * taking into account its crepuscular activity patterns.
+ * Its crepuscular feeding schedule comes from the porcupine profile of the default {@link SpeciesRegistry},
+ * through the feeding method of {@link Animal}.
  * 
  * @author Matteo Valente
  * @author Marcus Gee
@@ -28,18 +28,6 @@ public class Porcupine extends Animal {
     public Porcupine(int ID, String nickName, String animalSpecies) {
         super(ID, nickName, animalSpecies);
     }
-
-    /**
-     * Creates and returns an Item object with Porcupine-specific feeding values, reflecting its crepuscular nature.
-     * Overrides the Animal class's feeding method to provide a feeding schedule starting at 7 PM.
-     * 
-     * @return An Item object representing the Porcupine's feeding schedule, with a start hour of 7 PM, 
-     *         within a 3-hour window, for a duration of 5 minutes.
-     */
-    @Override
-    public Item feeding() {
-        return new Item(getID(), 0, 19, 3, 5);
-    }
 }
 
  
\ No newline at end of file
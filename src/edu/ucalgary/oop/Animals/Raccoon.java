@@ -5,8 +5,8 @@ import edu.ucalgary.oop.Schedule.*;
 /**
  * Represents a Raccoon, extending the {@link Animal} class with specific behaviors and properties
  * unique to raccoons.
- * The feeding schedule is tailored to the Raccoon's nocturnal nature,
- * beginning at midnight.
+ * Its nocturnal feeding schedule comes from the raccoon profile of the default {@link SpeciesRegistry},
+ * through the feeding method of {@link Animal}.
  * 
  * @author Matteo Valente
  * @author Marcus Gee
@@ -28,17 +28,4 @@ public class Raccoon extends Animal {
     public Raccoon(int ID, String nickName, String animalSpecies) {
         super(ID, nickName, animalSpecies);
     }
-
-    /**
-     * Creates and returns an Item object with Raccoon-specific feeding values, reflecting its nocturnal activity.
-     * This method overrides the Animal class's feeding method to set a feeding schedule that starts at midnight (0 hour).
-     * 
-     * @return An Item object representing the Raccoon's feeding schedule, with a start hour of 0 (midnight), 
-     *         a 3-hour feeding window, and a duration of 5 minutes.
-     */
-    @Override
-    public Item feeding() {
-        return new Item(getID(), 0, 0, 3, 5);
-    }    
-
 }
@@ -1,6 +1,7 @@
 package edu.ucalgary.oop;
 import edu.ucalgary.oop.Schedule.*;
 import edu.ucalgary.oop.GUI.*;
+import java.nio.file.Paths;
 
 /**
  * @author Matteo Valente
@@ -19,7 +20,9 @@ public class Main {
         Schedule schedule = null;
         while(flag){
             try {
-                schedule = new Schedule(gui.getUsername(),gui.getPassword());
+                //keep a snapshot of the imported data so later starts are faster and work without the database
+                schedule = new Schedule(ImportData.DEFAULT_URL, gui.getUsername(), gui.getPassword(),
+                        Paths.get(Schedule.DEFAULT_SNAPSHOT_FILE));
                 flag = false;}
             catch(Exception e){
                 //if an exception occurs then we use the GUI error display message then reprompt the user for input
@@ -32,6 +35,8 @@ public class Main {
                 }
             } finally{
                 if(schedule != null){
+                    //write any queued treatment moves before the program exits
+                    Runtime.getRuntime().addShutdownHook(new Thread(schedule::close));
                     schedule.createSchedule();
                 }
             }
@@ -0,0 +1,76 @@
+package edu.ucalgary.oop.Schedule;
+
+import edu.ucalgary.oop.Animals.Animal;
+import java.util.*;
+
+/**
+ * Holds the shelter's animals in an array, giving each one a compact index in ascending order of its database ID.
+ * The index of an ID is found once per lookup without boxing, after which the animal and its species ID are plain
+ * array loads. Species IDs come from a {@link SpeciesRegistry} and are looked up once per animal when the registry
+ * is assigned, rather than by species name for every item.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class AnimalRegistry {
+    private final IdIndex index;
+    private final Animal[] animals;
+    private final int[] speciesIDs;
+
+    /**
+     * Constructs a registry of animals, with every species ID unassigned.
+     *
+     * @param animals The animals, keyed by their database ID.
+     * @throws IllegalArgumentException if the animals are null or an animal is null.
+     */
+    public AnimalRegistry(Map<Integer, Animal> animals) {
+        if (animals == null) {
+            throw new IllegalArgumentException("Animals cannot be null.");
+        }
+        int[] ids = new int[animals.size()];
+        int i = 0;
+        for (int id : animals.keySet()) {
+            ids[i++] = id;
+        }
+        index = new IdIndex(ids);
+        this.animals = new Animal[ids.length];
+        for (Map.Entry<Integer, Animal> entry : animals.entrySet()) {
+            if (entry.getValue() == null) {
+                throw new IllegalArgumentException("Animal " + entry.getKey() + " cannot be null.");
+            }
+            this.animals[index.indexOf(entry.getKey())] = entry.getValue();
+        }
+        speciesIDs = new int[ids.length];
+        Arrays.fill(speciesIDs, -1);
+    }
+
+    /**
+     * Looks up the species ID of every animal in a species registry.
+     *
+     * @param registry The species registry.
+     */
+    public void assignSpecies(SpeciesRegistry registry) {
+        for (int i = 0; i < animals.length; i++) {
+            speciesIDs[i] = registry.getSpeciesID(animals[i].getAnimalSpecies());
+        }
+    }
+
+    /**
+     * Returns the index of an animal.
+     *
+     * @param animalID The animal's database ID.
+     * @return The index, or -1 if there is no such animal.
+     */
+    public int indexOf(int animalID) {
+        return index.indexOf(animalID);
+    }
+
+    public int size() { return animals.length; }
+    public Animal getAnimal(int index) { return animals[index]; }
+    public int getAnimalID(int index) { return this.index.getID(index); }
+    public int getSpeciesID(int index) { return speciesIDs[index]; }
+}
@@ -0,0 +1,30 @@
+package edu.ucalgary.oop.Schedule;
+
+/**
+ * Resolves scheduling conflicts without user interaction by never calling in a volunteer. Items that do not fit
+ * are shifted to the next free hour after their original start hour, or left unscheduled if there is none.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class AutoShiftPolicy implements ConflictPolicy {
+
+    @Override
+    public boolean approveVolunteer(int volunteerHour, Item item) {
+        return false;
+    }
+
+    @Override
+    public int chooseStartHour(Item item, int[] freeHours) {
+        for (int hour : freeHours) {
+            if (hour > item.getStartHour()) {
+                return hour;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,25 @@
+package edu.ucalgary.oop.Schedule;
+
+/**
+ * Resolves scheduling conflicts without user interaction by always calling in a backup volunteer. When no hour
+ * in the item's window can take a volunteer, the item is moved to the earliest free hour of the day.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class AutoVolunteerPolicy implements ConflictPolicy {
+
+    @Override
+    public boolean approveVolunteer(int volunteerHour, Item item) {
+        return true;
+    }
+
+    @Override
+    public int chooseStartHour(Item item, int[] freeHours) {
+        return freeHours.length > 0 ? freeHours[0] : -1;
+    }
+}
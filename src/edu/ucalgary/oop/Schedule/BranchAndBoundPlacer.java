@@ -0,0 +1,241 @@
+package edu.ucalgary.oop.Schedule;
+
+import java.util.*;
+
+/**
+ * Places a list of items into a {@link CapacityTimeline} while minimizing the number of hours that need a
+ * backup volunteer. Unlike the greedy first-fit used by {@link Schedule#addItem(Item)}, this engine searches
+ * the possible placements with branch-and-bound, so it can find placements where an earlier item moves to a
+ * later hour to leave room for a more constrained one.
+ * <p>
+ * Items are searched most constrained first (smallest window, then longest duration). For each item the search
+ * tries every hour of its window without a volunteer, then every hour where adding a volunteer makes it fit,
+ * and finally leaving the item unplaced. Within an hour the item goes to the staff lane that fits it most
+ * tightly; lanes of the same hour are not branched on, since the people working an hour are interchangeable. Leaving an item out always costs more than any number of volunteers,
+ * and any branch that cannot beat the best placement found so far is pruned. The first complete placement the
+ * search reaches is the greedy one, so a result is always available; after that the search keeps improving on
+ * it until it finishes or the time budget runs out.
+ * </p>
+ * <p>
+ * Feeding items may share a food-prep cost with other feedings of the same species placed in the same hour.
+ * The prep cost is only charged to the first feeding of a species in each hour, which is tracked with one bit
+ * per species in a per-hour mask, starting from the species the timeline already has prepared.
+ * </p>
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class BranchAndBoundPlacer implements PlacementEngine {
+    private static final int CHECK_INTERVAL = 1024; // Number of search steps between deadline checks.
+
+    private final long timeBudgetNanos;
+
+    /**
+     * Constructs a placer that searches for at most the given amount of time.
+     *
+     * @param timeBudgetMillis The time budget in milliseconds. Must be non-negative.
+     * @throws IllegalArgumentException if the time budget is negative.
+     */
+    public BranchAndBoundPlacer(long timeBudgetMillis) {
+        if (timeBudgetMillis < 0) {
+            throw new IllegalArgumentException("Time budget must be non-negative.");
+        }
+        this.timeBudgetNanos = timeBudgetMillis * 1_000_000L;
+    }
+
+    /**
+     * Searches for the placement of the items that needs the fewest backup volunteers. The timeline is only
+     * read; applying the result is left to the caller.
+     *
+     * @return The best placement found within the time budget.
+     */
+    @Override
+    public PlacementResult place(ItemStore items, int[] prepGroups, int[] prepMinutes, CapacityTimeline timeline) {
+        int n = items.size();
+        if (prepGroups.length != n || prepMinutes.length != n) {
+            throw new IllegalArgumentException("Prep groups and minutes must have one entry per item.");
+        }
+        long started = System.nanoTime();
+        long deadline = started + timeBudgetNanos;
+
+        // Copy the timeline into local arrays so the search can apply and undo placements freely.
+        int firstHour = timeline.getFirstHour();
+        int span = timeline.getHours();
+        int laneStride = timeline.getMaxLanes();
+        int[] laneFree = new int[span * laneStride]; // Free minutes of lane l of hour h at h * laneStride + l.
+        int[] lanes = new int[span];
+        boolean[] volunteer = new boolean[span];
+        long[] mask = new long[span];
+        for (int h = 0; h < span; h++) {
+            lanes[h] = timeline.getLanes(firstHour + h);
+            volunteer[h] = timeline.hasVolunteer(firstHour + h);
+            mask[h] = timeline.getPreparedMask(firstHour + h);
+            for (int lane = 0; lane < lanes[h]; lane++) {
+                laneFree[h * laneStride + lane] = timeline.getLaneFree(firstHour + h, lane);
+            }
+        }
+
+        int[] start = new int[n];
+        int[] window = new int[n];
+        int[] duration = new int[n];
+        Integer[] sorted = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            start[i] = items.getAbsoluteStartHour(i) - firstHour;
+            window[i] = items.getMaxWindow(i);
+            duration[i] = items.getDuration(i);
+            sorted[i] = i;
+        }
+        Arrays.sort(sorted, Comparator.<Integer>comparingInt(i -> window[i]).thenComparingInt(i -> -duration[i]));
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = sorted[i];
+        }
+
+        // Leaving an item out must cost more than a volunteer in every hour of the timeline.
+        int unplacedPenalty = span + 1;
+
+        int[] cursor = new int[n + 1];  // Next option to try at each depth.
+        int[] hourAt = new int[n];      // Timeline slot chosen at each depth, or -1 for unplaced.
+        int[] laneAt = new int[n];      // Lane of that slot the item was given at each depth.
+        int[] usedAt = new int[n];      // Minutes reserved at each depth.
+        boolean[] volunteerAt = new boolean[n];
+        boolean[] prepSetAt = new boolean[n];
+
+        int[] bestHours = new int[n];
+        int[] bestLanes = new int[n];
+        boolean[] bestVolunteers = new boolean[n];
+        int best = Integer.MAX_VALUE;
+        int cost = 0;
+        int depth = 0;
+        long steps = 0;
+        boolean exhausted = true;
+
+        while (true) {
+            if (++steps % CHECK_INTERVAL == 0 && best != Integer.MAX_VALUE && System.nanoTime() > deadline) {
+                exhausted = false;
+                break;
+            }
+            if (depth == n) {
+                if (cost < best) {
+                    best = cost;
+                    for (int d = 0; d < n; d++) {
+                        int i = order[d];
+                        bestHours[i] = hourAt[d] < 0 ? -1 : firstHour + hourAt[d];
+                        bestLanes[i] = hourAt[d] < 0 ? -1 : laneAt[d];
+                        bestVolunteers[i] = volunteerAt[d];
+                    }
+                }
+                if (depth == 0) {
+                    break;
+                }
+                depth--;
+                cost -= undo(depth, laneFree, laneStride, lanes, volunteer, mask, hourAt, laneAt, usedAt, volunteerAt,
+                        prepSetAt, prepGroups[order[depth]], unplacedPenalty);
+                continue;
+            }
+
+            int i = order[depth];
+            int w = window[i];
+            boolean advanced = false;
+            while (cursor[depth] <= 2 * w) {
+                int option = cursor[depth]++;
+                if (option == 2 * w) {
+                    if (cost + unplacedPenalty < best) {
+                        hourAt[depth] = -1;
+                        cost += unplacedPenalty;
+                        advanced = true;
+                    }
+                    break;
+                }
+                boolean withVolunteer = option >= w;
+                int h = start[i] + (withVolunteer ? option - w : option);
+                if (h < 0 || h >= span) {
+                    continue;
+                }
+                int group = prepGroups[i];
+                boolean newPrep = group >= 0 && (mask[h] & (1L << group)) == 0;
+                int need = duration[i] + (newPrep ? prepMinutes[i] : 0);
+                int lane = bestLane(laneFree, h * laneStride, lanes[h], need);
+                if (!withVolunteer) {
+                    if (lane < 0 || cost >= best) {
+                        continue;
+                    }
+                } else {
+                    // A volunteer is only worth trying where the item would not fit without one.
+                    if (volunteer[h] || lane >= 0 || need > CapacityTimeline.MINUTES_PER_HOUR || cost + 1 >= best) {
+                        continue;
+                    }
+                    lane = lanes[h]++;
+                    laneFree[h * laneStride + lane] = CapacityTimeline.MINUTES_PER_HOUR;
+                    volunteer[h] = true;
+                    cost += 1;
+                }
+                laneFree[h * laneStride + lane] -= need;
+                if (newPrep) {
+                    mask[h] |= 1L << group;
+                }
+                hourAt[depth] = h;
+                laneAt[depth] = lane;
+                usedAt[depth] = need;
+                volunteerAt[depth] = withVolunteer;
+                prepSetAt[depth] = newPrep;
+                advanced = true;
+                break;
+            }
+
+            if (advanced) {
+                depth++;
+                if (depth < n) {
+                    cursor[depth] = 0;
+                }
+                continue;
+            }
+            if (depth == 0) {
+                break;
+            }
+            depth--;
+            cost -= undo(depth, laneFree, laneStride, lanes, volunteer, mask, hourAt, laneAt, usedAt, volunteerAt,
+                    prepSetAt, prepGroups[order[depth]], unplacedPenalty);
+        }
+
+        return new PlacementResult(bestHours, bestLanes, bestVolunteers, order, exhausted,
+                System.nanoTime() - started);
+    }
+
+    // Helper method to find the lane with the least free time that still fits the minutes, or -1 if none does.
+    private int bestLane(int[] laneFree, int base, int lanes, int minutes) {
+        int best = -1;
+        for (int lane = 0; lane < lanes; lane++) {
+            int free = laneFree[base + lane];
+            if (free >= minutes && (best < 0 || free < laneFree[base + best])) {
+                best = lane;
+            }
+        }
+        return best;
+    }
+
+    // Helper method to undo the choice made at a depth, returning the cost it had added.
+    private int undo(int depth, int[] laneFree, int laneStride, int[] lanes, boolean[] volunteer, long[] mask,
+                     int[] hourAt, int[] laneAt, int[] usedAt, boolean[] volunteerAt, boolean[] prepSetAt, int group,
+                     int unplacedPenalty) {
+        int h = hourAt[depth];
+        if (h < 0) {
+            return unplacedPenalty;
+        }
+        laneFree[h * laneStride + laneAt[depth]] += usedAt[depth];
+        if (prepSetAt[depth]) {
+            mask[h] &= ~(1L << group);
+        }
+        if (volunteerAt[depth]) {
+            laneFree[h * laneStride + laneAt[depth]] = 0;
+            lanes[h]--;
+            volunteer[h] = false;
+            return 1;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,603 @@
+package edu.ucalgary.oop.Schedule;
+
+import java.util.Arrays;
+
+/**
+ * Tracks how many staff minutes are still free in every hour of the schedule. Each hour is split into lanes,
+ * one per person working it, and every lane holds {@link #MINUTES_PER_HOUR} minutes. A task is always reserved
+ * in a single lane, since one person does it from start to finish, so a task fits an hour when some lane has
+ * enough free minutes, not merely when the hour does in total. The lanes are stored in flat primitive arrays so
+ * that slot searches never box an hour or a minute count.
+ * <p>
+ * The number of staff lanes of each hour comes from a {@link StaffRoster}. Adding a backup volunteer opens one
+ * more lane in that hour, which can be closed again once nothing is reserved in it, and placing a task reserves
+ * minutes from the lane that fits it most tightly. Hours outside of the timeline are treated as having no capacity
+ * at all.
+ * </p>
+ * <p>
+ * Hours are absolute, counted from midnight of day 0, so a window starting at hour 22 with a length of 5 simply
+ * runs into hours 24 to 26 of the next day. The arrays are used as a ring buffer: {@link #advance(int)} retires
+ * the oldest hours and reuses their slots for the hours just past the end of the timeline, so a planning
+ * horizon can roll forward day by day without rebuilding the hours that are already planned.
+ * </p>
+ * <p>
+ * Two segment trees are kept over the ring slots, one holding the largest free time of any single lane and one
+ * holding the smallest number of volunteers in each range of hours. Searching a window for the earliest hour that
+ * fits a task, or the earliest hour without a volunteer, descends only into the branches that can contain an
+ * answer, so both searches take O(log n) time however long the window is. Every reservation, release or volunteer
+ * updates one leaf and its ancestors.
+ * </p>
+ * <p>
+ * Each hour also carries a bitmask of the species whose food has already been prepared in it, with one bit per
+ * species as assigned by the {@link SpeciesRegistry}, so that the prep cost is only charged once per hour.
+ * </p>
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class CapacityTimeline {
+    public static final int MINUTES_PER_HOUR = 60;
+
+    private final StaffRoster roster;
+    private final int lanesPerSlot; // Most lanes any hour can have: the most staff a roster allows plus a volunteer.
+    private final int[] laneFree;   // Free minutes of lane l of slot i, at index i * lanesPerSlot + l.
+    private final int[] remaining;  // Free minutes left in each hour, summed over its lanes.
+    private final int[] staff;      // Rostered staff lanes of each hour.
+    private final int[] volunteers; // Backup volunteer lanes added to each hour, at most one.
+    private final long[] prepared;  // Species whose food has been prepared in each hour, one bit per species.
+    private int firstHour = 0;      // Absolute hour held by the oldest slot of the ring.
+
+    // Segment trees over the slots. Node 1 is the root, and the leaf of slot i is node leaves + i.
+    private final int leaves;
+    private final int[] maxLaneFree;   // Largest free time of any lane of any slot under each node.
+    private final int[] minVolunteers; // Smallest volunteer count of any slot under each node.
+
+    /**
+     * Creates a timeline of the given number of hours, each worked by one staff member.
+     *
+     * @param hours The number of hours covered by the timeline. Must be positive.
+     * @throws IllegalArgumentException if {@code hours} is not positive.
+     */
+    public CapacityTimeline(int hours) {
+        this(hours, new StaffRoster());
+    }
+
+    /**
+     * Creates a timeline of the given number of hours, each with one free lane per staff member on the roster.
+     *
+     * @param hours The number of hours covered by the timeline. Must be positive.
+     * @param roster The staff on shift in each hour of the day. Hours that come into the timeline as it advances
+     *               are staffed from the roster as it is at that time.
+     * @throws IllegalArgumentException if {@code hours} is not positive or the roster is null.
+     */
+    public CapacityTimeline(int hours, StaffRoster roster) {
+        if (hours <= 0) {
+            throw new IllegalArgumentException("Timeline must cover at least one hour.");
+        }
+        if (roster == null) {
+            throw new IllegalArgumentException("Staff roster cannot be null.");
+        }
+        this.roster = roster;
+        this.lanesPerSlot = StaffRoster.MAX_STAFF + 1;
+        this.laneFree = new int[hours * lanesPerSlot];
+        this.remaining = new int[hours];
+        this.staff = new int[hours];
+        this.volunteers = new int[hours];
+        this.prepared = new long[hours];
+
+        int size = 1;
+        while (size < hours) {
+            size <<= 1;
+        }
+        this.leaves = size;
+        this.maxLaneFree = new int[2 * size];
+        this.minVolunteers = new int[2 * size];
+        // Padding leaves past the last slot can never fit a task or take a volunteer.
+        Arrays.fill(maxLaneFree, size, 2 * size, -1);
+        Arrays.fill(minVolunteers, size, 2 * size, Integer.MAX_VALUE);
+        for (int hour = 0; hour < hours; hour++) {
+            reset(hour, hour);
+        }
+        for (int node = size - 1; node >= 1; node--) {
+            pull(node);
+        }
+    }
+
+    /**
+     * Creates an independent copy of this timeline, covering the same hours with the same reservations and
+     * volunteers. Placement engines use copies to try placements without changing the schedule.
+     *
+     * @return A copy of this timeline.
+     */
+    public CapacityTimeline copy() {
+        CapacityTimeline copy = new CapacityTimeline(remaining.length, roster);
+        System.arraycopy(laneFree, 0, copy.laneFree, 0, laneFree.length);
+        System.arraycopy(remaining, 0, copy.remaining, 0, remaining.length);
+        System.arraycopy(staff, 0, copy.staff, 0, staff.length);
+        System.arraycopy(volunteers, 0, copy.volunteers, 0, volunteers.length);
+        System.arraycopy(prepared, 0, copy.prepared, 0, prepared.length);
+        System.arraycopy(maxLaneFree, 0, copy.maxLaneFree, 0, maxLaneFree.length);
+        System.arraycopy(minVolunteers, 0, copy.minVolunteers, 0, minVolunteers.length);
+        copy.firstHour = firstHour;
+        return copy;
+    }
+
+    /**
+     * Returns the number of hours covered by this timeline.
+     *
+     * @return The length of the timeline in hours.
+     */
+    public int getHours() {
+        return remaining.length;
+    }
+
+    /**
+     * Returns the first absolute hour still covered by this timeline.
+     *
+     * @return The oldest hour that has not been retired.
+     */
+    public int getFirstHour() {
+        return firstHour;
+    }
+
+    /**
+     * Returns the absolute hour just past the end of this timeline.
+     *
+     * @return The first hour that is not yet covered.
+     */
+    public int getEndHour() {
+        return firstHour + remaining.length;
+    }
+
+    /**
+     * Returns the most lanes any hour of this timeline can have, counting a volunteer.
+     *
+     * @return The upper bound on {@link #getLanes(int)}.
+     */
+    public int getMaxLanes() {
+        return lanesPerSlot;
+    }
+
+    /**
+     * Retires the oldest hours of the timeline and reuses their slots, fully free and staffed from the roster,
+     * for the same number of hours past the current end. Hours that are still covered keep their reservations
+     * and volunteers.
+     *
+     * @param hours The number of hours to roll the timeline forward by. Must not be negative.
+     * @throws IllegalArgumentException if {@code hours} is negative.
+     */
+    public void advance(int hours) {
+        if (hours < 0) {
+            throw new IllegalArgumentException("Timeline cannot move backwards.");
+        }
+        int newFirstHour = firstHour + hours;
+        int reset = Math.min(hours, remaining.length);
+        for (int i = 0; i < reset; i++) {
+            int hour = newFirstHour + remaining.length - reset + i;
+            int slot = slot(hour);
+            reset(slot, hour);
+            update(slot);
+        }
+        firstHour = newFirstHour;
+    }
+
+    /**
+     * Returns the free minutes left in an hour, summed over all of its lanes.
+     *
+     * @param hour The hour to look up.
+     * @return The free minutes, or 0 if the hour is outside the timeline.
+     */
+    public int getRemaining(int hour) {
+        return contains(hour) ? remaining[slot(hour)] : 0;
+    }
+
+    /**
+     * Returns the maximum minutes available in an hour, including any volunteer time added to it.
+     *
+     * @param hour The hour to look up.
+     * @return The capacity in minutes, or 0 if the hour is outside the timeline.
+     */
+    public int getCapacity(int hour) {
+        return getLanes(hour) * MINUTES_PER_HOUR;
+    }
+
+    /**
+     * Returns the number of people working an hour, staff and volunteer alike.
+     *
+     * @param hour The hour to look up.
+     * @return The number of lanes, or 0 if the hour is outside the timeline.
+     */
+    public int getLanes(int hour) {
+        if (!contains(hour)) {
+            return 0;
+        }
+        int slot = slot(hour);
+        return staff[slot] + volunteers[slot];
+    }
+
+    /**
+     * Returns the number of rostered staff working an hour, not counting a volunteer.
+     *
+     * @param hour The hour to look up.
+     * @return The number of staff lanes, or 0 if the hour is outside the timeline.
+     */
+    public int getStaff(int hour) {
+        return contains(hour) ? staff[slot(hour)] : 0;
+    }
+
+    /**
+     * Returns the free minutes one person has left in an hour. Staff lanes come first, then the volunteer's.
+     *
+     * @param hour The hour to look up.
+     * @param lane The lane of the person, from 0 to {@code getLanes(hour) - 1}.
+     * @return The free minutes, or 0 if the hour or lane does not exist.
+     */
+    public int getLaneFree(int hour, int lane) {
+        if (lane < 0 || lane >= getLanes(hour)) {
+            return 0;
+        }
+        return laneFree[slot(hour) * lanesPerSlot + lane];
+    }
+
+    /**
+     * Returns the most free minutes any single person has left in an hour, which is the longest task it can take.
+     *
+     * @param hour The hour to look up.
+     * @return The largest free time of a lane, or 0 if the hour is outside the timeline or has no lanes.
+     */
+    public int getLargestFree(int hour) {
+        return contains(hour) ? Math.max(maxLaneFree[leaves + slot(hour)], 0) : 0;
+    }
+
+    /**
+     * Checks whether a task of the given length fits in one lane of an hour.
+     *
+     * @param hour The hour to check.
+     * @param minutes The length of the task.
+     * @return true if some person working the hour has that many minutes free.
+     */
+    public boolean fits(int hour, int minutes) {
+        return getLanes(hour) > 0 && getLargestFree(hour) >= minutes;
+    }
+
+    /**
+     * Checks whether a backup volunteer has been added to an hour.
+     *
+     * @param hour The hour to check.
+     * @return true if the hour has a volunteer.
+     */
+    public boolean hasVolunteer(int hour) {
+        return contains(hour) && volunteers[slot(hour)] > 0;
+    }
+
+    /**
+     * Finds the first hour in {@code [startHour, startHour + window)} where one person has at least
+     * {@code minutes} free.
+     *
+     * @param startHour The first hour of the window.
+     * @param window The number of hours in the window.
+     * @param minutes The number of free minutes required.
+     * @return The earliest fitting hour, or -1 if no hour in the window fits.
+     */
+    public int firstFit(int startHour, int window, int minutes) {
+        return firstMatch(startHour, window, true, minutes);
+    }
+
+    /**
+     * Finds the first hour in {@code [startHour, startHour + window)} that no backup volunteer has been added to.
+     *
+     * @param startHour The first hour of the window.
+     * @param window The number of hours in the window.
+     * @return The earliest hour without a volunteer, or -1 if every hour in the window already has one.
+     */
+    public int firstHourWithoutVolunteer(int startHour, int window) {
+        return firstMatch(startHour, window, false, 0);
+    }
+
+    /**
+     * Returns the most free minutes any one person has in any hour of {@code [startHour, startHour + window)}.
+     *
+     * @param startHour The first hour of the window.
+     * @param window The number of hours in the window.
+     * @return The largest free time of a single lane in the window, or 0 if the window is outside the timeline.
+     */
+    public int maxRemaining(int startHour, int window) {
+        int from = Math.max(startHour, firstHour);
+        int to = Math.min(startHour + window, getEndHour());
+        if (from >= to) {
+            return 0;
+        }
+        int first = slot(from);
+        int last = slot(to - 1);
+        if (first <= last) {
+            return Math.max(queryMax(first, last + 1), 0);
+        }
+        return Math.max(Math.max(queryMax(first, remaining.length), queryMax(0, last + 1)), 0);
+    }
+
+    /**
+     * Reserves minutes from an hour if one person has enough of them free.
+     *
+     * @param hour The hour to reserve from.
+     * @param minutes The number of minutes to reserve.
+     * @return true if the minutes were reserved, false if no lane of the hour has enough free time.
+     */
+    public boolean reserve(int hour, int minutes) {
+        return reserveLane(hour, minutes) >= 0;
+    }
+
+    /**
+     * Reserves minutes from the lane of an hour that fits them most tightly, keeping longer free stretches in
+     * other lanes for longer tasks.
+     *
+     * @param hour The hour to reserve from.
+     * @param minutes The number of minutes to reserve.
+     * @return The lane the minutes were reserved in, or -1 if no lane has enough free time.
+     */
+    public int reserveLane(int hour, int minutes) {
+        int lanes = getLanes(hour);
+        int base = lanes > 0 ? slot(hour) * lanesPerSlot : 0;
+        int best = -1;
+        for (int lane = 0; lane < lanes; lane++) {
+            int free = laneFree[base + lane];
+            if (free >= minutes && (best < 0 || free < laneFree[base + best])) {
+                best = lane;
+            }
+        }
+        if (best >= 0) {
+            reserveInLane(hour, best, minutes);
+        }
+        return best;
+    }
+
+    /**
+     * Reserves minutes from a particular lane of an hour if it has enough of them free.
+     *
+     * @param hour The hour to reserve from.
+     * @param lane The lane to reserve in.
+     * @param minutes The number of minutes to reserve.
+     * @return true if the minutes were reserved.
+     */
+    public boolean reserveInLane(int hour, int lane, int minutes) {
+        if (lane < 0 || lane >= getLanes(hour) || getLaneFree(hour, lane) < minutes) {
+            return false;
+        }
+        int slot = slot(hour);
+        laneFree[slot * lanesPerSlot + lane] -= minutes;
+        remaining[slot] -= minutes;
+        update(slot);
+        return true;
+    }
+
+    /**
+     * Returns previously reserved minutes to an hour, filling its lanes in order without exceeding any of them.
+     *
+     * @param hour The hour to release minutes into.
+     * @param minutes The number of minutes to release.
+     */
+    public void release(int hour, int minutes) {
+        for (int lane = 0; lane < getLanes(hour) && minutes > 0; lane++) {
+            int give = Math.min(minutes, MINUTES_PER_HOUR - getLaneFree(hour, lane));
+            release(hour, lane, give);
+            minutes -= give;
+        }
+    }
+
+    /**
+     * Returns previously reserved minutes to a lane of an hour.
+     *
+     * @param hour The hour to release minutes into.
+     * @param lane The lane the minutes were reserved in.
+     * @param minutes The number of minutes to release.
+     */
+    public void release(int hour, int lane, int minutes) {
+        if (lane < 0 || lane >= getLanes(hour)) {
+            return;
+        }
+        int slot = slot(hour);
+        int index = slot * lanesPerSlot + lane;
+        int give = Math.min(minutes, MINUTES_PER_HOUR - laneFree[index]);
+        laneFree[index] += give;
+        remaining[slot] += give;
+        update(slot);
+    }
+
+    /**
+     * Adds a backup volunteer to an hour, opening a lane of one hour of work after the staff lanes. An hour
+     * takes at most one volunteer.
+     *
+     * @param hour The hour receiving the volunteer.
+     */
+    public void addVolunteer(int hour) {
+        if (contains(hour) && volunteers[slot(hour)] == 0) {
+            int slot = slot(hour);
+            laneFree[slot * lanesPerSlot + staff[slot]] = MINUTES_PER_HOUR;
+            volunteers[slot] = 1;
+            remaining[slot] += MINUTES_PER_HOUR;
+            update(slot);
+        }
+    }
+
+    /**
+     * Removes the backup volunteer of an hour, closing their lane. A volunteer is only removed once none of their
+     * minutes are reserved, so no placed task loses its lane.
+     *
+     * @param hour The hour losing the volunteer.
+     * @return true if the volunteer was removed, false if the hour has none or their lane is still in use.
+     */
+    public boolean removeVolunteer(int hour) {
+        if (!hasVolunteer(hour)) {
+            return false;
+        }
+        int slot = slot(hour);
+        int index = slot * lanesPerSlot + staff[slot];
+        if (laneFree[index] < MINUTES_PER_HOUR) {
+            return false;
+        }
+        laneFree[index] = 0;
+        volunteers[slot] = 0;
+        remaining[slot] -= MINUTES_PER_HOUR;
+        update(slot);
+        return true;
+    }
+
+    /**
+     * Returns the species whose food has already been prepared in an hour.
+     *
+     * @param hour The hour to look up.
+     * @return A mask with the bit of every prepared species set, or 0 if the hour is outside the timeline.
+     */
+    public long getPreparedMask(int hour) {
+        return contains(hour) ? prepared[slot(hour)] : 0L;
+    }
+
+    /**
+     * Checks whether a species' food has already been prepared in an hour.
+     *
+     * @param hour The hour to check.
+     * @param species The species bit, between 0 and 63.
+     * @return true if the prep for that species has been done in the hour.
+     */
+    public boolean isPrepared(int hour, int species) {
+        return (getPreparedMask(hour) & (1L << species)) != 0;
+    }
+
+    /**
+     * Records that a species' food has been prepared in an hour, so later feedings there share the prep.
+     *
+     * @param hour The hour the food was prepared in.
+     * @param species The species bit, between 0 and 63.
+     */
+    public void markPrepared(int hour, int species) {
+        if (contains(hour)) {
+            prepared[slot(hour)] |= 1L << species;
+        }
+    }
+
+    /**
+     * Forgets the food prepared in an hour, after the feedings it was prepared for have been released.
+     *
+     * @param hour The hour to clear.
+     */
+    public void clearPrepared(int hour) {
+        if (contains(hour)) {
+            prepared[slot(hour)] = 0L;
+        }
+    }
+
+    /**
+     * Checks whether an hour has had none of its minutes reserved.
+     *
+     * @param hour The hour to check.
+     * @return true if the hour is inside the timeline, has someone working it, and is completely free.
+     */
+    public boolean isFree(int hour) {
+        return getLanes(hour) > 0 && getRemaining(hour) == getCapacity(hour);
+    }
+
+    // Helper method to check that an hour falls inside the timeline.
+    private boolean contains(int hour) {
+        return hour >= firstHour && hour < getEndHour();
+    }
+
+    // Helper method to map an absolute hour onto its slot in the ring.
+    private int slot(int hour) {
+        return hour % remaining.length;
+    }
+
+    // Helper method to give a slot the rostered staff of an hour, all free, with no volunteer or food prep.
+    // Only the slot's leaf is set; the caller refreshes the trees.
+    private void reset(int slot, int hour) {
+        int count = roster.getStaff(hour);
+        int base = slot * lanesPerSlot;
+        Arrays.fill(laneFree, base, base + lanesPerSlot, 0);
+        Arrays.fill(laneFree, base, base + count, MINUTES_PER_HOUR);
+        staff[slot] = count;
+        volunteers[slot] = 0;
+        remaining[slot] = count * MINUTES_PER_HOUR;
+        prepared[slot] = 0L;
+        maxLaneFree[leaves + slot] = count > 0 ? MINUTES_PER_HOUR : 0;
+        minVolunteers[leaves + slot] = 0;
+    }
+
+    // Helper method to find the first absolute hour of a window with a lane that has enough free time
+    // (byRemaining) or with no more volunteers than the value (otherwise). A window that wraps around the ring is
+    // searched in two parts.
+    private int firstMatch(int startHour, int window, boolean byRemaining, int value) {
+        int from = Math.max(startHour, firstHour);
+        int to = Math.min(startHour + window, getEndHour());
+        if (from >= to) {
+            return -1;
+        }
+        int first = slot(from);
+        int last = slot(to - 1);
+        if (first <= last) {
+            int found = descend(1, 0, leaves, first, last + 1, byRemaining, value);
+            return found < 0 ? -1 : from + (found - first);
+        }
+        int found = descend(1, 0, leaves, first, remaining.length, byRemaining, value);
+        if (found >= 0) {
+            return from + (found - first);
+        }
+        found = descend(1, 0, leaves, 0, last + 1, byRemaining, value);
+        return found < 0 ? -1 : from + (remaining.length - first) + found;
+    }
+
+    // Helper method to find the leftmost slot in [lo, hi) under a node covering [nodeLo, nodeHi) that matches.
+    private int descend(int node, int nodeLo, int nodeHi, int lo, int hi, boolean byRemaining, int value) {
+        if (nodeHi <= lo || hi <= nodeLo) {
+            return -1;
+        }
+        if (byRemaining ? maxLaneFree[node] < value : minVolunteers[node] > value) {
+            return -1;
+        }
+        if (node >= leaves) {
+            if (byRemaining && staff[node - leaves] + volunteers[node - leaves] == 0) {
+                return -1; // An hour nobody works cannot take even a task of no minutes.
+            }
+            return node - leaves;
+        }
+        int mid = (nodeLo + nodeHi) >>> 1;
+        int found = descend(2 * node, nodeLo, mid, lo, hi, byRemaining, value);
+        return found >= 0 ? found : descend(2 * node + 1, mid, nodeHi, lo, hi, byRemaining, value);
+    }
+
+    // Helper method to find the largest lane free time of the slots in [lo, hi).
+    private int queryMax(int lo, int hi) {
+        int best = -1;
+        for (int l = lo + leaves, r = hi + leaves; l < r; l >>= 1, r >>= 1) {
+            if ((l & 1) == 1) {
+                best = Math.max(best, maxLaneFree[l++]);
+            }
+            if ((r & 1) == 1) {
+                best = Math.max(best, maxLaneFree[--r]);
+            }
+        }
+        return best;
+    }
+
+    // Helper method to refresh a slot's leaf and every ancestor after its lanes or volunteers changed.
+    private void update(int slot) {
+        int node = slot + leaves;
+        int lanes = staff[slot] + volunteers[slot];
+        int largest = 0;
+        for (int lane = 0; lane < lanes; lane++) {
+            largest = Math.max(largest, laneFree[slot * lanesPerSlot + lane]);
+        }
+        maxLaneFree[node] = largest;
+        minVolunteers[node] = volunteers[slot];
+        for (node >>= 1; node >= 1; node >>= 1) {
+            pull(node);
+        }
+    }
+
+    // Helper method to recompute an internal node from its two children.
+    private void pull(int node) {
+        maxLaneFree[node] = Math.max(maxLaneFree[2 * node], maxLaneFree[2 * node + 1]);
+        minVolunteers[node] = Math.min(minVolunteers[2 * node], minVolunteers[2 * node + 1]);
+    }
+}
@@ -0,0 +1,48 @@
+package edu.ucalgary.oop.Schedule;
+
+/**
+ * Decides how the {@link Schedule} resolves an item that does not fit in its window. When an item cannot be
+ * placed, the schedule first looks for an hour in the item's window that could take a backup volunteer and asks
+ * the policy whether to add one. If no volunteer is added, the policy is asked to pick a new start hour instead.
+ * Before a day is placed, the policy is also shown the day's {@link FeasibilityReport}, so every problem that is
+ * certain to come up can be reviewed at once.
+ * <p>
+ * Implementations may prompt a user, as {@link SwingConflictPolicy} does, or resolve conflicts without any
+ * interaction so that schedules can be created unattended.
+ * </p>
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public interface ConflictPolicy {
+
+    /**
+     * Decides whether a backup volunteer should be added so that an item can be scheduled.
+     *
+     * @param volunteerHour The hour in the item's window that the volunteer would cover.
+     * @param item The item that could not be scheduled.
+     * @return true to add the volunteer and schedule the item in that hour, false to reschedule the item instead.
+     */
+    boolean approveVolunteer(int volunteerHour, Item item);
+
+    /**
+     * Chooses a new start hour for an item that could not be scheduled in its window.
+     *
+     * @param item The item that needs to be rescheduled.
+     * @param freeHours The hours that have not had any time reserved yet, in ascending order.
+     * @return One of {@code freeHours}, or -1 to leave the item unscheduled.
+     */
+    int chooseStartHour(Item item, int[] freeHours);
+
+    /**
+     * Reviews the feasibility analysis of a day's items before any of them are placed. Does nothing by default.
+     *
+     * @param report The findings of the analysis.
+     */
+    default void reviewFeasibility(FeasibilityReport report) {
+    }
+}
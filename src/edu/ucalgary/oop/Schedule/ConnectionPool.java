@@ -0,0 +1,341 @@
+package edu.ucalgary.oop.Schedule;
+
+import java.lang.reflect.*;
+import java.sql.*;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A small pool of database connections shared by everything that reads from or writes to one shelter's database,
+ * so that planners and rescheduling writes reuse open connections instead of connecting for every operation.
+ * <p>
+ * At most a fixed number of connections are open at once; a borrower waits for one to be returned when they are
+ * all in use, and gives up with an SQLException after the borrow timeout. Idle connections are checked with
+ * {@link Connection#isValid(int)} before they are handed out, and ones left idle longer than the idle timeout are
+ * closed the next time the pool is used. Borrowed connections are returned by closing them, so they work with
+ * try-with-resources like connections from the driver.
+ * </p>
+ * <p>
+ * The pool records how long each borrow took, including any wait for a connection to be returned or opened, so
+ * a pool that is too small for its load shows up as a growing average borrow time.
+ * </p>
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class ConnectionPool implements AutoCloseable {
+    public static final int DEFAULT_MAX_SIZE = 4;
+    public static final long DEFAULT_IDLE_TIMEOUT_MILLIS = 5 * 60 * 1000;
+    public static final long DEFAULT_BORROW_TIMEOUT_MILLIS = 30 * 1000;
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    /**
+     * Opens a new physical connection for the pool.
+     */
+    public interface ConnectionFactory {
+        Connection open() throws SQLException;
+    }
+
+    // A connection waiting in the pool, with the time it was returned.
+    private static class IdleConnection {
+        final Connection connection;
+        final long returnedAt;
+
+        IdleConnection(Connection connection, long returnedAt) {
+            this.connection = connection;
+            this.returnedAt = returnedAt;
+        }
+    }
+
+    private final ConnectionFactory factory;
+    private final int maxSize;
+    private final long idleTimeoutNanos;
+    private final long borrowTimeoutNanos;
+
+    // Guarded by this pool. Idle connections are kept oldest first and handed out newest first.
+    private final ArrayDeque<IdleConnection> idle = new ArrayDeque<>();
+    private int openCount = 0;  // Idle plus borrowed connections, including ones still being opened.
+    private boolean closed = false;
+    private long borrowCount = 0;
+    private long totalBorrowNanos = 0;
+    private long maxBorrowNanos = 0;
+
+    // Held by an import while it borrows several connections at once, so imports through this pool take turns
+    // rather than each holding part of the connections another one is waiting for.
+    final Object importLock = new Object();
+
+    /**
+     * Constructs a pool of connections to the database at a JDBC URL, with the default size and timeouts.
+     *
+     * @param url The JDBC URL of the database.
+     * @param username The database username.
+     * @param password The database password.
+     */
+    public ConnectionPool(String url, String username, String password) {
+        this(() -> DriverManager.getConnection(url, username, password), DEFAULT_MAX_SIZE,
+                DEFAULT_IDLE_TIMEOUT_MILLIS, DEFAULT_BORROW_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Constructs a pool that opens its connections with a factory.
+     *
+     * @param factory Opens each new connection. Cannot be null.
+     * @param maxSize The most connections open at once. Must be positive.
+     * @param idleTimeoutMillis How long a connection may stay idle before it is closed. Must be non-negative.
+     * @param borrowTimeoutMillis How long a borrower waits for a connection. Must be non-negative.
+     * @throws IllegalArgumentException if the factory is null or a limit is out of range.
+     */
+    public ConnectionPool(ConnectionFactory factory, int maxSize, long idleTimeoutMillis, long borrowTimeoutMillis) {
+        if (factory == null) {
+            throw new IllegalArgumentException("Connection factory cannot be null.");
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Pool size must be positive.");
+        }
+        if (idleTimeoutMillis < 0 || borrowTimeoutMillis < 0) {
+            throw new IllegalArgumentException("Timeouts must be non-negative.");
+        }
+        this.factory = factory;
+        this.maxSize = maxSize;
+        this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+        this.borrowTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(borrowTimeoutMillis);
+    }
+
+    /**
+     * Borrows a connection, reusing a valid idle one if there is one and opening a new one otherwise. Closing the
+     * returned connection gives it back to the pool.
+     *
+     * @return A connection for the caller's exclusive use until it is closed.
+     * @throws SQLException if the pool is closed, no connection is returned in time, or a new connection fails.
+     */
+    public Connection borrow() throws SQLException {
+        long started = System.nanoTime();
+        long deadline = started + borrowTimeoutNanos;
+        Connection connection = null;
+        while (connection == null) {
+            Connection candidate = null;
+            ArrayList<Connection> expired = new ArrayList<>();
+            synchronized (this) {
+                while (candidate == null) {
+                    if (closed) {
+                        throw new SQLException("Connection pool is closed.");
+                    }
+                    evictIdle(System.nanoTime(), expired);
+                    if (!idle.isEmpty()) {
+                        candidate = idle.pollLast().connection;
+                    } else if (openCount < maxSize) {
+                        openCount++;
+                        break;
+                    } else {
+                        awaitReturn(deadline);
+                    }
+                }
+            }
+            closeQuietly(expired);
+
+            if (candidate == null) {
+                try {
+                    connection = factory.open();
+                } catch (SQLException | RuntimeException e) {
+                    discard(null);
+                    throw e;
+                }
+            } else if (isValid(candidate)) {
+                connection = candidate;
+            } else {
+                discard(candidate);
+            }
+        }
+        recordBorrow(System.nanoTime() - started);
+        return lease(connection);
+    }
+
+    /**
+     * Closes every idle connection and stops lending new ones. Connections that are still borrowed are closed
+     * when they are returned.
+     */
+    @Override
+    public void close() {
+        ArrayList<Connection> toClose = new ArrayList<>();
+        synchronized (this) {
+            closed = true;
+            for (IdleConnection entry : idle) {
+                toClose.add(entry.connection);
+            }
+            openCount -= idle.size();
+            idle.clear();
+            notifyAll();
+        }
+        closeQuietly(toClose);
+    }
+
+    /**
+     * Returns the number of open connections, idle or borrowed.
+     *
+     * @return The open connection count.
+     */
+    public synchronized int getOpenCount() {
+        return openCount;
+    }
+
+    /**
+     * Returns the number of connections waiting in the pool.
+     *
+     * @return The idle connection count.
+     */
+    public synchronized int getIdleCount() {
+        return idle.size();
+    }
+
+    /**
+     * Returns the number of successful borrows.
+     *
+     * @return The borrow count.
+     */
+    public synchronized long getBorrowCount() {
+        return borrowCount;
+    }
+
+    /**
+     * Returns the average time a successful borrow took, including waiting for and opening connections.
+     *
+     * @return The average borrow time in nanoseconds, or 0 if nothing has been borrowed.
+     */
+    public synchronized long getAverageBorrowNanos() {
+        return borrowCount == 0 ? 0 : totalBorrowNanos / borrowCount;
+    }
+
+    /**
+     * Returns the longest time a successful borrow took.
+     *
+     * @return The longest borrow time in nanoseconds.
+     */
+    public synchronized long getMaxBorrowNanos() {
+        return maxBorrowNanos;
+    }
+
+    public int getMaxSize() { return maxSize; }
+
+    // Helper method to move idle connections past their timeout out of the pool. The caller closes them.
+    private void evictIdle(long now, ArrayList<Connection> expired) {
+        while (!idle.isEmpty() && now - idle.peekFirst().returnedAt > idleTimeoutNanos) {
+            expired.add(idle.pollFirst().connection);
+            openCount--;
+        }
+    }
+
+    // Helper method to wait until a connection is returned or the deadline passes. The caller holds the lock.
+    private void awaitReturn(long deadline) throws SQLException {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            throw new SQLException("Timed out waiting for a database connection.");
+        }
+        try {
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection.", e);
+        }
+    }
+
+    // Helper method to put a returned connection back in the pool, or close it if it cannot be reused.
+    private void giveBack(Connection connection) {
+        try {
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            discard(connection);
+            return;
+        }
+        synchronized (this) {
+            if (!closed) {
+                idle.addLast(new IdleConnection(connection, System.nanoTime()));
+                notifyAll();
+                return;
+            }
+        }
+        discard(connection);
+    }
+
+    // Helper method to close a connection that is leaving the pool, freeing its place for a new one.
+    private void discard(Connection connection) {
+        if (connection != null) {
+            closeQuietly(Collections.singletonList(connection));
+        }
+        synchronized (this) {
+            openCount--;
+            notifyAll();
+        }
+    }
+
+    private synchronized void recordBorrow(long nanos) {
+        borrowCount++;
+        totalBorrowNanos += nanos;
+        maxBorrowNanos = Math.max(maxBorrowNanos, nanos);
+    }
+
+    // Helper method to check that an idle connection still works before it is handed out.
+    private boolean isValid(Connection connection) {
+        try {
+            return connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    // Helper method to close connections, ignoring failures since they are being thrown away anyway.
+    private static void closeQuietly(List<Connection> connections) {
+        for (Connection connection : connections) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                // The connection is already unusable.
+            }
+        }
+    }
+
+    // Helper method to wrap a connection so that closing it returns it to the pool, once, and using it after that
+    // fails the way a closed connection does.
+    private Connection lease(Connection connection) {
+        InvocationHandler handler = new InvocationHandler() {
+            private boolean returned = false;
+
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                switch (method.getName()) {
+                    case "close":
+                        if (!returned) {
+                            returned = true;
+                            giveBack(connection);
+                        }
+                        return null;
+                    case "isClosed":
+                        return returned || connection.isClosed();
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "toString":
+                        return "Pooled " + connection;
+                    default:
+                        if (returned) {
+                            throw new SQLException("Connection has been returned to the pool.");
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                }
+            }
+        };
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, handler);
+    }
+}
@@ -0,0 +1,244 @@
+package edu.ucalgary.oop.Schedule;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import edu.ucalgary.oop.Medical.*;
+import edu.ucalgary.oop.Animals.*;
+
+/**
+ * Reads a shelter's tables from comma-separated files in a directory, so large generated datasets can be planned
+ * without loading them into a database first. Each file starts with a header row, which is skipped, and has the
+ * columns of the database table of the same name, in the same order:
+ * <ul>
+ *   <li>animals.csv: AnimalID, AnimalNickname, AnimalSpecies</li>
+ *   <li>tasks.csv: TaskID, Description, Duration, MaxWindow</li>
+ *   <li>treatments.csv: TreatmentID, AnimalID, TaskID, StartHour</li>
+ *   <li>staffing.csv: StartHour, StaffCount (optional; one staff member per hour without it)</li>
+ * </ul>
+ * Fields containing commas, quotes or line breaks are quoted with double quotes, with quotes inside doubled.
+ * Like the database import, treatments of unknown animals or tasks are left out.
+ * <p>
+ * The files are read once, when the source is constructed. Rescheduled treatments change the tables held in
+ * memory, and {@link #save()} writes them back to the directory.
+ * </p>
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class CsvShelterDataSource extends InMemoryShelterDataSource {
+    public static final String ANIMALS_FILE = "animals.csv";
+    public static final String TASKS_FILE = "tasks.csv";
+    public static final String TREATMENTS_FILE = "treatments.csv";
+    public static final String STAFFING_FILE = "staffing.csv";
+
+    private final Path directory;
+
+    /**
+     * Constructs a source from the files in a directory.
+     *
+     * @param directory The directory holding the files.
+     * @throws IOException if a required file is missing, cannot be read or has a malformed row.
+     */
+    public CsvShelterDataSource(Path directory) throws IOException {
+        super(read(directory));
+        this.directory = directory;
+    }
+
+    /**
+     * Writes the tables as they are now, including rescheduled treatments, back to the source's directory.
+     *
+     * @throws IOException if a file cannot be written.
+     */
+    public void save() throws IOException {
+        write(load(), directory);
+    }
+
+    public Path getDirectory() { return directory; }
+
+    /**
+     * Reads a shelter's tables from the files in a directory.
+     *
+     * @param directory The directory holding the files.
+     * @return The shelter's tables, with one unplaced medical item per treatment.
+     * @throws IOException if a required file is missing, cannot be read or has a malformed row.
+     * @throws IllegalArgumentException if the directory is null.
+     */
+    public static ShelterData read(Path directory) throws IOException {
+        if (directory == null) {
+            throw new IllegalArgumentException("Directory cannot be null.");
+        }
+        try {
+            return readTables(directory);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Malformed shelter data in " + directory + ": " + e.getMessage(), e);
+        }
+    }
+
+    // Helper method to read the tables, letting a malformed field or out-of-range value throw.
+    private static ShelterData readTables(Path directory) throws IOException {
+        HashMap<Integer, Animal> animals = new HashMap<>();
+        for (String[] row : readRows(directory.resolve(ANIMALS_FILE), 3)) {
+            Animal animal = ImportData.createAnimalBySpecies(parseInt(row[0]), row[1], row[2]);
+            animals.put(animal.getID(), animal);
+        }
+
+        HashMap<Integer, Tasks> tasks = new HashMap<>();
+        for (String[] row : readRows(directory.resolve(TASKS_FILE), 4)) {
+            int taskID = parseInt(row[0]);
+            tasks.put(taskID, new Tasks(taskID, row[1], parseInt(row[2]), parseInt(row[3])));
+        }
+
+        ArrayList<Item> treatmentItems = new ArrayList<>();
+        for (String[] row : readRows(directory.resolve(TREATMENTS_FILE), 4)) {
+            int animalID = parseInt(row[1]);
+            Tasks task = tasks.get(parseInt(row[2]));
+            if (task != null && animals.containsKey(animalID)) {
+                treatmentItems.add(new Item(animalID, task.getTaskID(), parseInt(row[3]), task.getMaxWindow(),
+                        task.getDuration(), parseInt(row[0])));
+            }
+        }
+        treatmentItems.sort(Comparator.comparingInt(Item::getTreatmentID));
+
+        StaffRoster staffRoster = new StaffRoster();
+        Path staffing = directory.resolve(STAFFING_FILE);
+        if (Files.exists(staffing)) {
+            for (String[] row : readRows(staffing, 2)) {
+                staffRoster.setStaff(parseInt(row[0]), parseInt(row[1]));
+            }
+        }
+        return new ShelterData(animals, tasks, treatmentItems, staffRoster);
+    }
+
+    /**
+     * Writes a shelter's tables to files in a directory, in the format {@link #read(Path)} reads, so that data
+     * imported from a database can be planned offline or used as a benchmark dataset.
+     *
+     * @param data The shelter's tables.
+     * @param directory The directory to write the files to. It must exist.
+     * @throws IOException if a file cannot be written.
+     */
+    public static void write(ShelterData data, Path directory) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(directory.resolve(ANIMALS_FILE), StandardCharsets.UTF_8)) {
+            out.write("AnimalID,AnimalNickname,AnimalSpecies\n");
+            for (Animal animal : data.getAnimals().values()) {
+                writeRow(out, animal.getID(), animal.getNickName(), animal.getAnimalSpecies());
+            }
+        }
+        try (BufferedWriter out = Files.newBufferedWriter(directory.resolve(TASKS_FILE), StandardCharsets.UTF_8)) {
+            out.write("TaskID,Description,Duration,MaxWindow\n");
+            for (Tasks task : data.getTasks().values()) {
+                writeRow(out, task.getTaskID(), task.getDescription(), task.getDuration(), task.getMaxWindow());
+            }
+        }
+        try (BufferedWriter out = Files.newBufferedWriter(directory.resolve(TREATMENTS_FILE),
+                StandardCharsets.UTF_8)) {
+            out.write("TreatmentID,AnimalID,TaskID,StartHour\n");
+            for (Item item : data.getTreatmentItems()) {
+                writeRow(out, item.getTreatmentID(), item.getAnimalID(), item.getTaskID(), item.getStartHour());
+            }
+        }
+        try (BufferedWriter out = Files.newBufferedWriter(directory.resolve(STAFFING_FILE),
+                StandardCharsets.UTF_8)) {
+            out.write("StartHour,StaffCount\n");
+            for (int hour = 0; hour < 24; hour++) {
+                writeRow(out, hour, data.getStaffRoster().getStaff(hour));
+            }
+        }
+    }
+
+    // Helper method to read every row of a file after its header, checking each has the expected field count.
+    private static ArrayList<String[]> readRows(Path file, int fields) throws IOException {
+        ArrayList<String[]> rows = new ArrayList<>();
+        try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            in.readLine(); // Header.
+            ArrayList<String> row;
+            while ((row = readRow(in)) != null) {
+                if (row.size() == 1 && row.get(0).isEmpty()) {
+                    continue; // Blank line, such as a trailing one.
+                }
+                if (row.size() != fields) {
+                    throw new IOException(file.getFileName() + " row " + (rows.size() + 1) + " has " + row.size()
+                            + " fields instead of " + fields + ".");
+                }
+                rows.add(row.toArray(new String[0]));
+            }
+        }
+        return rows;
+    }
+
+    // Helper method to read one row, continuing onto the next line while inside a quoted field.
+    private static ArrayList<String> readRow(BufferedReader in) throws IOException {
+        String line = in.readLine();
+        if (line == null) {
+            return null;
+        }
+        ArrayList<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (true) {
+            if (i == line.length()) {
+                if (!quoted) {
+                    break;
+                }
+                line = in.readLine();
+                if (line == null) {
+                    throw new IOException("Unterminated quoted field.");
+                }
+                field.append('\n');
+                i = 0;
+                continue;
+            }
+            char c = line.charAt(i++);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i < line.length() && line.charAt(i) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    // Helper method to parse a whole-number field, allowing surrounding spaces.
+    private static int parseInt(String field) {
+        try {
+            return Integer.parseInt(field.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("\"" + field + "\" is not a number.");
+        }
+    }
+
+    // Helper method to write one row, quoting the fields that need it.
+    private static void writeRow(BufferedWriter out, Object... fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            String field = String.valueOf(fields[i]);
+            if (field.contains(",") || field.contains("\"") || field.contains("\n") || field.contains("\r")) {
+                field = "\"" + field.replace("\"", "\"\"") + "\"";
+            }
+            out.write(field);
+        }
+        out.write('\n');
+    }
+}
@@ -0,0 +1,121 @@
+package edu.ucalgary.oop.Schedule;
+
+import java.util.*;
+
+/**
+ * Describes how much the real duration of each task can differ from its listed duration. Each task ID has a
+ * triangular distribution running from a low to a high multiple of the item's duration, with its peak at the
+ * listed duration itself, so a task is most often done on time but can overrun by more than it can finish early.
+ * Tasks without their own spread use the default spread.
+ * <p>
+ * The default model leaves cage cleaning close to its listed time, lets medical tasks overrun by half, and lets
+ * feedings, whose time depends on how cooperative the animals are, take up to twice as long.
+ * </p>
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class DurationModel {
+    private final HashMap<Integer, double[]> spreads = new HashMap<>(); // Low and high factor per task ID.
+    private double defaultLow = 1.0;
+    private double defaultHigh = 1.0;
+
+    /**
+     * Creates the default model for the shelter's tasks.
+     *
+     * @return A model with spreads for feedings, cage cleaning and medical tasks.
+     */
+    public static DurationModel createDefault() {
+        DurationModel model = new DurationModel();
+        model.setDefaultSpread(0.8, 1.5);
+        model.setSpread(TaskRegistry.FEEDING_TASK, 0.75, 2.0);
+        model.setSpread(TaskRegistry.CAGE_CLEANING_TASK, 0.8, 1.2);
+        model.setSpread(TaskRegistry.SPECIAL_CAGE_CLEANING_TASK, 0.8, 1.2);
+        return model;
+    }
+
+    /**
+     * Sets the spread of a task's duration.
+     *
+     * @param taskID The task ID, or one of the built-in task IDs of {@link TaskRegistry} for feeding and cage cleaning.
+     * @param low The shortest duration as a multiple of the listed one. Must be between 0 and 1.
+     * @param high The longest duration as a multiple of the listed one. Must be at least 1.
+     * @throws IllegalArgumentException if the factors are out of range.
+     */
+    public void setSpread(int taskID, double low, double high) {
+        validateSpread(low, high);
+        spreads.put(taskID, new double[]{low, high});
+    }
+
+    /**
+     * Sets the spread used for tasks without their own spread.
+     *
+     * @param low The shortest duration as a multiple of the listed one. Must be between 0 and 1.
+     * @param high The longest duration as a multiple of the listed one. Must be at least 1.
+     * @throws IllegalArgumentException if the factors are out of range.
+     */
+    public void setDefaultSpread(double low, double high) {
+        validateSpread(low, high);
+        this.defaultLow = low;
+        this.defaultHigh = high;
+    }
+
+    /**
+     * Returns the low and high factors of a task's spread.
+     *
+     * @param taskID The task ID.
+     * @return A copy of the task's low and high factors, or of the default ones.
+     */
+    public double[] getSpread(int taskID) {
+        double[] spread = spreads.get(taskID);
+        return spread != null ? spread.clone() : new double[]{defaultLow, defaultHigh};
+    }
+
+    /**
+     * Draws a duration for an item. Only reads the model, so several threads can sample it at once as long as
+     * no spread is changed meanwhile.
+     *
+     * @param item The item whose listed duration is perturbed.
+     * @param random The source of randomness.
+     * @return The sampled duration in whole minutes, never negative.
+     */
+    public int sample(Item item, SplittableRandom random) {
+        return sample(item.getTaskID(), item.getDuration(), random);
+    }
+
+    /**
+     * Draws a duration for a task, like {@link #sample(Item, SplittableRandom)} but without needing an Item.
+     *
+     * @param taskID The task whose spread is used.
+     * @param duration The listed duration that is perturbed.
+     * @param random The source of randomness.
+     * @return The sampled duration in whole minutes, never negative.
+     */
+    public int sample(int taskID, int duration, SplittableRandom random) {
+        double[] spread = spreads.get(taskID);
+        double low = spread != null ? spread[0] : defaultLow;
+        double high = spread != null ? spread[1] : defaultHigh;
+        if (low == high) {
+            return duration;
+        }
+
+        // Inverse of the triangular distribution's CDF, with its peak at a factor of 1.
+        double u = random.nextDouble();
+        double split = (1.0 - low) / (high - low);
+        double factor = u < split
+                ? low + Math.sqrt(u * (high - low) * (1.0 - low))
+                : high - Math.sqrt((1.0 - u) * (high - low) * (high - 1.0));
+        return (int) Math.round(duration * factor);
+    }
+
+    // Helper method to validate that a spread contains the listed duration and no negative durations.
+    private void validateSpread(double low, double high) {
+        if (!(low >= 0.0 && low <= 1.0) || !(high >= 1.0) || Double.isInfinite(high)) {
+            throw new IllegalArgumentException("Spread must satisfy 0 <= low <= 1 <= high.");
+        }
+    }
+}
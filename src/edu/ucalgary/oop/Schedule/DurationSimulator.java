@@ -0,0 +1,169 @@
+package edu.ucalgary.oop.Schedule;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Estimates how likely each hour is to need a backup volunteer when tasks do not take exactly their listed time.
+ * Every trial draws a new duration for each item from a {@link DurationModel} and places the perturbed items with
+ * a {@link PlacementEngine}, counting the hours the engine had to add a volunteer to.
+ * <p>
+ * Trials are split into chunks that run on a work-stealing {@link ForkJoinPool}. The timeline, the prep arrays
+ * and the engine are shared by every trial, since engines only read the timeline, so a trial costs one placement
+ * and no copying of planner state. Each chunk draws from its own random stream split off the seed before the run
+ * starts, so with a deterministic engine, such as an {@link OrderedPlacer}, the same seed always gives the same
+ * report whatever the number of workers. A time-budgeted {@link BranchAndBoundPlacer} may stop at a different
+ * placement on every run, and spends its budget on every trial, so it is not suited to simulation.
+ * </p>
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class DurationSimulator {
+    private static final int TRIALS_PER_CHUNK = 64; // Small enough that idle workers can steal from busy ones.
+
+    private final PlacementEngine engine;
+    private final DurationModel model;
+    private final int parallelism;
+
+    /**
+     * Constructs a simulator using one worker per available core.
+     *
+     * @param engine The engine that places each trial's items. It must not keep state between calls.
+     * @param model The spread of each task's duration.
+     * @throws IllegalArgumentException if the engine or model is null.
+     */
+    public DurationSimulator(PlacementEngine engine, DurationModel model) {
+        this(engine, model, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a simulator with the given number of workers.
+     *
+     * @param engine The engine that places each trial's items. It must not keep state between calls.
+     * @param model The spread of each task's duration.
+     * @param parallelism The number of worker threads. Must be positive.
+     * @throws IllegalArgumentException if the engine or model is null or the parallelism is not positive.
+     */
+    public DurationSimulator(PlacementEngine engine, DurationModel model, int parallelism) {
+        if (engine == null || model == null) {
+            throw new IllegalArgumentException("Engine and duration model cannot be null.");
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive.");
+        }
+        this.engine = engine;
+        this.model = model;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Runs the trials and waits for all of them to finish. The timeline is only read.
+     *
+     * @param items The items to place, with their listed durations.
+     * @param prepGroups The species bit of each feeding item with a prep cost, or -1 if the item has none.
+     * @param prepMinutes The prep minutes of each item's species, ignored for items without a prep group.
+     * @param timeline The timeline holding the capacity and food prep already used by earlier placements.
+     * @param trials The number of trials to run. Must be positive.
+     * @param seed The seed of the random durations.
+     * @return The volunteer and unplaced counts of the run.
+     * @throws IllegalArgumentException if the trials are not positive or the prep arrays do not match the items.
+     */
+    public SimulationReport simulate(List<Item> items, int[] prepGroups, int[] prepMinutes,
+                                     CapacityTimeline timeline, int trials, long seed) {
+        return simulate(ItemStore.from(items), prepGroups, prepMinutes, timeline, trials, seed);
+    }
+
+    /**
+     * Runs the trials over the items in a store and waits for all of them to finish. Each chunk of trials
+     * perturbs the durations of its own copy of the store, so no items are created per trial.
+     *
+     * @param items The items to place, with their listed durations. The store is only read.
+     * @param prepGroups The species bit of each feeding item with a prep cost, or -1 if the item has none.
+     * @param prepMinutes The prep minutes of each item's species, ignored for items without a prep group.
+     * @param timeline The timeline holding the capacity and food prep already used by earlier placements.
+     * @param trials The number of trials to run. Must be positive.
+     * @param seed The seed of the random durations.
+     * @return The volunteer and unplaced counts of the run.
+     * @throws IllegalArgumentException if the trials are not positive or the prep arrays do not match the items.
+     */
+    public SimulationReport simulate(ItemStore items, int[] prepGroups, int[] prepMinutes,
+                                     CapacityTimeline timeline, int trials, long seed) {
+        if (trials <= 0) {
+            throw new IllegalArgumentException("Trials must be positive.");
+        }
+        if (prepGroups.length != items.size() || prepMinutes.length != items.size()) {
+            throw new IllegalArgumentException("Prep groups and minutes must have one entry per item.");
+        }
+
+        int chunks = (trials + TRIALS_PER_CHUNK - 1) / TRIALS_PER_CHUNK;
+        SplittableRandom root = new SplittableRandom(seed);
+        ArrayList<Callable<long[]>> tasks = new ArrayList<>();
+        for (int c = 0; c < chunks; c++) {
+            int chunkTrials = Math.min(TRIALS_PER_CHUNK, trials - c * TRIALS_PER_CHUNK);
+            SplittableRandom random = root.split();
+            tasks.add(() -> runChunk(items, prepGroups, prepMinutes, timeline, chunkTrials, random));
+        }
+
+        long started = System.nanoTime();
+        long[] totals = new long[timeline.getHours() + 2];
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            for (Future<long[]> future : pool.invokeAll(tasks)) {
+                long[] counts = future.get();
+                for (int i = 0; i < totals.length; i++) {
+                    totals[i] += counts[i];
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while simulating durations.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A simulation trial failed.", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+
+        int hours = timeline.getHours();
+        int[] volunteerTrials = new int[hours];
+        for (int h = 0; h < hours; h++) {
+            volunteerTrials[h] = (int) totals[h];
+        }
+        return new SimulationReport(timeline.getFirstHour(), trials, volunteerTrials, (int) totals[hours],
+                totals[hours + 1], System.nanoTime() - started);
+    }
+
+    // Helper method to run a chunk of trials on one thread. The counts hold, for each hour of the timeline, the
+    // trials in which it needed a volunteer, followed by the trials with an unplaced item and the total volunteers.
+    private long[] runChunk(ItemStore items, int[] prepGroups, int[] prepMinutes, CapacityTimeline timeline,
+                            int trials, SplittableRandom random) {
+        int hours = timeline.getHours();
+        int firstHour = timeline.getFirstHour();
+        long[] counts = new long[hours + 2];
+        ItemStore perturbed = items.copy();
+        for (int t = 0; t < trials; t++) {
+            for (int i = 0; i < items.size(); i++) {
+                perturbed.setDuration(i, model.sample(items.getTaskID(i), items.getDuration(i), random));
+            }
+
+            PlacementResult result = engine.place(perturbed, prepGroups, prepMinutes, timeline);
+            for (int i = 0; i < result.getItemCount(); i++) {
+                if (result.needsVolunteer(i)) {
+                    int index = result.getHour(i) - firstHour;
+                    if (index >= 0 && index < hours) {
+                        counts[index]++;
+                    }
+                }
+            }
+            if (result.getUnplacedCount() > 0) {
+                counts[hours]++;
+            }
+            counts[hours + 1] += result.getVolunteerCount();
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,30 @@
+package edu.ucalgary.oop.Schedule;
+
+/**
+ * Orders items by the absolute hour at which their window closes, placing the item that must be finished
+ * soonest first. Items with the same deadline are placed in the order they were generated.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class EarliestDeadlineFirst implements OrderingStrategy {
+
+    @Override
+    public String getName() {
+        return "Earliest deadline first";
+    }
+
+    @Override
+    public long rank(ItemStore items, int item, CapacityTimeline timeline) {
+        return items.getAbsoluteStartHour(item) + items.getMaxWindow(item);
+    }
+
+    @Override
+    public boolean isDynamic() {
+        return false;
+    }
+}
@@ -0,0 +1,202 @@
+package edu.ucalgary.oop.Schedule;
+
+import java.util.*;
+
+/**
+ * Checks, before anything is placed, whether a list of items can fit in a {@link CapacityTimeline}. The check
+ * only looks at totals, so it runs in a fraction of the time a placement takes and never prompts the user.
+ * <p>
+ * Each item is first checked on its own: if no person working an hour of its window has room for it, even after
+ * adding a backup volunteer, it can never be scheduled. The remaining items are then checked window by window, in
+ * the spirit of Hall's condition: for every interval of hours from an item's start to an item's end, the minutes
+ * of the items whose whole window lies inside the interval must fit in the interval's free minutes. Every feeding
+ * species confined to the interval adds its prep once, unless it is already prepared in one of its hours. When the
+ * demand exceeds the free minutes, the excess has to be covered by volunteers. If it exceeds what a volunteer in
+ * every hour could cover, the interval is overloaded; if it needs a volunteer in every hour that can still take
+ * one, those hours are certain to need a volunteer however the items are placed.
+ * </p>
+ * <p>
+ * The interval check is a relaxation, because it lets an item's minutes spread across hours, so it can miss
+ * problems but never reports one that does not exist.
+ * </p>
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class FeasibilityAnalyzer {
+
+    /**
+     * Analyzes whether the items can be placed in the timeline. The timeline is only read.
+     *
+     * @param items The items to check.
+     * @param prepGroups The species bit of each feeding item with a prep cost, or -1 if the item has none.
+     * @param prepMinutes The prep minutes of each item's species, ignored for items without a prep group.
+     * @param timeline The timeline holding the capacity and food prep already used by earlier placements.
+     * @return The findings of the analysis, listing the very items that cannot fit.
+     * @throws IllegalArgumentException if the prep arrays do not have one entry per item.
+     */
+    public FeasibilityReport analyze(List<Item> items, int[] prepGroups, int[] prepMinutes, CapacityTimeline timeline) {
+        return analyze(ItemStore.from(items), items, prepGroups, prepMinutes, timeline);
+    }
+
+    /**
+     * Analyzes whether the items in a store can be placed in the timeline. The timeline is only read.
+     *
+     * @param items The items to check.
+     * @param prepGroups The species bit of each feeding item with a prep cost, or -1 if the item has none.
+     * @param prepMinutes The prep minutes of each item's species, ignored for items without a prep group.
+     * @param timeline The timeline holding the capacity and food prep already used by earlier placements.
+     * @return The findings of the analysis, with new Items for the stored items that cannot fit.
+     * @throws IllegalArgumentException if the prep arrays do not have one entry per item.
+     */
+    public FeasibilityReport analyze(ItemStore items, int[] prepGroups, int[] prepMinutes, CapacityTimeline timeline) {
+        return analyze(items, null, prepGroups, prepMinutes, timeline);
+    }
+
+    // Helper method to analyze stored items, reporting the original Items instead of copies when there are any.
+    private FeasibilityReport analyze(ItemStore items, List<Item> originals, int[] prepGroups, int[] prepMinutes,
+                                      CapacityTimeline timeline) {
+        int n = items.size();
+        if (prepGroups.length != n || prepMinutes.length != n) {
+            throw new IllegalArgumentException("Prep groups and minutes must have one entry per item.");
+        }
+        int firstHour = timeline.getFirstHour();
+        int span = timeline.getHours();
+        int hourMinutes = CapacityTimeline.MINUTES_PER_HOUR;
+
+        // Prefix sums of free minutes and of hours that can still take a volunteer.
+        int[] freeBefore = new int[span + 1];
+        int[] openBefore = new int[span + 1];
+        for (int h = 0; h < span; h++) {
+            freeBefore[h + 1] = freeBefore[h] + timeline.getRemaining(firstHour + h);
+            openBefore[h + 1] = openBefore[h] + (timeline.hasVolunteer(firstHour + h) ? 0 : 1);
+        }
+
+        ArrayList<Item> infeasibleItems = new ArrayList<>();
+        ArrayList<String> report = new ArrayList<>();
+        ArrayList<Integer> candidates = new ArrayList<>();
+        int[] from = new int[n];
+        int[] to = new int[n];
+        int[] speciesPrep = new int[SpeciesRegistry.MAX_SPECIES];
+        for (int i = 0; i < n; i++) {
+            from[i] = Math.max(items.getAbsoluteStartHour(i) - firstHour, 0);
+            to[i] = Math.min(items.getAbsoluteStartHour(i) + items.getMaxWindow(i) - firstHour, span);
+            if (!fitsAlone(items.getDuration(i), prepGroups[i], prepMinutes[i], from[i], to[i], timeline)) {
+                infeasibleItems.add(originals != null ? originals.get(i) : items.toItem(i));
+                report.add(describe(items, i) + ": cannot fit in any hour of its window, even with a volunteer");
+                continue;
+            }
+            if (prepGroups[i] >= 0) {
+                speciesPrep[prepGroups[i]] = prepMinutes[i];
+            }
+            candidates.add(i);
+        }
+
+        // Items in order of the end of their window, so demand can be accumulated as an interval grows.
+        candidates.sort(Comparator.<Integer>comparingInt(i -> to[i]).thenComparingInt(i -> from[i]));
+        TreeSet<Integer> starts = new TreeSet<>();
+        for (int i : candidates) {
+            starts.add(from[i]);
+        }
+
+        boolean[] forced = new boolean[span];
+        int minimumVolunteers = 0;
+        int overloadedWindows = 0;
+        for (int a : starts) {
+            int demand = 0;
+            long confined = 0L;  // Feeding species with a window inside [a, b).
+            long prepared = 0L;  // Species already prepared in some hour of [a, b).
+            int preparedTo = a;
+            boolean overloadReported = false;
+            for (int k = 0; k < candidates.size(); k++) {
+                int i = candidates.get(k);
+                if (from[i] < a) {
+                    continue;
+                }
+                demand += items.getDuration(i);
+                if (prepGroups[i] >= 0) {
+                    confined |= 1L << prepGroups[i];
+                }
+                int b = to[i];
+                if (k + 1 < candidates.size() && to[candidates.get(k + 1)] == b) {
+                    continue; // Evaluate each interval once, after all items ending at b are counted.
+                }
+                while (preparedTo < b) {
+                    prepared |= timeline.getPreparedMask(firstHour + preparedTo++);
+                }
+                int need = demand;
+                for (long bits = confined & ~prepared; bits != 0; bits &= bits - 1) {
+                    need += speciesPrep[Long.numberOfTrailingZeros(bits)];
+                }
+
+                int excess = need - (freeBefore[b] - freeBefore[a]);
+                if (excess <= 0) {
+                    continue;
+                }
+                int open = openBefore[b] - openBefore[a];
+                int volunteers = (excess + hourMinutes - 1) / hourMinutes;
+                if (volunteers > open) {
+                    overloadedWindows++;
+                    if (!overloadReported) {
+                        overloadReported = true;
+                        report.add("Hours " + (firstHour + a) + " to " + (firstHour + b - 1) + ": " + need
+                                + " minutes of tasks exceed the time available even with a volunteer in every hour");
+                    }
+                    continue;
+                }
+                minimumVolunteers = Math.max(minimumVolunteers, volunteers);
+                if (excess > hourMinutes * (open - 1)) {
+                    for (int h = a; h < b; h++) {
+                        if (!timeline.hasVolunteer(firstHour + h)) {
+                            forced[h] = true;
+                        }
+                    }
+                }
+            }
+        }
+
+        int forcedCount = 0;
+        for (int h = 0; h < span; h++) {
+            if (forced[h]) {
+                forcedCount++;
+            }
+        }
+        int[] volunteerHours = new int[forcedCount];
+        int next = 0;
+        for (int h = 0; h < span; h++) {
+            if (forced[h]) {
+                volunteerHours[next++] = firstHour + h;
+                report.add("Hour " + (firstHour + h) + ": a backup volunteer is required");
+            }
+        }
+        minimumVolunteers = Math.max(minimumVolunteers, forcedCount);
+        return new FeasibilityReport(volunteerHours, infeasibleItems, overloadedWindows, minimumVolunteers, report);
+    }
+
+    // Helper method to check whether an item fits in some hour of its window, adding a volunteer if one is allowed.
+    private boolean fitsAlone(int duration, int prepGroup, int prepMinutes, int from, int to, CapacityTimeline timeline) {
+        int firstHour = timeline.getFirstHour();
+        for (int h = from; h < to; h++) {
+            int hour = firstHour + h;
+            int need = duration;
+            if (prepGroup >= 0 && !timeline.isPrepared(hour, prepGroup)) {
+                need += prepMinutes;
+            }
+            if (timeline.fits(hour, need)
+                    || (!timeline.hasVolunteer(hour) && need <= CapacityTimeline.MINUTES_PER_HOUR)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Helper method to describe an item by its animal, task, treatment and start hour.
+    private String describe(ItemStore items, int i) {
+        return "Animal " + items.getAnimalID(i) + " task " + items.getTaskID(i)
+                + " (treatment " + items.getTreatmentID(i) + ") starting at hour " + items.getAbsoluteStartHour(i);
+    }
+}
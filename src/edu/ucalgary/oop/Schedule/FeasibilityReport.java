@@ -0,0 +1,114 @@
+package edu.ucalgary.oop.Schedule;
+
+import java.util.*;
+
+/**
+ * Holds the outcome of a {@link FeasibilityAnalyzer} run over a day's items, before any of them are placed: the
+ * hours that are certain to need a backup volunteer, the items that cannot be scheduled in their window at all,
+ * and a lower bound on the number of volunteers the day needs. Each finding is also described by a report line
+ * so the whole analysis can be shown to the user at once.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class FeasibilityReport {
+    private final int[] volunteerHours;             // Absolute hours that need a volunteer, in ascending order.
+    private final ArrayList<Item> infeasibleItems;  // Items that do not fit in any hour of their window.
+    private final int overloadedWindows;            // Windows whose demand exceeds capacity even with volunteers.
+    private final int minimumVolunteers;
+    private final ArrayList<String> report;
+
+    /**
+     * Constructs a FeasibilityReport from the findings of an analysis.
+     *
+     * @param volunteerHours The absolute hours that are certain to need a volunteer.
+     * @param infeasibleItems The items that cannot be scheduled in their window.
+     * @param overloadedWindows The number of windows that cannot hold their items even with volunteers.
+     * @param minimumVolunteers A lower bound on the number of volunteers needed.
+     * @param report One line per finding.
+     * @throws IllegalArgumentException if any list is null or a count is negative.
+     */
+    public FeasibilityReport(int[] volunteerHours, ArrayList<Item> infeasibleItems, int overloadedWindows,
+                             int minimumVolunteers, ArrayList<String> report) {
+        if (volunteerHours == null || infeasibleItems == null || report == null) {
+            throw new IllegalArgumentException("Report contents cannot be null.");
+        }
+        if (overloadedWindows < 0 || minimumVolunteers < 0) {
+            throw new IllegalArgumentException("Counts must be non-negative.");
+        }
+        this.volunteerHours = volunteerHours.clone();
+        Arrays.sort(this.volunteerHours);
+        this.infeasibleItems = new ArrayList<>(infeasibleItems);
+        this.overloadedWindows = overloadedWindows;
+        this.minimumVolunteers = minimumVolunteers;
+        this.report = new ArrayList<>(report);
+    }
+
+    /**
+     * Returns the hours that need a backup volunteer however the items are placed.
+     *
+     * @return A copy of the absolute hours, in ascending order.
+     */
+    public int[] getVolunteerHours() {
+        return volunteerHours.clone();
+    }
+
+    /**
+     * Returns the items that cannot be scheduled in any hour of their window, even with a volunteer.
+     *
+     * @return A copy of the infeasible items.
+     */
+    public ArrayList<Item> getInfeasibleItems() {
+        return new ArrayList<>(infeasibleItems);
+    }
+
+    /**
+     * Returns the number of windows whose items need more time than the window has, even with a volunteer
+     * in every hour.
+     *
+     * @return The overloaded window count.
+     */
+    public int getOverloadedWindows() {
+        return overloadedWindows;
+    }
+
+    /**
+     * Returns a lower bound on the number of hours that need a backup volunteer.
+     *
+     * @return The minimum volunteer count.
+     */
+    public int getMinimumVolunteers() {
+        return minimumVolunteers;
+    }
+
+    /**
+     * Returns whether every item can be placed, possibly with volunteers.
+     *
+     * @return true if no item is infeasible and no window is overloaded.
+     */
+    public boolean isFeasible() {
+        return infeasibleItems.isEmpty() && overloadedWindows == 0;
+    }
+
+    /**
+     * Returns whether the analysis found nothing to report.
+     *
+     * @return true if the items are feasible and no volunteer is needed.
+     */
+    public boolean isClean() {
+        return isFeasible() && minimumVolunteers == 0;
+    }
+
+    /**
+     * Returns one line per finding: forced volunteer hours, overloaded windows and infeasible items.
+     *
+     * @return A copy of the report lines.
+     */
+    public ArrayList<String> getReport() {
+        return new ArrayList<>(report);
+    }
+}
@@ -0,0 +1,68 @@
+package edu.ucalgary.oop.Schedule;
+
+import java.util.*;
+
+/**
+ * Maps a fixed set of database IDs to the compact indices 0 to n - 1, in ascending ID order, without boxing. When
+ * the IDs are close together, as database sequences usually are, an index is read straight out of a table offset
+ * by the smallest ID. When they are spread too far apart for a table, the index is found by binary search over
+ * the sorted IDs.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+class IdIndex {
+    private static final int MAX_GAP_FACTOR = 4; // Table slots allowed per ID before falling back to search.
+
+    private final int[] sortedIDs;
+    private final int minID;
+    private final int[] table; // Index + 1 per ID - minID, 0 for gaps. Null when searching.
+
+    /**
+     * Constructs an index over a set of IDs.
+     *
+     * @param ids The IDs, in any order.
+     * @throws IllegalArgumentException if an ID appears more than once.
+     */
+    IdIndex(int[] ids) {
+        sortedIDs = ids.clone();
+        Arrays.sort(sortedIDs);
+        for (int i = 1; i < sortedIDs.length; i++) {
+            if (sortedIDs[i] == sortedIDs[i - 1]) {
+                throw new IllegalArgumentException("ID " + sortedIDs[i] + " appears more than once.");
+            }
+        }
+        minID = sortedIDs.length == 0 ? 0 : sortedIDs[0];
+        long range = sortedIDs.length == 0 ? 0 : (long) sortedIDs[sortedIDs.length - 1] - minID + 1;
+        if (range <= (long) MAX_GAP_FACTOR * sortedIDs.length + 64) {
+            table = new int[(int) range];
+            for (int i = 0; i < sortedIDs.length; i++) {
+                table[sortedIDs[i] - minID] = i + 1;
+            }
+        } else {
+            table = null;
+        }
+    }
+
+    /**
+     * Returns the index of an ID.
+     *
+     * @param id The ID.
+     * @return The index, or -1 if the ID is not in the set.
+     */
+    int indexOf(int id) {
+        if (table == null) {
+            int index = Arrays.binarySearch(sortedIDs, id);
+            return index >= 0 ? index : -1;
+        }
+        long offset = (long) id - minID;
+        return offset >= 0 && offset < table.length ? table[(int) offset] - 1 : -1;
+    }
+
+    int size() { return sortedIDs.length; }
+    int getID(int index) { return sortedIDs[index]; }
+}
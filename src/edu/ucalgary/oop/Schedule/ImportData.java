@@ -1,7 +1,10 @@
 package edu.ucalgary.oop.Schedule;
 
+import java.io.IOException;
 import java.sql.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
 import edu.ucalgary.oop.Medical.*;
 import edu.ucalgary.oop.Animals.*;
 
@@ -15,7 +18,9 @@ import edu.ucalgary.oop.Animals.*;
  * new information, reflecting the dynamic nature of the rescue center's needs.
  * 
  * Usage of this class includes creating a connection to the database and retrieving tables as
- * HashMaps or ArrayLists for animals, tasks, and treatments.
+ * HashMaps or ArrayLists for animals, tasks, and treatments. Every query borrows a connection from a
+ * {@link ConnectionPool}, which can be shared by several ImportData objects using the same database.
+ * As a {@link ShelterDataSource}, it is the PostgreSQL backend of a {@link Schedule}.
  * 
  * @author Matteo Valente
  * @author Marcus Gee
@@ -24,9 +29,45 @@ import edu.ucalgary.oop.Animals.*;
  * @version 2.2.0
  * @since 1.6.0
  */
-public class ImportData { 
-    private Connection dbConnection;
-    private final List<String> validTableNames = Arrays.asList("animals", "tasks", "treatments");
+public class ImportData implements ShelterDataSource { 
+    public static final String DEFAULT_URL = "jdbc:postgresql://localhost/ewr";
+    public static final int DEFAULT_FETCH_SIZE = 500;
+
+    private ConnectionPool connectionPool;
+    private boolean ownsConnectionPool = false; // Only pools created by this object are closed by it.
+    private SQLException connectionFailure = null; // Why the last attempt to connect failed, if it did.
+    private SnapshotCache snapshotCache = null; // Used by load() to skip unchanged imports, if set.
+    private static final String TREATMENT_ITEMS_QUERY =
+            "SELECT t.TreatmentID, t.AnimalID, t.TaskID, t.StartHour, k.Duration, k.MaxWindow "
+            + "FROM treatments t "
+            + "JOIN tasks k ON k.TaskID = t.TaskID "
+            + "JOIN animals a ON a.AnimalID = t.AnimalID "
+            + "ORDER BY t.TreatmentID";
+
+    private static final int SNAPSHOT_READERS = 3; // Tables read on their own connections; animals use the exporter's.
+    private static final String UNDEFINED_TABLE = "42P01"; // SQL state of a query on a table that does not exist.
+
+    private int fetchSize = DEFAULT_FETCH_SIZE;
+    private final List<String> validTableNames = Arrays.asList("animals", "tasks", "treatments", "staffing");
+
+    /**
+     * Constructs an ImportData object that connects once {@link #establishDBConnection} is called.
+     */
+    public ImportData() {
+    }
+
+    /**
+     * Constructs an ImportData object that shares a connection pool with other users of the same database.
+     * 
+     * @param connectionPool The pool to borrow connections from.
+     * @throws IllegalArgumentException If the pool is null.
+     */
+    public ImportData(ConnectionPool connectionPool) {
+        if (connectionPool == null) {
+            throw new IllegalArgumentException("Connection pool cannot be null.");
+        }
+        this.connectionPool = connectionPool;
+    }
 
     /**
      * Establishes a connection to the specified database using the provided credentials. The method attempts
@@ -37,13 +78,86 @@ public class ImportData {
      * @return A boolean value indicating whether the connection was successful.
      */
     public boolean establishDBConnection(String username, String password) {
+        return establishDBConnection(DEFAULT_URL, username, password);
+    }
+
+    /**
+     * Establishes a connection to the database at the given JDBC URL using the provided credentials. This allows
+     * each shelter to keep its data in its own database. The connection is kept in a new connection pool, which
+     * replaces and closes any pool this object was using before.
+     * 
+     * @param url The JDBC URL of the shelter's database
+     * @param username The database username
+     * @param password The database password
+     * @return A boolean value indicating whether the connection was successful.
+     */
+    public boolean establishDBConnection(String url, String username, String password) {
+        closeConnection();
+        ConnectionPool pool = new ConnectionPool(url, username, password);
         try {
-            this.dbConnection = DriverManager.getConnection("jdbc:postgresql://localhost/ewr", username, password);
-            return true;
+            pool.borrow().close(); // Opens the first connection and leaves it idle in the pool.
         } catch (SQLException e) {
             e.printStackTrace();
+            pool.close();
+            this.connectionFailure = e;
             return false;
         }
+        this.connectionPool = pool;
+        this.ownsConnectionPool = true;
+        this.connectionFailure = null;
+        return true;
+    }
+
+    /**
+     * Stops using the connection pool. A pool created by {@link #establishDBConnection} is closed along with its
+     * idle connections, while a shared pool passed to the constructor is left open for its other users.
+     */
+    public void closeConnection() {
+        if (connectionPool != null && ownsConnectionPool) {
+            connectionPool.close();
+        }
+        connectionPool = null;
+        ownsConnectionPool = false;
+    }
+
+    /**
+     * Stops using the connection pool, like {@link #closeConnection()}.
+     */
+    @Override
+    public void close() {
+        closeConnection();
+    }
+
+    /**
+     * Loads every table of the shelter under one snapshot, through the snapshot file if one has been set.
+     * 
+     * @return The imported or cached tables.
+     * @throws SQLException If the import fails and no usable snapshot exists.
+     */
+    @Override
+    public ShelterData load() throws SQLException {
+        return snapshotCache == null ? importShelterData() : importShelterData(snapshotCache);
+    }
+
+    /**
+     * Sets the snapshot file {@link #load()} reads unchanged data from and writes new imports to.
+     * 
+     * @param snapshotCache The snapshot file, or null to always import from the database.
+     */
+    public void setSnapshotCache(SnapshotCache snapshotCache) {
+        this.snapshotCache = snapshotCache;
+    }
+
+    public SnapshotCache getSnapshotCache() { return snapshotCache; }
+
+    /**
+     * Returns the pool this object borrows its connections from, so that it can be shared or its borrow times
+     * inspected.
+     * 
+     * @return The connection pool, or null if no connection has been established.
+     */
+    public ConnectionPool getConnectionPool() {
+        return connectionPool;
     }
 
     /**
@@ -54,23 +168,27 @@ public class ImportData {
      * @throws SQLException If a database access error occurs or the 'animals' table name is invalid.
      */
     public HashMap<Integer, Animal> importAnimalsTable() throws SQLException {
+        try (Connection connection = borrowConnection()) {
+            return readAnimalsTable(connection);
+        }
+    }
+
+    // Helper method to read the 'animals' table on a connection the caller has borrowed.
+    private HashMap<Integer, Animal> readAnimalsTable(Connection connection) throws SQLException {
         HashMap<Integer, Animal> animalHashMap = new HashMap<>();
         String tableName = "animals";
         validateTableName(tableName);
 
         String query = "SELECT * FROM " + tableName;
 
-        try (Statement statement = dbConnection.createStatement();
+        try (Statement statement = connection.createStatement();
              ResultSet resultSet = statement.executeQuery(query)) {
             while (resultSet.next()) {
                 int id = resultSet.getInt("AnimalID");
                 String nickName = resultSet.getString("AnimalNickname");
                 String animalSpecies = resultSet.getString("AnimalSpecies");
                 
-                Animal animal = createAnimalBySpecies(id, nickName, animalSpecies);
-                if (animal != null) {
-                    animalHashMap.put(id, animal);
-                }
+                animalHashMap.put(id, createAnimalBySpecies(id, nickName, animalSpecies));
             }
         }
         return animalHashMap;
@@ -85,13 +203,20 @@ public class ImportData {
      * @throws SQLException If a database access error occurs or the 'tasks' table name is invalid.
      */
     public HashMap<Integer, Tasks> importTasksTable() throws SQLException {
+        try (Connection connection = borrowConnection()) {
+            return readTasksTable(connection);
+        }
+    }
+
+    // Helper method to read the 'tasks' table on a connection the caller has borrowed.
+    private HashMap<Integer, Tasks> readTasksTable(Connection connection) throws SQLException {
         HashMap<Integer, Tasks> tasksHashMap = new HashMap<>();
         String tableName = "tasks";
         validateTableName(tableName);
 
         String query = "SELECT * FROM " + tableName;
 
-        try (Statement statement = dbConnection.createStatement();
+        try (Statement statement = connection.createStatement();
              ResultSet resultSet = statement.executeQuery(query)) {
             while (resultSet.next()) {
                 int taskID = resultSet.getInt("TaskID");
@@ -115,24 +240,252 @@ public class ImportData {
      */
     public ArrayList<Treatments> importTreatmentsTable() throws SQLException {
         ArrayList<Treatments> treatmentsArrayList = new ArrayList<>(); 
+        streamTreatmentsTable(treatmentsArrayList::add);
+        return treatmentsArrayList;   
+    }
+
+    /**
+     * Reads the 'treatments' table through a server-side cursor, handing each treatment to a consumer as soon as
+     * its row arrives instead of collecting them all first. Only one fetch of rows is held in memory at a time, so
+     * tables far larger than the heap can be processed as long as the consumer does not keep every treatment.
+     * 
+     * @param sink Receives each treatment, in the order the database returns them.
+     * @return The number of treatments read.
+     * @throws SQLException If a database access error occurs or the 'treatments' table name is invalid.
+     */
+    public int streamTreatmentsTable(Consumer<? super Treatments> sink) throws SQLException {
         String tableName = "treatments";
         validateTableName(tableName);
 
+        String query = "SELECT TreatmentID, AnimalID, TaskID, StartHour FROM " + tableName;
+
+        return streamQuery(query, resultSet -> new Treatments(resultSet.getInt("TreatmentID"),
+                resultSet.getInt("AnimalID"), resultSet.getInt("TaskID"), resultSet.getInt("StartHour")), sink);
+    }
+
+    /**
+     * Retrieves every treatment together with the duration and window of its task in a single query, joining the
+     * 'treatments', 'tasks' and 'animals' tables in the database and selecting only the columns needed to place
+     * the treatment. Each row becomes a ready-to-place medical Item, in order of treatment ID. Treatments whose task
+     * or animal does not exist are left out.
+     * 
+     * @return An ArrayList<Item> with one item per treatment.
+     * @throws SQLException If a database access error occurs or one of the table names is invalid.
+     */
+    public ArrayList<Item> importTreatmentItems() throws SQLException {
+        ArrayList<Item> treatmentItems = new ArrayList<>();
+        streamTreatmentItems(treatmentItems::add);
+        return treatmentItems;
+    }
+
+    /**
+     * Runs the joined treatment query of {@link #importTreatmentItems()} through a server-side cursor, handing each
+     * item to a consumer as soon as its row arrives. Only one fetch of rows is held in memory at a time, so this is
+     * the path for reading a treatment table of any size in bounded memory, as long as the consumer does not keep
+     * every item. Planning a {@link Schedule} from the database does not use it that way, see
+     * {@link #importShelterData()}.
+     * 
+     * @param sink Receives each medical item, in order of treatment ID.
+     * @return The number of items read.
+     * @throws SQLException If a database access error occurs or one of the table names is invalid.
+     */
+    public int streamTreatmentItems(Consumer<? super Item> sink) throws SQLException {
+        validateTableName("treatments");
+        validateTableName("tasks");
+        validateTableName("animals");
+
+        return streamQuery(TREATMENT_ITEMS_QUERY, ImportData::readTreatmentItem, sink);
+    }
+
+    /**
+     * Imports the animals, tasks, treatment items and staffing of the shelter concurrently, so the import takes
+     * about as long as the slowest table rather than the sum of all of them.
+     * <p>
+     * To keep the tables consistent with each other, one connection opens a repeatable-read transaction and
+     * exports its snapshot with pg_export_snapshot(). The animals are read on that connection, while the other
+     * tables are each read on a connection of their own, in a transaction that adopts the snapshot with SET
+     * TRANSACTION SNAPSHOT, so all of them see the database exactly as it was when the snapshot was taken, even if
+     * it changes during the import. An import holds at most four connections, never more than the pool allows,
+     * and imports sharing a pool take turns so that none of them waits on connections another one holds. A pool
+     * of one connection reads every table in turn in a single repeatable-read transaction. A shelter without a
+     * staffing table gets one staff member in every hour.
+     * </p>
+     * <p>
+     * The treatments come through the same cursor as {@link #streamTreatmentItems(Consumer)}, one fetch at a time,
+     * and each row's columns go straight into an {@link ItemStore} instead of an Item. This bounds what the driver
+     * buffers, not the result: the import is not constant-memory. Every treatment is still held, about 28 bytes
+     * each, as the planner needs all of them for each day of the horizon and for every move, so the treatments are
+     * not handed to the planner in chunks.
+     * </p>
+     * 
+     * @return The imported tables.
+     * @throws SQLException If a database access error occurs, other than the staffing table not existing.
+     */
+    public ShelterData importShelterData() throws SQLException {
+        ConnectionPool pool = connectionPool;
+        if (pool == null) {
+            throw noConnection();
+        }
+        synchronized (pool.importLock) {
+            try (Connection connection = pool.borrow()) {
+                int readers = Math.min(SNAPSHOT_READERS, pool.getMaxSize() - 1);
+                // The exporting transaction must stay open until every reader has adopted its snapshot.
+                return inRepeatableRead(connection, () -> {
+                    if (readers < 1) {
+                        return readInTurn(connection);
+                    }
+                    String snapshotID;
+                    try (Statement statement = connection.createStatement();
+                         ResultSet resultSet = statement.executeQuery("SELECT pg_export_snapshot()")) {
+                        resultSet.next();
+                        snapshotID = resultSet.getString(1);
+                    }
+                    return readInParallel(connection, snapshotID, readers);
+                });
+            }
+        }
+    }
+
+    /**
+     * Imports the shelter's data like {@link #importShelterData()}, but reuses a snapshot file when the database
+     * has not changed since it was written, and writes a new one after every full import. If the database cannot
+     * be reached at all, the last snapshot is used whatever it was written from, so planning still works offline.
+     * Wrong credentials are not treated as the database being unreachable.
+     * 
+     * @param cache The snapshot file to read from and write to.
+     * @return The imported or cached tables.
+     * @throws SQLException If the import fails and no usable snapshot exists.
+     */
+    public ShelterData importShelterData(SnapshotCache cache) throws SQLException {
+        long[] fingerprint;
+        try {
+            fingerprint = importFingerprint();
+        } catch (SQLException e) {
+            ShelterData cached = isConnectionFailure(e) ? cache.read(null) : null;
+            if (cached == null) {
+                throw e;
+            }
+            return cached;
+        }
+        ShelterData cached = cache.read(fingerprint);
+        if (cached != null) {
+            return cached;
+        }
+
+        ShelterData data = importShelterData();
+        try {
+            cache.write(data, fingerprint);
+        } catch (IOException e) {
+            e.printStackTrace(); // The import succeeded; the next start just imports again.
+        }
+        return data;
+    }
+
+    /**
+     * Reads a cheap fingerprint of the shelter's tables: the row count and largest ID of each table, plus weighted
+     * sums of the columns that can change in place, such as treatment start hours. Text columns, the animals'
+     * species and nicknames and the tasks' descriptions, are summed as hashes of their values. Any insert, delete,
+     * reschedule or rename changes the fingerprint, without reading the rows themselves into the application.
+     * 
+     * @return The fingerprint values.
+     * @throws SQLException If a database access error occurs or one of the table names is invalid.
+     */
+    public long[] importFingerprint() throws SQLException {
+        validateTableName("animals");
+        validateTableName("tasks");
+        validateTableName("treatments");
+        validateTableName("staffing");
+
+        String query = "SELECT "
+                + "(SELECT count(*) FROM animals), (SELECT coalesce(max(AnimalID), 0) FROM animals), "
+                + "(SELECT count(*) FROM tasks), (SELECT coalesce(max(TaskID), 0) FROM tasks), "
+                + weightedTextSum("animals", "AnimalID", "concat_ws('/', AnimalSpecies, AnimalNickname)") + ", "
+                + "(SELECT coalesce(sum((Duration * 31 + MaxWindow)::bigint * TaskID), 0) FROM tasks), "
+                + weightedTextSum("tasks", "TaskID", "Description") + ", "
+                + "(SELECT count(*) FROM treatments), (SELECT coalesce(max(TreatmentID), 0) FROM treatments), "
+                + "(SELECT coalesce(sum((StartHour + 1)::bigint * TreatmentID), 0) FROM treatments), "
+                + "(SELECT coalesce(sum((AnimalID * 31 + TaskID)::bigint * TreatmentID), 0) FROM treatments)";
+        String staffingQuery = "SELECT coalesce(sum((StaffCount + 1)::bigint * (StartHour + 1)), 0) FROM staffing";
+
+        try (Connection connection = borrowConnection();
+             Statement statement = connection.createStatement()) {
+            long[] fingerprint;
+            try (ResultSet resultSet = statement.executeQuery(query)) {
+                resultSet.next();
+                fingerprint = new long[resultSet.getMetaData().getColumnCount() + 1];
+                for (int i = 0; i < fingerprint.length - 1; i++) {
+                    fingerprint[i] = resultSet.getLong(i + 1);
+                }
+            }
+            try (ResultSet resultSet = statement.executeQuery(staffingQuery)) {
+                resultSet.next();
+                fingerprint[fingerprint.length - 1] = resultSet.getLong(1);
+            } catch (SQLException e) {
+                if (!isMissingTable(e)) {
+                    throw e;
+                }
+                fingerprint[fingerprint.length - 1] = -1; // No staffing table; the default roster is used.
+            }
+            return fingerprint;
+        }
+    }
+
+    // Helper method to build a subquery summing a hash of a text column weighted by each row's ID, like the
+    // weighted sums of the number columns. The hash is the first 32 bits of the text's MD5, so the products fit a
+    // bigint, and the sum is folded back into a bigint for tables whose sums would not fit one.
+    private static String weightedTextSum(String table, String idColumn, String text) {
+        return "(SELECT coalesce(sum(('x' || left(md5(" + text + "), 8))::bit(32)::int::bigint * " + idColumn
+                + ") % 9223372036854775807, 0) FROM " + table + ")";
+    }
+
+    /**
+     * Sets how many rows the streaming imports fetch from the database at a time. Larger fetches mean fewer round
+     * trips; smaller ones mean less memory.
+     * 
+     * @param fetchSize The number of rows per fetch. Must be positive.
+     * @throws IllegalArgumentException If the fetch size is not positive.
+     */
+    public void setFetchSize(int fetchSize) {
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException("Fetch size must be positive.");
+        }
+        this.fetchSize = fetchSize;
+    }
+
+    public int getFetchSize() { return fetchSize; }
+
+    /**
+     * Retrieves the 'staffing' table from the connected database and stores the number of staff on shift in each
+     * hour of the day in a StaffRoster. Hours missing from the table keep the roster's default of one staff member.
+     * 
+     * @return A StaffRoster holding the staff count of every hour.
+     * @throws SQLException If a database access error occurs or the 'staffing' table name is invalid.
+     * @throws IllegalArgumentException If a row has an hour or staff count out of range.
+     */
+    public StaffRoster importStaffingTable() throws SQLException {
+        try (Connection connection = borrowConnection()) {
+            return readStaffingTable(connection);
+        }
+    }
+
+    // Helper method to read the 'staffing' table on a connection the caller has borrowed.
+    private StaffRoster readStaffingTable(Connection connection) throws SQLException {
+        StaffRoster staffRoster = new StaffRoster();
+        String tableName = "staffing";
+        validateTableName(tableName);
+
         String query = "SELECT * FROM " + tableName;
 
-        try (Statement statement = dbConnection.createStatement();
+        try (Statement statement = connection.createStatement();
              ResultSet resultSet = statement.executeQuery(query)) {
             while (resultSet.next()) {
-                int treatmentID = resultSet.getInt("TreatmentID");
-                int animalID = resultSet.getInt("AnimalID");
-                int taskID = resultSet.getInt("TaskID");
                 int startHour = resultSet.getInt("StartHour");
+                int staffCount = resultSet.getInt("StaffCount");
 
-                Treatments treatment = new Treatments(treatmentID, animalID, taskID, startHour);
-                treatmentsArrayList.add(treatment);
+                staffRoster.setStaff(startHour, staffCount);
             }
         }
-        return treatmentsArrayList;   
+        return staffRoster;
     }
 
     /**
@@ -150,7 +503,8 @@ public class ImportData {
 
         String query = "UPDATE treatments SET StartHour = ? WHERE TreatmentID = ?";
         
-        try (PreparedStatement preparedStatement = dbConnection.prepareStatement(query)) {
+        try (Connection connection = borrowConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(query)) {
             preparedStatement.setInt(1, newStartHour);
             preparedStatement.setInt(2, treatmentID);
             preparedStatement.executeUpdate();
@@ -161,6 +515,225 @@ public class ImportData {
         }
     }
 
+    // Converts the current row of a result set into an object.
+    private interface RowReader<T> {
+        T read(ResultSet resultSet) throws SQLException;
+    }
+
+    // Helper method to run a query through a cursor and hand each row to a sink as it arrives. PostgreSQL's
+    // driver only uses a cursor, instead of buffering the whole result, inside a transaction with a fetch size.
+    // The pool rolls back and restores auto-commit when the connection is returned, even if reading fails.
+    private <T> int streamQuery(String query, RowReader<T> reader, Consumer<? super T> sink) throws SQLException {
+        try (Connection connection = borrowConnection()) {
+            connection.setAutoCommit(false);
+            int rows = streamRows(connection, query, reader, sink);
+            connection.commit();
+            return rows;
+        }
+    }
+
+    // Helper method to read a query through a cursor on a connection that is already inside a transaction.
+    private <T> int streamRows(Connection connection, String query, RowReader<T> reader, Consumer<? super T> sink)
+            throws SQLException {
+        return streamRows(connection, query, resultSet -> sink.accept(reader.read(resultSet)));
+    }
+
+    // Handles the current row of a result set without turning it into an object first.
+    private interface RowHandler {
+        void handle(ResultSet resultSet) throws SQLException;
+    }
+
+    // Helper method to hand each row of a query, read through a cursor, to a handler.
+    private int streamRows(Connection connection, String query, RowHandler handler) throws SQLException {
+        int rows = 0;
+        try (Statement statement = connection.createStatement(ResultSet.TYPE_FORWARD_ONLY,
+                ResultSet.CONCUR_READ_ONLY)) {
+            statement.setFetchSize(fetchSize);
+            try (ResultSet resultSet = statement.executeQuery(query)) {
+                while (resultSet.next()) {
+                    handler.handle(resultSet);
+                    rows++;
+                }
+            }
+        }
+        return rows;
+    }
+
+    // Helper method to turn a row of the joined treatment query into a medical item.
+    private static Item readTreatmentItem(ResultSet resultSet) throws SQLException {
+        return new Item(resultSet.getInt("AnimalID"), resultSet.getInt("TaskID"), resultSet.getInt("StartHour"),
+                resultSet.getInt("MaxWindow"), resultSet.getInt("Duration"), resultSet.getInt("TreatmentID"));
+    }
+
+    // Work done inside a transaction on a connection.
+    private interface TransactionWork<T> {
+        T run() throws SQLException;
+    }
+
+    // Reads a table on a connection whose transaction uses the shared snapshot.
+    private interface SnapshotReader<T> {
+        T read(Connection connection) throws SQLException;
+    }
+
+    // Helper method to read every table at once: the animals on the exporting connection, and the rest on up to
+    // the given number of connections of their own using the exported snapshot.
+    private ShelterData readInParallel(Connection exporter, String snapshotID, int readerCount) throws SQLException {
+        ForkJoinPool readers = new ForkJoinPool(readerCount);
+        try {
+            Future<HashMap<Integer, Tasks>> tasks = readers.submit(
+                    () -> readInSnapshot(snapshotID, this::readTasksTable));
+            Future<ItemStore> treatmentStore = readers.submit(
+                    () -> readInSnapshot(snapshotID, this::readTreatmentStore));
+            Future<StaffRoster> staffing = readers.submit(
+                    () -> readInSnapshot(snapshotID, this::readStaffingTable));
+            HashMap<Integer, Animal> animals = readAnimalsTable(exporter);
+
+            StaffRoster staffRoster;
+            try {
+                staffRoster = staffing.get();
+            } catch (ExecutionException e) {
+                if (!(e.getCause() instanceof SQLException) || !isMissingTable((SQLException) e.getCause())) {
+                    throw e;
+                }
+                staffRoster = new StaffRoster(); // Shelters without a staffing table have one staff member per hour.
+            }
+            return new ShelterData(animals, tasks.get(), treatmentStore.get(), staffRoster);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SQLException) {
+                throw (SQLException) e.getCause();
+            }
+            throw new SQLException("Importing the shelter's data failed.", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while importing the shelter's data.", e);
+        } finally {
+            readers.shutdown();
+        }
+    }
+
+    // Helper method to read every table one after another in the transaction already open on a connection. The
+    // staffing table is read last, behind a savepoint, so that a shelter without one keeps the transaction usable.
+    private ShelterData readInTurn(Connection connection) throws SQLException {
+        HashMap<Integer, Animal> animals = readAnimalsTable(connection);
+        HashMap<Integer, Tasks> tasks = readTasksTable(connection);
+        ItemStore treatmentStore = readTreatmentStore(connection);
+        StaffRoster staffRoster;
+        Savepoint savepoint = connection.setSavepoint();
+        try {
+            staffRoster = readStaffingTable(connection);
+        } catch (SQLException e) {
+            if (!isMissingTable(e)) {
+                throw e;
+            }
+            connection.rollback(savepoint);
+            staffRoster = new StaffRoster(); // Shelters without a staffing table have one staff member per hour.
+        }
+        return new ShelterData(animals, tasks, treatmentStore, staffRoster);
+    }
+
+    // Helper method to read the joined treatment query on a connection that is already inside a transaction,
+    // copying each row's columns into a store as it comes off the cursor instead of creating an Item for it.
+    private ItemStore readTreatmentStore(Connection connection) throws SQLException {
+        ItemStore items = new ItemStore();
+        streamRows(connection, TREATMENT_ITEMS_QUERY, resultSet -> items.add(resultSet.getInt("AnimalID"),
+                resultSet.getInt("TaskID"), resultSet.getInt("StartHour"), resultSet.getInt("MaxWindow"),
+                resultSet.getInt("Duration"), resultSet.getInt("TreatmentID")));
+        return items;
+    }
+
+    // Helper method to borrow a connection and read from it in a transaction that adopts an exported snapshot.
+    private <T> T readInSnapshot(String snapshotID, SnapshotReader<T> reader) throws SQLException {
+        if (!snapshotID.matches("[0-9A-Fa-f-]+")) {
+            throw new SQLException("Invalid snapshot ID: " + snapshotID); // SET cannot take a bind parameter.
+        }
+        try (Connection connection = borrowConnection()) {
+            return inRepeatableRead(connection, () -> {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("SET TRANSACTION SNAPSHOT '" + snapshotID + "'");
+                }
+                return reader.read(connection);
+            });
+        }
+    }
+
+    // Helper method to run work in a repeatable-read transaction and then put the connection back the way it
+    // was, so the pool never lends out a connection with a changed isolation level.
+    private <T> T inRepeatableRead(Connection connection, TransactionWork<T> work) throws SQLException {
+        int isolation = connection.getTransactionIsolation();
+        connection.setAutoCommit(false);
+        connection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+        try {
+            T result = work.run();
+            connection.commit();
+            return result;
+        } finally {
+            connection.rollback();
+            connection.setTransactionIsolation(isolation);
+            connection.setAutoCommit(true);
+        }
+    }
+
+    // Helper method to tell a database that cannot be reached from other failures, by its SQL state class.
+    private boolean isConnectionFailure(SQLException e) {
+        return e.getSQLState() != null && e.getSQLState().startsWith("08");
+    }
+
+    // Helper method to tell a query on a table that does not exist, such as a shelter's optional staffing table,
+    // from every other failure.
+    private static boolean isMissingTable(SQLException e) {
+        return UNDEFINED_TABLE.equals(e.getSQLState());
+    }
+
+    // Helper method to borrow a connection from the pool, failing like a query would if there is no connection.
+    private Connection borrowConnection() throws SQLException {
+        if (connectionPool == null) {
+            throw noConnection();
+        }
+        return connectionPool.borrow();
+    }
+
+    // Helper method to create the exception a query fails with when there is no connection pool to borrow from.
+    private SQLException noConnection() {
+        if (connectionFailure != null) {
+            return new SQLException("The database could not be reached.", connectionFailure.getSQLState(),
+                    connectionFailure);
+        }
+        return new SQLException("No database connection has been established.");
+    }
+
+    /**
+     * Updates the start hours of several treatments with one JDBC batch in a single transaction, so either every
+     * change is written or none is.
+     * 
+     * @param startHours The new start hour of each treatment, keyed by treatment ID.
+     * @throws SQLException If a database access error occurs; no change is written.
+     * @throws IllegalArgumentException If a start hour is outside the 0-23 range.
+     */
+    @Override
+    public void updateTreatmentStartHours(Map<Integer, Integer> startHours) throws SQLException {
+        for (int newStartHour : startHours.values()) {
+            if (newStartHour < 0 || newStartHour > 23) {
+                throw new IllegalArgumentException("Start hour must be between 0 and 23.");
+            }
+        }
+
+        String query = "UPDATE treatments SET StartHour = ? WHERE TreatmentID = ?";
+
+        // The pool rolls back the transaction when the connection is returned without a commit.
+        try (Connection connection = borrowConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+                for (Map.Entry<Integer, Integer> change : startHours.entrySet()) {
+                    preparedStatement.setInt(1, change.getValue());
+                    preparedStatement.setInt(2, change.getKey());
+                    preparedStatement.addBatch();
+                }
+                preparedStatement.executeBatch();
+            }
+            connection.commit();
+        }
+    }
+
     // Helper method to validate the table name is within the expected list of valid tables.
     private void validateTableName(String tableName) throws SQLException {
         if (!validTableNames.contains(tableName.toLowerCase())) {
@@ -168,8 +741,10 @@ public class ImportData {
         }
     }
 
-    // Helper method to create an Animal object based on its species.
-    private Animal createAnimalBySpecies(int id, String nickName, String species) {
+    // Helper method to create an Animal object based on its species. Also used to rebuild animals from a snapshot.
+    // How a species is cared for comes from its SpeciesProfile, so species without a class of their own are plain
+    // Animals rather than being dropped.
+    static Animal createAnimalBySpecies(int id, String nickName, String species) {
         switch (species) {
             case "beaver":
                 return new Beaver(id, nickName, species);
@@ -182,8 +757,7 @@ public class ImportData {
             case "raccoon":
                 return new Raccoon(id, nickName, species);
             default:
-                System.err.println("Unknown species: " + species);
-                return null;
+                return new Animal(id, nickName, species);
         }
     }
 }
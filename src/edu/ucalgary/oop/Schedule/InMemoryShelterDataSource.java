@@ -0,0 +1,100 @@
+package edu.ucalgary.oop.Schedule;
+
+import java.util.*;
+import edu.ucalgary.oop.Medical.*;
+import edu.ucalgary.oop.Animals.*;
+
+/**
+ * Holds a shelter's tables in memory, so a {@link Schedule} can be built and rescheduled without a database, for
+ * example from generated data in tests and benchmarks. Each {@link #load()} hands out a fresh copy of the tables,
+ * and rescheduled treatments change the held copy, so a later load sees them like a database would.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class InMemoryShelterDataSource implements ShelterDataSource {
+    private final HashMap<Integer, Animal> animals;
+    private final HashMap<Integer, Tasks> tasks;
+    private final ArrayList<Item> treatmentItems;
+    private final HashMap<Integer, Integer> treatmentIndex = new HashMap<>(); // Treatment ID to list position.
+    private final StaffRoster staffRoster;
+
+    /**
+     * Constructs a source holding a copy of the given tables.
+     *
+     * @param data The shelter's tables.
+     * @throws IllegalArgumentException if the data is null.
+     */
+    public InMemoryShelterDataSource(ShelterData data) {
+        if (data == null) {
+            throw new IllegalArgumentException("Shelter data cannot be null.");
+        }
+        ShelterData copy = copy(data);
+        this.animals = copy.getAnimals();
+        this.tasks = copy.getTasks();
+        this.treatmentItems = copy.getTreatmentItems();
+        this.staffRoster = copy.getStaffRoster();
+        for (int i = 0; i < treatmentItems.size(); i++) {
+            treatmentIndex.put(treatmentItems.get(i).getTreatmentID(), i);
+        }
+    }
+
+    /**
+     * Returns a copy of the held tables.
+     *
+     * @return The shelter's tables, which the caller is free to change.
+     */
+    @Override
+    public synchronized ShelterData load() {
+        return copy(new ShelterData(animals, tasks, treatmentItems, staffRoster));
+    }
+
+    /**
+     * Changes the start hours of the held treatments. Treatments that are not held are ignored, like an update
+     * that matches no row.
+     *
+     * @param startHours The new start hour of each treatment, keyed by treatment ID.
+     * @throws IllegalArgumentException if a start hour is outside the 0-23 range; no change is made.
+     */
+    @Override
+    public synchronized void updateTreatmentStartHours(Map<Integer, Integer> startHours) {
+        for (int startHour : startHours.values()) {
+            if (startHour < 0 || startHour > 23) {
+                throw new IllegalArgumentException("Start hour must be between 0 and 23.");
+            }
+        }
+        for (Map.Entry<Integer, Integer> change : startHours.entrySet()) {
+            Integer index = treatmentIndex.get(change.getKey());
+            if (index != null) {
+                treatmentItems.get(index).setStartHour(change.getValue());
+            }
+        }
+    }
+
+    /**
+     * Does nothing, as the tables are only held in memory.
+     */
+    @Override
+    public void close() {
+    }
+
+    // Helper method to copy the tables, so that neither the caller nor this source sees the other's changes.
+    // Tasks cannot change, so they are shared.
+    private static ShelterData copy(ShelterData data) {
+        HashMap<Integer, Animal> animals = new HashMap<>();
+        for (Animal animal : data.getAnimals().values()) {
+            animals.put(animal.getID(),
+                    ImportData.createAnimalBySpecies(animal.getID(), animal.getNickName(), animal.getAnimalSpecies()));
+        }
+        ItemStore treatmentStore = data.getTreatmentStore().copy();
+        StaffRoster staffRoster = new StaffRoster();
+        for (int hour = 0; hour < 24; hour++) {
+            staffRoster.setStaff(hour, data.getStaffRoster().getStaff(hour));
+        }
+        return new ShelterData(animals, new HashMap<>(data.getTasks()), treatmentStore, staffRoster);
+    }
+}
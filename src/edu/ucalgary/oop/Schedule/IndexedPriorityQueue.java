@@ -0,0 +1,169 @@
+package edu.ucalgary.oop.Schedule;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * A binary min-heap over the indices {@code 0..size-1} with a {@code long} key per index. Besides inserting and
+ * removing the lowest key, the key of an index already in the queue can be changed in O(log n), which lets
+ * {@link OrderedPlacer} re-rank items as capacity is consumed. Ties are broken by the lower index, so items with
+ * equal keys come out in the order they were generated.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class IndexedPriorityQueue {
+    private final int[] heap;      // Heap position to index.
+    private final int[] positions; // Index to heap position, or -1 if the index is not in the queue.
+    private final long[] keys;     // Key of each index.
+    private int size = 0;
+
+    /**
+     * Constructs an empty queue that can hold the indices {@code 0..capacity-1}.
+     *
+     * @param capacity The number of indices the queue can hold. Must be non-negative.
+     * @throws IllegalArgumentException if the capacity is negative.
+     */
+    public IndexedPriorityQueue(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must be non-negative.");
+        }
+        this.heap = new int[capacity];
+        this.positions = new int[capacity];
+        this.keys = new long[capacity];
+        Arrays.fill(positions, -1);
+    }
+
+    /**
+     * Returns whether the queue holds no indices.
+     *
+     * @return true if the queue is empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of indices in the queue.
+     *
+     * @return The queue size.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether an index is in the queue.
+     *
+     * @param index The index to check.
+     * @return true if the index has been inserted and not yet polled.
+     */
+    public boolean contains(int index) {
+        checkIndex(index);
+        return positions[index] >= 0;
+    }
+
+    /**
+     * Inserts an index with a key.
+     *
+     * @param index The index to insert.
+     * @param key The index's key.
+     * @throws IllegalArgumentException if the index is out of range or already in the queue.
+     */
+    public void insert(int index, long key) {
+        if (contains(index)) {
+            throw new IllegalArgumentException("Index is already in the queue: " + index);
+        }
+        keys[index] = key;
+        positions[index] = size;
+        heap[size] = index;
+        siftUp(size++);
+    }
+
+    /**
+     * Changes the key of an index in the queue, moving it up or down as needed.
+     *
+     * @param index The index whose key changes.
+     * @param key The new key.
+     * @throws IllegalArgumentException if the index is out of range or not in the queue.
+     */
+    public void changeKey(int index, long key) {
+        if (!contains(index)) {
+            throw new IllegalArgumentException("Index is not in the queue: " + index);
+        }
+        keys[index] = key;
+        siftUp(positions[index]);
+        siftDown(positions[index]);
+    }
+
+    /**
+     * Removes and returns the index with the lowest key.
+     *
+     * @return The index with the lowest key.
+     * @throws NoSuchElementException if the queue is empty.
+     */
+    public int poll() {
+        if (size == 0) {
+            throw new NoSuchElementException("Queue is empty.");
+        }
+        int min = heap[0];
+        swap(0, --size);
+        positions[min] = -1;
+        siftDown(0);
+        return min;
+    }
+
+    // Helper method to move the entry at a heap position up until its parent is smaller.
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (!less(position, parent)) {
+                break;
+            }
+            swap(position, parent);
+            position = parent;
+        }
+    }
+
+    // Helper method to move the entry at a heap position down until both children are larger.
+    private void siftDown(int position) {
+        while (2 * position + 1 < size) {
+            int child = 2 * position + 1;
+            if (child + 1 < size && less(child + 1, child)) {
+                child++;
+            }
+            if (!less(child, position)) {
+                break;
+            }
+            swap(position, child);
+            position = child;
+        }
+    }
+
+    // Helper method to compare two heap positions by key, then by index.
+    private boolean less(int a, int b) {
+        long keyA = keys[heap[a]];
+        long keyB = keys[heap[b]];
+        return keyA < keyB || (keyA == keyB && heap[a] < heap[b]);
+    }
+
+    // Helper method to swap two heap positions and keep the position table in step.
+    private void swap(int a, int b) {
+        int index = heap[a];
+        heap[a] = heap[b];
+        heap[b] = index;
+        positions[heap[a]] = a;
+        positions[heap[b]] = b;
+    }
+
+    // Helper method to validate an index against the queue's capacity.
+    private void checkIndex(int index) {
+        if (index < 0 || index >= positions.length) {
+            throw new IllegalArgumentException("Index out of range: " + index);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package edu.ucalgary.oop.Schedule;
+
+import java.util.*;
+
+/**
+ * Stores values with half-open intervals of minutes, [start, end), and answers which values overlap a minute or a
+ * range of minutes. Intervals may overlap each other, as they do when a backup volunteer works alongside the
+ * regular staff. An empty interval, where start equals end, never overlaps anything.
+ * <p>
+ * The intervals are kept in a treap ordered by start minute, where every node also records the latest end of any
+ * interval in its subtree. A query skips every subtree whose latest end is before the queried range and every
+ * right subtree starting after it, so finding the k intervals that overlap a range takes O(log n + k) expected
+ * time. Insertion and removal also take O(log n) expected time.
+ * </p>
+ *
+ * @param <T> The type of the values stored with the intervals.
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class IntervalTree<T> {
+    private final Random random = new Random(0x5EED);
+    private final IdentityHashMap<T, Node<T>> nodes = new IdentityHashMap<>();
+    private Node<T> root = null;
+    private long nextSequence = 0;
+
+    // A node of the treap. Ties on start minute are broken by insertion sequence so every key is unique.
+    private static class Node<T> {
+        final T value;
+        final int start;
+        final int end;
+        final long sequence;
+        final int priority;
+        int maxEnd;
+        Node<T> left;
+        Node<T> right;
+
+        Node(T value, int start, int end, long sequence, int priority) {
+            this.value = value;
+            this.start = start;
+            this.end = end;
+            this.sequence = sequence;
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+    }
+
+    /**
+     * Adds a value with the interval [start, end), replacing the interval of the value if it is already stored.
+     *
+     * @param value The value to store. Values are told apart by identity.
+     * @param start The first minute of the interval.
+     * @param end The minute after the last minute of the interval. Must not be before start.
+     * @throws IllegalArgumentException if the value is null or the interval ends before it starts.
+     */
+    public void insert(T value, int start, int end) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value cannot be null.");
+        }
+        if (end < start) {
+            throw new IllegalArgumentException("Interval cannot end before it starts.");
+        }
+        remove(value);
+        Node<T> node = new Node<>(value, start, end, nextSequence++, random.nextInt());
+        nodes.put(value, node);
+        root = insert(root, node);
+    }
+
+    /**
+     * Removes a value and its interval.
+     *
+     * @param value The value to remove.
+     * @return true if the value was stored.
+     */
+    public boolean remove(T value) {
+        Node<T> node = nodes.remove(value);
+        if (node == null) {
+            return false;
+        }
+        root = remove(root, node);
+        return true;
+    }
+
+    /**
+     * Checks whether a value is stored.
+     *
+     * @param value The value to look for.
+     * @return true if the value is stored.
+     */
+    public boolean contains(T value) {
+        return nodes.containsKey(value);
+    }
+
+    /**
+     * Returns the number of stored values.
+     *
+     * @return The number of values.
+     */
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * Returns the values whose interval contains a minute.
+     *
+     * @param minute The minute to look up.
+     * @return The matching values, in order of start minute.
+     */
+    public ArrayList<T> valuesAt(int minute) {
+        return valuesBetween(minute, minute + 1);
+    }
+
+    /**
+     * Returns the values whose interval overlaps the range [from, to).
+     *
+     * @param from The first minute of the range.
+     * @param to The minute after the last minute of the range.
+     * @return The matching values, in order of start minute.
+     */
+    public ArrayList<T> valuesBetween(int from, int to) {
+        ArrayList<T> values = new ArrayList<>();
+        collect(root, from, to, values);
+        return values;
+    }
+
+    // Helper method to collect the values of a subtree that overlap [from, to), in order.
+    private void collect(Node<T> node, int from, int to, ArrayList<T> values) {
+        if (node == null || node.maxEnd <= from) {
+            return;
+        }
+        collect(node.left, from, to, values);
+        if (node.start >= to) {
+            return;
+        }
+        if (node.end > from) {
+            values.add(node.value);
+        }
+        collect(node.right, from, to, values);
+    }
+
+    // Helper method to insert a node into a subtree, rotating it up while its priority is higher than its parent's.
+    private Node<T> insert(Node<T> subtree, Node<T> node) {
+        if (subtree == null) {
+            return node;
+        }
+        if (before(node, subtree)) {
+            subtree.left = insert(subtree.left, node);
+            if (subtree.left.priority > subtree.priority) {
+                subtree = rotateRight(subtree);
+            }
+        } else {
+            subtree.right = insert(subtree.right, node);
+            if (subtree.right.priority > subtree.priority) {
+                subtree = rotateLeft(subtree);
+            }
+        }
+        pull(subtree);
+        return subtree;
+    }
+
+    // Helper method to remove a node from a subtree by merging its children in its place.
+    private Node<T> remove(Node<T> subtree, Node<T> node) {
+        if (subtree == node) {
+            return merge(node.left, node.right);
+        }
+        if (before(node, subtree)) {
+            subtree.left = remove(subtree.left, node);
+        } else {
+            subtree.right = remove(subtree.right, node);
+        }
+        pull(subtree);
+        return subtree;
+    }
+
+    // Helper method to merge two subtrees where every key of the left one comes before the right one.
+    private Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            pull(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        pull(right);
+        return right;
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        Node<T> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        pull(node);
+        pull(pivot);
+        return pivot;
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        Node<T> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        pull(node);
+        pull(pivot);
+        return pivot;
+    }
+
+    // Helper method to recompute a node's latest end from its own interval and its children.
+    private void pull(Node<T> node) {
+        int maxEnd = node.end;
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+    }
+
+    // Helper method to order nodes by start minute, then by insertion sequence.
+    private boolean before(Node<T> a, Node<T> b) {
+        return a.start < b.start || (a.start == b.start && a.sequence < b.sequence);
+    }
+}
@@ -25,6 +25,12 @@ public class Item {
     private int maxWindow;
     private int duration;
     private int treatmentID;
+    private int day = 0; // Day of the planning horizon the item belongs to, counted from day 0.
+    private int scheduledHour = -1; // Absolute hour the item was placed in, or -1 while it is not placed.
+    private int reservedMinutes = 0; // Minutes reserved for the item, including any food prep.
+    private int carryMinutes = 0; // Minutes of the reservation that run on into the next hour.
+    private int lane = -1; // Staff lane of the hour the item was given to, or -1 while it is not placed.
+    private int startMinute = -1; // Absolute minute the item starts at, or -1 while it is not placed.
     private boolean needsVolunteer = false;
 
     /**
@@ -89,6 +95,85 @@ public class Item {
         this.startHour = startHour;
     }
 
+    /**
+     * Updates the day of the planning horizon this item belongs to. Together with the start hour this gives
+     * the absolute hour at which the item's window opens.
+     *
+     * @param day The day the item is planned for, counted from day 0. Must be non-negative.
+     * @throws IllegalArgumentException If the provided day is negative.
+     */
+    public void setDay(int day) throws IllegalArgumentException {
+        if (day < 0) {
+            throw new IllegalArgumentException("Day must be non-negative.");
+        }
+        this.day = day;
+    }
+
+    /**
+     * Returns the absolute hour at which this item's window opens, counted from midnight of day 0.
+     *
+     * @return The start hour offset by 24 hours for every day of the horizon before the item's day.
+     */
+    public int getAbsoluteStartHour() {
+        return day * 24 + startHour;
+    }
+
+    /**
+     * Records where the schedule placed this item. Only the schedule updates placements.
+     *
+     * @param scheduledHour The absolute hour the item was placed in.
+     * @param lane The lane of the person doing the item in that hour.
+     * @param reservedMinutes The minutes reserved for the item in that hour.
+     */
+    void setPlacement(int scheduledHour, int lane, int reservedMinutes) {
+        setPlacement(scheduledHour, lane, reservedMinutes, 0);
+    }
+
+    /**
+     * Records where the schedule placed this item when it starts late in an hour and finishes in the next one.
+     * Only the schedule updates placements.
+     *
+     * @param scheduledHour The absolute hour the item starts in.
+     * @param lane The lane of the person doing the item, the same in both hours.
+     * @param reservedMinutes The minutes reserved for the item across both hours.
+     * @param carryMinutes The part of the reserved minutes that falls in the hour after scheduledHour.
+     */
+    void setPlacement(int scheduledHour, int lane, int reservedMinutes, int carryMinutes) {
+        this.scheduledHour = scheduledHour;
+        this.lane = lane;
+        this.reservedMinutes = reservedMinutes;
+        this.carryMinutes = carryMinutes;
+    }
+
+    /**
+     * Records the minute the item starts at within its placement. Only the schedule lays out placed items.
+     *
+     * @param startMinute The absolute minute, counted from midnight of day 0.
+     */
+    void setStartMinute(int startMinute) {
+        this.startMinute = startMinute;
+    }
+
+    /**
+     * Marks this item as no longer placed, after the schedule has released its minutes.
+     */
+    void clearPlacement() {
+        this.scheduledHour = -1;
+        this.reservedMinutes = 0;
+        this.carryMinutes = 0;
+        this.lane = -1;
+        this.startMinute = -1;
+    }
+
+    /**
+     * Returns the minute after the last minute this item is worked on.
+     *
+     * @return The absolute end minute, or -1 while the item is not placed.
+     */
+    public int getEndMinute() {
+        return startMinute < 0 ? -1 : startMinute + reservedMinutes;
+    }
+
     /**
      * Updates volunteer flag if a schedule hour conflict
      * User must choose to select a volunteer for the conflict
@@ -105,5 +190,11 @@ public class Item {
     public int getMaxWindow() { return maxWindow; }
     public int getDuration() { return duration; }
     public int getTreatmentID() { return treatmentID; }
+    public int getDay() { return day; }
+    public int getScheduledHour() { return scheduledHour; }
+    public int getReservedMinutes() { return reservedMinutes; }
+    public int getCarryMinutes() { return carryMinutes; }
+    public int getLane() { return lane; }
+    public int getStartMinute() { return startMinute; }
     public boolean getNeedsVolunteer() { return needsVolunteer; }
 }
@@ -0,0 +1,271 @@
+package edu.ucalgary.oop.Schedule;
+
+import java.util.*;
+
+/**
+ * Holds a batch of unplaced items column by column, in parallel arrays of animal IDs, task IDs, start hours,
+ * windows, durations, treatment IDs and days, with a bitset for the items that need a backup volunteer. An item
+ * is just its index in the store. A day of items takes a handful of arrays instead of one object per item, so the
+ * placement engines, the feasibility analysis and the duration simulation read a day's items without allocating.
+ * <p>
+ * The store is where a day is staged, not where the plan is kept, and the planner does not run over it. Once a
+ * day is placed, the {@link Schedule} has created an {@link Item} for every one of its items, placed or left out,
+ * as the interval index, the snapshots, the conflict policy and treatment moves all work on Items. A planned run
+ * therefore still holds one Item per item it plans, so a million-item day takes a million Items. The savings are
+ * in the analyses and simulations run over a day, which copy the store instead of its Items, in the lists of a
+ * day's items, which are no longer built and copied, and in the treatments kept between days.
+ * </p>
+ * <p>
+ * Items are validated like {@link Item}s when they are added. The arrays grow by half when full.
+ * </p>
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class ItemStore {
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int size = 0;
+    private int[] animalIDs;
+    private int[] taskIDs;
+    private int[] startHours;
+    private int[] maxWindows;
+    private int[] durations;
+    private int[] treatmentIDs;
+    private int[] days;
+    private final BitSet needsVolunteer = new BitSet();
+
+    /**
+     * Constructs an empty store.
+     */
+    public ItemStore() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty store with room for a number of items before it has to grow.
+     *
+     * @param capacity The initial capacity. Must be non-negative.
+     * @throws IllegalArgumentException if the capacity is negative.
+     */
+    public ItemStore(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must be non-negative.");
+        }
+        animalIDs = new int[capacity];
+        taskIDs = new int[capacity];
+        startHours = new int[capacity];
+        maxWindows = new int[capacity];
+        durations = new int[capacity];
+        treatmentIDs = new int[capacity];
+        days = new int[capacity];
+    }
+
+    /**
+     * Creates a store holding copies of the planning fields of items, in the same order.
+     *
+     * @param items The items to copy.
+     * @return A store with one entry per item.
+     */
+    public static ItemStore from(List<Item> items) {
+        ItemStore store = new ItemStore(items.size());
+        for (Item item : items) {
+            store.add(item);
+        }
+        return store;
+    }
+
+    /**
+     * Adds an item for day 0.
+     *
+     * @param animalID The animal the item is for.
+     * @param taskID The task to perform.
+     * @param startHour The hour of the day (0-23) the item's window opens.
+     * @param maxWindow The number of hours in the window, between 0 and 24.
+     * @param duration The minutes the item takes. Must be non-negative.
+     * @param treatmentID The treatment the item comes from, or 0 if none.
+     * @return The index of the new item.
+     * @throws IllegalArgumentException if a timing value is out of range.
+     */
+    public int add(int animalID, int taskID, int startHour, int maxWindow, int duration, int treatmentID) {
+        if (duration < 0) {
+            throw new IllegalArgumentException("Duration must be non-negative.");
+        }
+        if (maxWindow < 0 || maxWindow > 24) {
+            throw new IllegalArgumentException("Max window must be between 0 and 24 hours.");
+        }
+        if (startHour < 0 || startHour > 23) {
+            throw new IllegalArgumentException("Start hour must be between 0 and 23.");
+        }
+        if (size == animalIDs.length) {
+            grow();
+        }
+        animalIDs[size] = animalID;
+        taskIDs[size] = taskID;
+        startHours[size] = startHour;
+        maxWindows[size] = maxWindow;
+        durations[size] = duration;
+        treatmentIDs[size] = treatmentID;
+        days[size] = 0;
+        return size++;
+    }
+
+    /**
+     * Adds the planning fields of an item, including its day and whether it needs a volunteer.
+     *
+     * @param item The item to copy.
+     * @return The index of the new item.
+     */
+    public int add(Item item) {
+        int index = add(item.getAnimalID(), item.getTaskID(), item.getStartHour(), item.getMaxWindow(),
+                item.getDuration(), item.getTreatmentID());
+        days[index] = item.getDay();
+        needsVolunteer.set(index, item.getNeedsVolunteer());
+        return index;
+    }
+
+    /**
+     * Creates a copy of this store, so that fields such as durations can be changed without affecting it.
+     *
+     * @return The copy.
+     */
+    public ItemStore copy() {
+        ItemStore copy = new ItemStore(0);
+        copy.size = size;
+        copy.animalIDs = Arrays.copyOf(animalIDs, size);
+        copy.taskIDs = Arrays.copyOf(taskIDs, size);
+        copy.startHours = Arrays.copyOf(startHours, size);
+        copy.maxWindows = Arrays.copyOf(maxWindows, size);
+        copy.durations = Arrays.copyOf(durations, size);
+        copy.treatmentIDs = Arrays.copyOf(treatmentIDs, size);
+        copy.days = Arrays.copyOf(days, size);
+        copy.needsVolunteer.or(needsVolunteer);
+        return copy;
+    }
+
+    /**
+     * Creates an Item with the fields of a stored item.
+     *
+     * @param index The item's index.
+     * @return A new, unplaced Item.
+     */
+    public Item toItem(int index) {
+        checkIndex(index);
+        Item item = new Item(animalIDs[index], taskIDs[index], startHours[index], maxWindows[index],
+                durations[index], treatmentIDs[index]);
+        item.setDay(days[index]);
+        item.setNeedsVolunteer(needsVolunteer.get(index));
+        return item;
+    }
+
+    /**
+     * Creates an Item for every stored item, in order.
+     *
+     * @return The new Items.
+     */
+    public ArrayList<Item> toItems() {
+        ArrayList<Item> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(toItem(i));
+        }
+        return items;
+    }
+
+    /**
+     * Sets the day of the planning horizon of every stored item.
+     *
+     * @param day The day, counted from day 0. Must be non-negative.
+     * @throws IllegalArgumentException if the day is negative.
+     */
+    public void setDay(int day) {
+        if (day < 0) {
+            throw new IllegalArgumentException("Day must be non-negative.");
+        }
+        Arrays.fill(days, 0, size, day);
+    }
+
+    /**
+     * Changes the hour of the day a stored item's window opens.
+     *
+     * @param index The item's index.
+     * @param startHour The new start hour, between 0 and 23.
+     * @throws IllegalArgumentException if the start hour is outside the 0-23 range.
+     */
+    public void setStartHour(int index, int startHour) {
+        checkIndex(index);
+        if (startHour < 0 || startHour > 23) {
+            throw new IllegalArgumentException("Start hour must be between 0 and 23.");
+        }
+        startHours[index] = startHour;
+    }
+
+    /**
+     * Changes the minutes a stored item takes.
+     *
+     * @param index The item's index.
+     * @param duration The new duration. Must be non-negative.
+     * @throws IllegalArgumentException if the duration is negative.
+     */
+    public void setDuration(int index, int duration) {
+        checkIndex(index);
+        if (duration < 0) {
+            throw new IllegalArgumentException("Duration must be non-negative.");
+        }
+        durations[index] = duration;
+    }
+
+    /**
+     * Marks whether a stored item needs a backup volunteer.
+     *
+     * @param index The item's index.
+     * @param needsVolunteer true if the item needs a volunteer.
+     */
+    public void setNeedsVolunteer(int index, boolean needsVolunteer) {
+        checkIndex(index);
+        this.needsVolunteer.set(index, needsVolunteer);
+    }
+
+    /**
+     * Returns the absolute hour at which a stored item's window opens, counted from midnight of day 0.
+     *
+     * @param index The item's index.
+     * @return The start hour offset by 24 hours for every day before the item's day.
+     */
+    public int getAbsoluteStartHour(int index) {
+        checkIndex(index);
+        return days[index] * 24 + startHours[index];
+    }
+
+    public int size() { return size; }
+    public int getAnimalID(int index) { checkIndex(index); return animalIDs[index]; }
+    public int getTaskID(int index) { checkIndex(index); return taskIDs[index]; }
+    public int getStartHour(int index) { checkIndex(index); return startHours[index]; }
+    public int getMaxWindow(int index) { checkIndex(index); return maxWindows[index]; }
+    public int getDuration(int index) { checkIndex(index); return durations[index]; }
+    public int getTreatmentID(int index) { checkIndex(index); return treatmentIDs[index]; }
+    public int getDay(int index) { checkIndex(index); return days[index]; }
+    public boolean getNeedsVolunteer(int index) { checkIndex(index); return needsVolunteer.get(index); }
+
+    // Helper method to grow every column by half, and by at least one item.
+    private void grow() {
+        int capacity = Math.max(animalIDs.length + (animalIDs.length >> 1), animalIDs.length + 1);
+        animalIDs = Arrays.copyOf(animalIDs, capacity);
+        taskIDs = Arrays.copyOf(taskIDs, capacity);
+        startHours = Arrays.copyOf(startHours, capacity);
+        maxWindows = Arrays.copyOf(maxWindows, capacity);
+        durations = Arrays.copyOf(durations, capacity);
+        treatmentIDs = Arrays.copyOf(treatmentIDs, capacity);
+        days = Arrays.copyOf(days, capacity);
+    }
+
+    // Helper method to reject indices past the stored items, which the arrays' spare capacity would not catch.
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " is outside a store of " + size + " items.");
+        }
+    }
+}
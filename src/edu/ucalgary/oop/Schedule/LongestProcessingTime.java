@@ -0,0 +1,30 @@
+package edu.ucalgary.oop.Schedule;
+
+/**
+ * Orders items by duration, placing the longest task first so that short tasks fill the gaps left behind.
+ * Items with the same duration are placed by the smallest window.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class LongestProcessingTime implements OrderingStrategy {
+
+    @Override
+    public String getName() {
+        return "Longest processing time";
+    }
+
+    @Override
+    public long rank(ItemStore items, int item, CapacityTimeline timeline) {
+        return ((long) -items.getDuration(item) << 8) | items.getMaxWindow(item);
+    }
+
+    @Override
+    public boolean isDynamic() {
+        return false;
+    }
+}
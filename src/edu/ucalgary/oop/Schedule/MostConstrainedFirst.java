@@ -0,0 +1,41 @@
+package edu.ucalgary.oop.Schedule;
+
+/**
+ * Orders items by how few hours are left that could still take them. The number of hours in the item's window
+ * with enough free minutes is counted against the current timeline, so items are re-ranked as capacity is
+ * consumed. Ties are broken by the smallest window and then by the longest duration.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class MostConstrainedFirst implements OrderingStrategy {
+
+    @Override
+    public String getName() {
+        return "Most constrained first";
+    }
+
+    @Override
+    public long rank(ItemStore items, int item, CapacityTimeline timeline) {
+        int start = items.getAbsoluteStartHour(item);
+        int window = items.getMaxWindow(item);
+        int duration = items.getDuration(item);
+        int fittingHours = 0;
+        for (int hour = start; hour < start + window; hour++) {
+            if (timeline.fits(hour, duration)) {
+                fittingHours++;
+            }
+        }
+        // Fitting hours and window are at most 24 and durations are capped at 20 bits, so the fields never overlap.
+        return ((long) fittingHours << 40) | ((long) window << 20) | (0xFFFFF - Math.min(duration, 0xFFFFF));
+    }
+
+    @Override
+    public boolean isDynamic() {
+        return true;
+    }
+}
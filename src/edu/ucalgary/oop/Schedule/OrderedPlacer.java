@@ -0,0 +1,164 @@
+package edu.ucalgary.oop.Schedule;
+
+/**
+ * Places items one at a time in the order chosen by an {@link OrderingStrategy}. A feeding goes to an hour where its
+ * species' food is already prepared if one has room, so the prep is shared. Otherwise each item goes to the first
+ * hour of its window where one person has enough free minutes, or, if there is none, to the first hour where
+ * adding a backup volunteer makes it fit. Items that do not fit even with a volunteer are left unplaced.
+ * <p>
+ * Items are kept in an {@link IndexedPriorityQueue} keyed by their rank. For dynamic strategies, every item whose
+ * window contains the hour just used is re-ranked against the updated timeline, so the next item placed is always
+ * the best one under the current capacity. The items covering each hour are found through a flat index built once
+ * per run.
+ * </p>
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class OrderedPlacer implements PlacementEngine {
+    private final OrderingStrategy strategy;
+
+    /**
+     * Constructs a placer that orders items with the given strategy.
+     *
+     * @param strategy The strategy deciding which item is placed next.
+     * @throws IllegalArgumentException if the strategy is null.
+     */
+    public OrderedPlacer(OrderingStrategy strategy) {
+        if (strategy == null) {
+            throw new IllegalArgumentException("Ordering strategy cannot be null.");
+        }
+        this.strategy = strategy;
+    }
+
+    /**
+     * Returns the strategy used to order items.
+     *
+     * @return The ordering strategy.
+     */
+    public OrderingStrategy getStrategy() {
+        return strategy;
+    }
+
+    @Override
+    public PlacementResult place(ItemStore items, int[] prepGroups, int[] prepMinutes, CapacityTimeline timeline) {
+        int n = items.size();
+        if (prepGroups.length != n || prepMinutes.length != n) {
+            throw new IllegalArgumentException("Prep groups and minutes must have one entry per item.");
+        }
+        long started = System.nanoTime();
+
+        CapacityTimeline working = timeline.copy();
+        int firstHour = working.getFirstHour();
+        int span = working.getHours();
+
+        // Index the items covering each hour: itemsByHour[hourStart[h] .. hourStart[h + 1]) for slot h.
+        int[] hourStart = null;
+        int[] itemsByHour = null;
+        if (strategy.isDynamic()) {
+            hourStart = new int[span + 1];
+            for (int i = 0; i < n; i++) {
+                int from = Math.max(items.getAbsoluteStartHour(i) - firstHour, 0);
+                int to = Math.min(items.getAbsoluteStartHour(i) + items.getMaxWindow(i) - firstHour, span);
+                for (int h = from; h < to; h++) {
+                    hourStart[h + 1]++;
+                }
+            }
+            for (int h = 0; h < span; h++) {
+                hourStart[h + 1] += hourStart[h];
+            }
+            itemsByHour = new int[hourStart[span]];
+            int[] fill = hourStart.clone();
+            for (int i = 0; i < n; i++) {
+                int from = Math.max(items.getAbsoluteStartHour(i) - firstHour, 0);
+                int to = Math.min(items.getAbsoluteStartHour(i) + items.getMaxWindow(i) - firstHour, span);
+                for (int h = from; h < to; h++) {
+                    itemsByHour[fill[h]++] = i;
+                }
+            }
+        }
+
+        IndexedPriorityQueue queue = new IndexedPriorityQueue(n);
+        for (int i = 0; i < n; i++) {
+            queue.insert(i, strategy.rank(items, i, working));
+        }
+
+        int[] hours = new int[n];
+        int[] lanes = new int[n];
+        boolean[] volunteers = new boolean[n];
+        int[] order = new int[n];
+        int placed = 0;
+        while (!queue.isEmpty()) {
+            int i = queue.poll();
+            order[placed++] = i;
+            int duration = items.getDuration(i);
+            int start = items.getAbsoluteStartHour(i);
+            int from = Math.max(start, firstHour);
+            int to = Math.min(start + items.getMaxWindow(i), firstHour + span);
+            int hour = -1;
+            int need = 0;
+
+            if (prepGroups[i] >= 0) {
+                for (int h = from; h < to; h++) {
+                    if (working.isPrepared(h, prepGroups[i]) && working.fits(h, duration)) {
+                        hour = h;
+                        need = duration;
+                        break;
+                    }
+                }
+            }
+            if (hour < 0) {
+                for (int h = from; h < to; h++) {
+                    need = minutesNeeded(duration, prepGroups[i], prepMinutes[i], working, h);
+                    if (working.fits(h, need)) {
+                        hour = h;
+                        break;
+                    }
+                }
+            }
+            if (hour < 0) {
+                for (int h = from; h < to; h++) {
+                    need = minutesNeeded(duration, prepGroups[i], prepMinutes[i], working, h);
+                    if (!working.hasVolunteer(h) && need <= CapacityTimeline.MINUTES_PER_HOUR) {
+                        working.addVolunteer(h);
+                        volunteers[i] = true;
+                        hour = h;
+                        break;
+                    }
+                }
+            }
+            hours[i] = hour;
+            lanes[i] = -1;
+            if (hour < 0) {
+                continue;
+            }
+
+            lanes[i] = working.reserveLane(hour, need);
+            if (prepGroups[i] >= 0) {
+                working.markPrepared(hour, prepGroups[i]);
+            }
+            if (itemsByHour != null) {
+                int slot = hour - firstHour;
+                for (int k = hourStart[slot]; k < hourStart[slot + 1]; k++) {
+                    int other = itemsByHour[k];
+                    if (queue.contains(other)) {
+                        queue.changeKey(other, strategy.rank(items, other, working));
+                    }
+                }
+            }
+        }
+        return new PlacementResult(hours, lanes, volunteers, order, false, System.nanoTime() - started);
+    }
+
+    // Helper method to work out an item's minutes in an hour, including prep if its group is not prepared there yet.
+    private int minutesNeeded(int duration, int prepGroup, int prepMinutes, CapacityTimeline timeline, int hour) {
+        if (prepGroup >= 0 && !timeline.isPrepared(hour, prepGroup)) {
+            return duration + prepMinutes;
+        }
+        return duration;
+    }
+}
@@ -0,0 +1,54 @@
+package edu.ucalgary.oop.Schedule;
+
+/**
+ * Decides the order in which {@link OrderedPlacer} places items. Each item is given a rank, and the item with
+ * the lowest rank is placed next. Strategies whose rank depends on the capacity left in the timeline are
+ * re-ranked whenever an hour in the item's window has minutes reserved.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public interface OrderingStrategy {
+
+    /**
+     * Returns a short name identifying the strategy in reports.
+     *
+     * @return The strategy name.
+     */
+    String getName();
+
+    /**
+     * Ranks an item against the current state of the timeline. Lower ranks are placed first.
+     *
+     * @param items The items being placed.
+     * @param item The index of the item to rank.
+     * @param timeline The timeline with the capacity left after the items placed so far.
+     * @return The item's rank.
+     */
+    long rank(ItemStore items, int item, CapacityTimeline timeline);
+
+    /**
+     * Ranks a single item against the current state of the timeline. Lower ranks are placed first.
+     *
+     * @param item The item to rank.
+     * @param timeline The timeline with the capacity left after the items placed so far.
+     * @return The item's rank.
+     */
+    default long rank(Item item, CapacityTimeline timeline) {
+        ItemStore items = new ItemStore(1);
+        items.add(item);
+        return rank(items, 0, timeline);
+    }
+
+    /**
+     * Returns whether ranks change as capacity is consumed, so that items must be re-ranked after a placement
+     * in their window.
+     *
+     * @return true if the rank depends on the timeline.
+     */
+    boolean isDynamic();
+}
@@ -0,0 +1,44 @@
+package edu.ucalgary.oop.Schedule;
+
+import java.util.List;
+
+/**
+ * Places a day's items into a {@link CapacityTimeline} without changing it, returning the hour chosen for each
+ * item and the backup volunteers the placement needs. {@link Schedule} applies the result and hands any item
+ * the engine could not place to its {@link ConflictPolicy}.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public interface PlacementEngine {
+
+    /**
+     * Chooses an hour for every item that can be placed. The timeline is only read.
+     *
+     * @param items The items to place. Their windows are measured from their absolute start hours.
+     * @param prepGroups The species bit of each feeding item with a prep cost, or -1 if the item has none.
+     * @param prepMinutes The prep minutes charged to the first item of its group in an hour.
+     * @param timeline The timeline holding the capacity and food prep already used by earlier placements.
+     * @return The placement chosen for the items, indexed like the store.
+     * @throws IllegalArgumentException if the prep arrays do not have one entry per item.
+     */
+    PlacementResult place(ItemStore items, int[] prepGroups, int[] prepMinutes, CapacityTimeline timeline);
+
+    /**
+     * Chooses an hour for every item in a list that can be placed, by copying the items into an {@link ItemStore}.
+     *
+     * @param items The items to place.
+     * @param prepGroups The species bit of each feeding item with a prep cost, or -1 if the item has none.
+     * @param prepMinutes The prep minutes charged to the first item of its group in an hour.
+     * @param timeline The timeline holding the capacity and food prep already used by earlier placements.
+     * @return The placement chosen for the items, indexed like the list.
+     * @throws IllegalArgumentException if the prep arrays do not have one entry per item.
+     */
+    default PlacementResult place(List<Item> items, int[] prepGroups, int[] prepMinutes, CapacityTimeline timeline) {
+        return place(ItemStore.from(items), prepGroups, prepMinutes, timeline);
+    }
+}
@@ -0,0 +1,208 @@
+package edu.ucalgary.oop.Schedule;
+
+import java.util.Arrays;
+
+/**
+ * Holds the outcome of placing a list of items: the hour and lane each item was placed in, the order the items
+ * were placed in, which items needed a backup volunteer to fit, and summary counts that allow placements produced
+ * by different engines to be compared. Items are referred to by their index in the list that was placed.
+ * <p>
+ * Capacity and food prep in an hour depend on what was placed there first, so a placement is only guaranteed to
+ * fit when it is applied in the engine's order and lanes.
+ * </p>
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class PlacementResult {
+    private final int[] hours;           // Absolute hour each item was placed in, or -1 if it was not placed.
+    private final int[] lanes;           // Lane of its hour each item was placed in, or -1 if it is not known.
+    private final int[] order;           // Indexes of the items in the order they were placed.
+    private final boolean[] volunteers;  // Whether placing each item added a backup volunteer to its hour.
+    private final int volunteerCount;
+    private final int unplacedCount;
+    private final boolean optimal;
+    private final long elapsedNanos;     // Time the engine spent producing this result.
+
+    /**
+     * Constructs a PlacementResult from the hour and volunteer flag of every item, for an engine that does not
+     * report lanes. The items are taken to have been placed in index order.
+     *
+     * @param hours The absolute hour of each item, or -1 for items that were not placed.
+     * @param volunteers Whether each item's placement added a backup volunteer.
+     * @param optimal Whether the placement is known to be the best possible one.
+     * @param elapsedNanos The time spent producing the placement, in nanoseconds.
+     * @throws IllegalArgumentException if the arrays are null or of different lengths.
+     */
+    public PlacementResult(int[] hours, boolean[] volunteers, boolean optimal, long elapsedNanos) {
+        this(hours, unknownLanes(hours), volunteers, indexOrder(hours), optimal, elapsedNanos);
+    }
+
+    /**
+     * Constructs a PlacementResult from the hour, lane and volunteer flag of every item and the order they were
+     * placed in.
+     *
+     * @param hours The absolute hour of each item, or -1 for items that were not placed.
+     * @param lanes The lane of its hour each item was placed in, or -1 if it is not known.
+     * @param volunteers Whether each item's placement added a backup volunteer.
+     * @param order The index of every item, in the order the items were placed.
+     * @param optimal Whether the placement is known to be the best possible one.
+     * @param elapsedNanos The time spent producing the placement, in nanoseconds.
+     * @throws IllegalArgumentException if the arrays are null or of different lengths, or the order does not
+     *                                  list every item once.
+     */
+    public PlacementResult(int[] hours, int[] lanes, boolean[] volunteers, int[] order, boolean optimal,
+                           long elapsedNanos) {
+        if (hours == null || lanes == null || volunteers == null || order == null || hours.length != lanes.length
+                || hours.length != volunteers.length || hours.length != order.length) {
+            throw new IllegalArgumentException("Hours, lanes, volunteers and order must describe the same items.");
+        }
+        boolean[] listed = new boolean[hours.length];
+        for (int index : order) {
+            if (index < 0 || index >= hours.length || listed[index]) {
+                throw new IllegalArgumentException("The order must list every item once.");
+            }
+            listed[index] = true;
+        }
+        int volunteerTotal = 0;
+        int unplacedTotal = 0;
+        for (int i = 0; i < hours.length; i++) {
+            if (volunteers[i]) {
+                volunteerTotal++;
+            }
+            if (hours[i] < 0) {
+                unplacedTotal++;
+            }
+        }
+        this.hours = hours.clone();
+        this.lanes = lanes.clone();
+        this.volunteers = volunteers.clone();
+        this.order = order.clone();
+        this.volunteerCount = volunteerTotal;
+        this.unplacedCount = unplacedTotal;
+        this.optimal = optimal;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    // Helper method to mark the lane of every item as unknown.
+    private static int[] unknownLanes(int[] hours) {
+        if (hours == null) {
+            return null;
+        }
+        int[] lanes = new int[hours.length];
+        Arrays.fill(lanes, -1);
+        return lanes;
+    }
+
+    // Helper method to list the items in index order.
+    private static int[] indexOrder(int[] hours) {
+        if (hours == null) {
+            return null;
+        }
+        int[] order = new int[hours.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        return order;
+    }
+
+    /**
+     * Returns the absolute hour an item was placed in.
+     *
+     * @param index The index of the item in the placed list.
+     * @return The hour, or -1 if the item was not placed.
+     */
+    public int getHour(int index) {
+        return hours[index];
+    }
+
+    /**
+     * Returns the lane of its hour an item was placed in. Lanes below the hour's staff count are staff members,
+     * and the lane after them is the hour's backup volunteer.
+     *
+     * @param index The index of the item in the placed list.
+     * @return The lane, or -1 if the item was not placed or the engine does not report lanes.
+     */
+    public int getLane(int index) {
+        return lanes[index];
+    }
+
+    /**
+     * Returns the item placed at a position of the engine's placement order, so the placement can be applied in
+     * the same order.
+     *
+     * @param position The position in the order, from 0 to the item count.
+     * @return The index of the item in the placed list.
+     */
+    public int getPlacedAt(int position) {
+        return order[position];
+    }
+
+    /**
+     * Returns whether placing an item added a backup volunteer to its hour.
+     *
+     * @param index The index of the item in the placed list.
+     * @return true if the item needed a volunteer.
+     */
+    public boolean needsVolunteer(int index) {
+        return volunteers[index];
+    }
+
+    /**
+     * Returns the number of items covered by this result.
+     *
+     * @return The item count.
+     */
+    public int getItemCount() {
+        return hours.length;
+    }
+
+    /**
+     * Returns the number of hours a backup volunteer was added to.
+     *
+     * @return The volunteer count.
+     */
+    public int getVolunteerCount() {
+        return volunteerCount;
+    }
+
+    /**
+     * Returns the number of items that could not be placed.
+     *
+     * @return The unplaced item count.
+     */
+    public int getUnplacedCount() {
+        return unplacedCount;
+    }
+
+    /**
+     * Returns the fraction of items that were placed.
+     *
+     * @return A value between 0 and 1, or 1 if there were no items.
+     */
+    public double getPlacementRate() {
+        return hours.length == 0 ? 1.0 : (double) (hours.length - unplacedCount) / hours.length;
+    }
+
+    /**
+     * Returns whether the search that produced this result finished, proving no better placement exists.
+     *
+     * @return true if the placement is optimal, false if the search stopped at its time budget.
+     */
+    public boolean isOptimal() {
+        return optimal;
+    }
+
+    /**
+     * Returns the time the engine spent producing this result.
+     *
+     * @return The elapsed time in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+}
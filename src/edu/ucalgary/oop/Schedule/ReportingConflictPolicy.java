@@ -0,0 +1,65 @@
+package edu.ucalgary.oop.Schedule;
+
+import java.util.*;
+
+/**
+ * Resolves scheduling conflicts without user interaction by declining every volunteer and every reschedule,
+ * while recording each conflict. The collected report lists the volunteer hours that were requested and the
+ * items that were left unscheduled, so that they can be reviewed after an unattended run. The findings of each
+ * feasibility analysis are recorded ahead of the conflicts they predict.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class ReportingConflictPolicy implements ConflictPolicy {
+    private final ArrayList<Item> conflicts = new ArrayList<>();
+    private final ArrayList<String> report = new ArrayList<>();
+
+    @Override
+    public boolean approveVolunteer(int volunteerHour, Item item) {
+        report.add(describe(item) + ": backup volunteer required at hour " + volunteerHour);
+        return false;
+    }
+
+    @Override
+    public int chooseStartHour(Item item, int[] freeHours) {
+        conflicts.add(item);
+        report.add(describe(item) + ": left unscheduled, free hours " + Arrays.toString(freeHours));
+        return -1;
+    }
+
+    @Override
+    public void reviewFeasibility(FeasibilityReport report) {
+        for (String line : report.getReport()) {
+            this.report.add("Feasibility: " + line);
+        }
+    }
+
+    /**
+     * Returns the items that were left unscheduled, in the order they were reported.
+     *
+     * @return A copy of the conflicting items.
+     */
+    public ArrayList<Item> getConflicts() {
+        return new ArrayList<>(conflicts);
+    }
+
+    /**
+     * Returns one line per reported conflict, in the order they occurred.
+     *
+     * @return A copy of the report lines.
+     */
+    public ArrayList<String> getReport() {
+        return new ArrayList<>(report);
+    }
+
+    // Helper method to describe an item by its animal, task, treatment and start hour.
+    private String describe(Item item) {
+        return "Animal " + item.getAnimalID() + " " + TaskRegistry.describe(item.getTaskID())
+                + " (treatment " + item.getTreatmentID() + ") starting at hour " + item.getStartHour();
+    }
+}
@@ -10,34 +10,77 @@
 package edu.ucalgary.oop.Schedule;
 import java.util.*;
 import java.io.*;
+import java.sql.SQLException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import javax.swing.*;
 
 import java.awt.*;
 import edu.ucalgary.oop.Medical.*;
 import edu.ucalgary.oop.Animals.*;
 
-public class Schedule {
+public class Schedule implements AutoCloseable {
+    public static final String DEFAULT_SNAPSHOT_FILE = "shelter.snapshot";
+    public static final String TEXT_SCHEDULE_FILE = "Schedule.txt";
     
     // ImportData Object For Storing The Data Compiled From The Database
     // Copies Of The HashMaps / ArrayList In The ImportData Class
     // Schedule Holds Hour, ArrayList Of Tasks
-    private ImportData importData = new ImportData(); 
-    private HashMap<Integer, Animal> animalHashMap = new HashMap<>();
-    private HashMap<Integer, Tasks> tasksHashMap = new HashMap<>();
-    private ArrayList<Treatments> treatmentsArrayList = new ArrayList<>();
+    private ShelterDataSource dataSource; // The database, or any other source of the shelter's tables.
+    private TreatmentWriteBehind treatmentWriter = null; // Created when the first treatment is moved.
+    private AnimalRegistry animals = new AnimalRegistry(new HashMap<>());
+    private TaskRegistry tasks = new TaskRegistry(new HashMap<>());
+    // One unplaced item per treatment, column by column. Every treatment is kept, as each day of the horizon and
+    // every move is planned from them.
+    private ItemStore treatmentTemplates = new ItemStore();
 
 
-    // Maps each hour of the day to a list of scheduled tasks (Items).
-    // Keeps track of which animals have had their food prepared at each hour.
-    // Maps each hour to the remaining available time for scheduling tasks.
-    // Stores the maximum available time for each hour, allowing for adjustments.
+    // Number of days the planning horizon covers. Windows may run past midnight into any day of the horizon, and
+    // the timeline covers one day more, so that windows of the last day can run past its midnight too.
+    public static final int HORIZON_DAYS = 7;
+
+    // Maps each absolute hour of the horizon to a list of scheduled tasks (Items).
+    // Indexes the start and end minute of every placed item by the day it starts on.
+    // Tracks the remaining and maximum available minutes for each hour, allowing for volunteer adjustments,
+    // and which species have had their food prepared in each hour.
+    // Gives the feeding hours, feeding, food prep and cage cleaning minutes of each species.
     private HashMap<Integer, ArrayList<Item>> schedule = new HashMap<>();
-    private HashMap<Integer, HashMap<String, Boolean>> foodPrepFeeding = new HashMap<>();
-    private HashMap<Integer, Integer> timeAvailability = new HashMap<>(24);
-    private HashMap<Integer, Integer> maxTimeAvailability = new HashMap<>(24);
+    private HashMap<Integer, IntervalTree<Item>> dayIntervals = new HashMap<>();
+    private StaffRoster staffRoster;
+    private CapacityTimeline timeline;
+    private SpeciesRegistry speciesRegistry = SpeciesRegistry.createDefault();
+
+    // The day currently being displayed, and the number of days from day 0 whose items have been placed.
+    private int currentDay = 0;
+    private int plannedDays = 0;
+
+    // Decides how items that do not fit are resolved, and collects the items it leaves out.
+    private ConflictPolicy conflictPolicy = new SwingConflictPolicy();
+    private ArrayList<Item> unscheduledItems = new ArrayList<>();
+
+    // Medical items of every planned day, by treatment ID, so a changed treatment can be re-placed on its own.
+    private HashMap<Integer, ArrayList<Item>> treatmentItems = new HashMap<>();
+
+    // Hours items were taken out of during a treatment move, whose volunteers may no longer be needed.
+    private TreeSet<Integer> vacatedHours = new TreeSet<>();
+
+    // Start hours treatments were moved to during the current planning run or move, saved once it has finished.
+    private LinkedHashMap<Integer, Integer> startHourChanges = new LinkedHashMap<>();
 
-    //The entire schedule formatted as a string to then be displayed via GUI and written to the .txt file
-    private String scheduleString;
+    // Hours whose placements changed since the last snapshot, so publishing only copies those.
+    private HashSet<Integer> changedHours = new HashSet<>();
+
+    // Engine used to place each day's items, or null to place them greedily in the order they were generated.
+    private PlacementEngine placementEngine = null;
+
+    // Checks each day's items before they are placed, and the findings for the last day planned.
+    private final FeasibilityAnalyzer feasibilityAnalyzer = new FeasibilityAnalyzer();
+    private FeasibilityReport feasibilityReport = null;
+
+    // The last finished plan, from which the schedule is displayed via GUI and written to the .txt file.
+    // Replaced as a whole when planning or a treatment move finishes, so readers on other threads need no lock.
+    private volatile ScheduleSnapshot snapshot = ScheduleSnapshot.EMPTY;
+    private long snapshotVersion = 0;
 
     /**
      * Initializes the Schedule by connecting to the database with provided credentials and loading animal, task, and treatment data.
@@ -48,53 +91,673 @@ public class Schedule {
      */
 
      public Schedule(String username, String password) throws IllegalArgumentException {
-        importData.establishDBConnection(username, password);
-        
+        this(ImportData.DEFAULT_URL, username, password);
+    }
+
+    /**
+     * Initializes the Schedule from the database at the given JDBC URL, so that each shelter can be planned from
+     * its own database. All state is held by this instance, so schedules for different shelters are independent.
+     * @param url The JDBC URL of the shelter's database
+     * @param username
+     * @param password 
+     * @throws IllegalArgumentException
+     */
+
+    public Schedule(String url, String username, String password) throws IllegalArgumentException {
+        this(url, username, password, null);
+    }
+
+    /**
+     * Initializes the Schedule from the database at the given JDBC URL, keeping a binary snapshot of the imported
+     * data in a file. Later starts load the snapshot instead of importing when the database has not changed, and
+     * plan from the last snapshot when the database cannot be reached.
+     * @param url The JDBC URL of the shelter's database
+     * @param username
+     * @param password 
+     * @param snapshotFile The snapshot file, or null to always import from the database
+     * @throws IllegalArgumentException
+     */
+
+    public Schedule(String url, String username, String password, Path snapshotFile) throws IllegalArgumentException {
+        ImportData importData = new ImportData();
+        if (snapshotFile != null) {
+            importData.setSnapshotCache(new SnapshotCache(snapshotFile));
+        }
+        importData.establishDBConnection(url, username, password);
+        dataSource = importData;
+        try {
+            importTables();
+        } catch (IllegalArgumentException e) {
+            importData.closeConnection(); // Callers retry with new credentials, so do not leave the pool open.
+            throw e;
+        }
+    }
+
+    /**
+     * Initializes the Schedule from a database reached through a shared connection pool, so that several
+     * schedules of the same shelter, and their rescheduling writes, reuse the same open connections.
+     * @param connectionPool The pool of connections to the shelter's database
+     * @throws IllegalArgumentException if the pool is null or the data cannot be imported
+     */
+
+    public Schedule(ConnectionPool connectionPool) throws IllegalArgumentException {
+        dataSource = new ImportData(connectionPool);
+        importTables();
+    }
+
+    /**
+     * Initializes the Schedule from any source of the shelter's tables, such as an in-memory or flat-file source,
+     * so that the whole pipeline can run without a database. Rescheduled treatments are saved back to the source.
+     * @param dataSource The source of the shelter's tables
+     * @throws IllegalArgumentException if the source is null or its data cannot be loaded
+     */
+
+    public Schedule(ShelterDataSource dataSource) throws IllegalArgumentException {
+        if (dataSource == null) {
+            throw new IllegalArgumentException("Data source cannot be null.");
+        }
+        this.dataSource = dataSource;
+        importTables();
+    }
+
+    // Helper method to import the shelter's tables and set up the timeline from its staffing.
+    private void importTables() throws IllegalArgumentException {
+        ShelterData data;
         try {
-            animalHashMap = importData.importAnimalsTable();
-            tasksHashMap = importData.importTasksTable();
-            treatmentsArrayList = importData.importTreatmentsTable();
+            data = dataSource.load();
         } catch (Exception e) {
-            throw new IllegalArgumentException();
+            // Only a missing staffing table falls back to a default roster, inside the source; anything else,
+            // such as a malformed staffing row or a lost connection, is reported with its cause.
+            throw new IllegalArgumentException("The shelter's data could not be loaded.", e);
         }
-    
-        tasksHashMap.put(-2, new Tasks(-2, "Cage Cleaning", 5, 24));
-        tasksHashMap.put(-1, new Tasks(-1, "Porcupine Cage Cleaning", 10, 24));
-        
-        for(int i = 0; i < 24; i++) {
-            timeAvailability.put(i, 60);
-            maxTimeAvailability.put(i, 60);
-            schedule.put(i, null);
-        } 
-       
+        animals = new AnimalRegistry(data.getAnimals());
+        animals.assignSpecies(speciesRegistry);
+        tasks = new TaskRegistry(data.getTasks());
+        treatmentTemplates = data.getTreatmentStore();
+        for (int i = 0; i < treatmentTemplates.size(); i++) {
+            if (treatmentTemplates.getTaskID(i) == 1) { // Animals fed by hand are kits.
+                animals.getAnimal(animals.indexOf(treatmentTemplates.getAnimalID(i))).setKitStatus();
+            }
+        }
+        staffRoster = data.getStaffRoster();
+        timeline = new CapacityTimeline((HORIZON_DAYS + 1) * 24, staffRoster);
     }
  
     /**
-     * Schedules all tasks by prioritizing their flexibility and handles unscheduled tasks by either adding a volunteer
-     * or prompting for rescheduling. Finally, generates the text schedule.
+     * Schedules all tasks by prioritizing their flexibility and handles unscheduled tasks through the
+     * conflict policy. Finally, generates the text schedule and displays it.
      */
 
     public void createSchedule() {
-        String[] options = {"NO", "YES"};
-        ArrayList<Item> items = new ArrayList<>();
-        items.addAll(addMedical());
-        items.addAll(addCage());
-        items.addAll(addFeeding());
-        // items.sort(Comparator.comparingInt(Item::getMaxWindow));
-        
-        for (Item item : items) {
+        planSchedule();
+        createTextSchedule();
+        createGUIschedule();
+    }
+
+    /**
+     * Places every medical, cage cleaning and feeding item of the current day, unless that day has already been
+     * planned, and builds the schedule string without writing or displaying it. Items that do not fit are resolved
+     * by the conflict policy, so with a non-interactive policy this method runs unattended.
+     */
+
+    public void planSchedule() {
+        planThroughDay(currentDay);
+        createScheduleString();
+    }
+
+    /**
+     * Places the items of every day in the planning horizon that has not been planned yet, starting from the
+     * current day, and builds the schedule string for the current day.
+     */
+
+    public void planHorizon() {
+        planThroughDay(currentDay + HORIZON_DAYS - 1);
+        createScheduleString();
+    }
+
+    /**
+     * Moves the schedule on to the next day. The current day's hours are retired from the timeline, while the
+     * placements already made for later days, including items that spilled past midnight, are kept. An item that
+     * started in the retired day's last hour and runs on past midnight is kept in that hour until the day after,
+     * so it is still found at the start of the new day and the new day's first hour is laid out after it. Planning
+     * the new day reuses the data imported when the schedule was created rather than reading the database again.
+     */
+
+    public void advanceDay() {
+        int retiredStart = currentDay * 24;
+        timeline.advance(24);
+        ArrayList<Item> carried = new ArrayList<>();
+        for (Item item : schedule.getOrDefault(retiredStart + 23, new ArrayList<>())) {
+            if (item.getCarryMinutes() > 0) {
+                carried.add(item);
+            }
+        }
+        // The hour before the retired day only holds the items kept from the day before it.
+        for (int hour = retiredStart - 1; hour < retiredStart + 24; hour++) {
+            if (schedule.remove(hour) != null) {
+                changedHours.add(hour);
+            }
+        }
+        dayIntervals.remove(currentDay - 1);
+        dayIntervals.remove(currentDay);
+        if (!carried.isEmpty()) {
+            schedule.put(retiredStart + 23, carried);
+            IntervalTree<Item> intervals = new IntervalTree<>();
+            for (Item item : carried) {
+                intervals.insert(item, item.getStartMinute(), item.getEndMinute());
+            }
+            dayIntervals.put(currentDay, intervals);
+        }
+        currentDay++;
+        plannedDays = Math.max(plannedDays, currentDay);
+        for (ArrayList<Item> items : treatmentItems.values()) {
+            items.removeIf(item -> item.getDay() < currentDay);
+        }
+    }
+
+    /**
+     * Returns the day of the horizon currently being displayed, counted from day 0.
+     * @return The current day.
+     */
+
+    public int getCurrentDay() {
+        return currentDay;
+    }
+
+    // Helper method to plan each day from the next unplanned one up to and including lastDay.
+    private void planThroughDay(int lastDay) {
+        while (plannedDays <= lastDay) {
+            planDay(plannedDays++);
+            saveStartHourChanges(); // The next day is planned from the hours treatments were moved to.
+        }
+    }
+
+    // Helper method to place the medical, cage cleaning and feeding items of a single day. The day is generated and
+    // checked as an ItemStore, but placed as Items, one per item of the day.
+    private void planDay(int day) {
+        ItemStore items = createDayItems(day);
+        feasibilityReport = checkFeasibility(items);
+        conflictPolicy.reviewFeasibility(feasibilityReport);
+        if (placementEngine != null) {
+            placeWithEngine(items);
+            return;
+        }
+        for (int i = 0; i < items.size(); i++) {
+            Item item = createScheduledItem(items, i);
             if (!addItem(item)) {
-                int volunteerHour = findHourForVolunteer(item);
-                if (volunteerHour >= 0) {
-                    handleVolunteerRequired(volunteerHour, item, options);
-                } else {
-                    promptReschedule(item);
+                resolveConflict(item);
+            }
+        }
+    }
+
+    // Helper method to generate the medical, cage cleaning and feeding items of a day into one store.
+    private ItemStore createDayItems(int day) {
+        ItemStore items = new ItemStore(treatmentTemplates.size() + 2 * animals.size());
+        appendMedical(items);
+        appendCage(items);
+        appendFeeding(items);
+        items.setDay(day);
+        return items;
+    }
+
+    // Helper method to create the Item a stored item is scheduled as, remembering medical items by treatment ID.
+    // Every item of a planned day gets one, whether it is placed or left out, since the plan is kept as Items.
+    private Item createScheduledItem(ItemStore items, int i) {
+        Item item = items.toItem(i);
+        if (item.getTreatmentID() > 0) {
+            treatmentItems.computeIfAbsent(item.getTreatmentID(), k -> new ArrayList<>()).add(item);
+        }
+        return item;
+    }
+
+    /**
+     * Places items with the placement engine, applying its plan in the order and lanes the engine chose, so that
+     * every item it placed fits where it was planned. Each volunteer the engine chose is put to the conflict policy,
+     * once per hour, before any item is reserved. If a volunteer is declined, every item the engine put in their
+     * lane is placed greedily where it fits, or rescheduled, as it would be without the engine, once the rest of the
+     * plan has been applied. Items the engine could not place go through the conflict policy.
+     * @param items The items to place.
+     */
+
+    private void placeWithEngine(ItemStore items) {
+        PlacementResult result = runEngine(placementEngine, items, timeline);
+        Item[] scheduled = new Item[items.size()];
+        HashMap<Integer, Boolean> volunteerApproved = new HashMap<>();
+        for (int position = 0; position < items.size(); position++) {
+            int i = result.getPlacedAt(position);
+            scheduled[i] = createScheduledItem(items, i);
+            int hour = result.getHour(i);
+            if (result.needsVolunteer(i) && !volunteerApproved.containsKey(hour)) {
+                boolean approved = timeline.hasVolunteer(hour) || conflictPolicy.approveVolunteer(hour, scheduled[i]);
+                volunteerApproved.put(hour, approved);
+            }
+        }
+
+        // Mark the items in each volunteer's lane before the volunteers are added, while the lane after the staff
+        // is still theirs. An engine that does not report lanes has each item of a declined hour placed again.
+        boolean[] declined = new boolean[items.size()];
+        for (int i = 0; i < items.size(); i++) {
+            int hour = result.getHour(i);
+            Boolean approved = volunteerApproved.get(hour);
+            if (approved == null) {
+                continue;
+            }
+            boolean volunteerLane = result.needsVolunteer(i) || result.getLane(i) == timeline.getStaff(hour);
+            scheduled[i].setNeedsVolunteer(approved && volunteerLane);
+            declined[i] = !approved && (volunteerLane || result.getLane(i) < 0);
+        }
+        for (Map.Entry<Integer, Boolean> entry : volunteerApproved.entrySet()) {
+            if (entry.getValue()) {
+                adjustTimeAvailability(entry.getKey());
+            }
+        }
+
+        for (int position = 0; position < items.size(); position++) {
+            int i = result.getPlacedAt(position);
+            if (!declined[i] && result.getHour(i) >= 0) {
+                addItemAt(scheduled[i], result.getHour(i), result.getLane(i));
+            }
+        }
+        for (int position = 0; position < items.size(); position++) {
+            Item item = scheduled[result.getPlacedAt(position)];
+            if (declined[result.getPlacedAt(position)]) {
+                if (!addItem(item)) {
+                    reschedule(item);
+                }
+            } else if (item.getScheduledHour() < 0) {
+                resolveConflict(item);
+            }
+        }
+    }
+
+    // Helper method to run an engine over items against a timeline, without changing the schedule.
+    private PlacementResult runEngine(PlacementEngine engine, ItemStore items, CapacityTimeline against) {
+        int[] prepGroups = new int[items.size()];
+        int[] prepMinutes = new int[items.size()];
+        fillPrepCosts(items, prepGroups, prepMinutes);
+        return engine.place(items, prepGroups, prepMinutes, against);
+    }
+
+    /**
+     * Copies the timeline with every item of a day taken back out, so that a dry run of the day is measured
+     * against the rest of the horizon rather than against its own placements. Volunteers left with nothing to do
+     * are removed from the copy, and food stays prepared in an hour only for the other days' feedings there.
+     * @param day The day whose items are released.
+     * @return A copy of the timeline without the day's placements.
+     */
+
+    private CapacityTimeline copyTimelineWithoutDay(int day) {
+        CapacityTimeline copy = timeline.copy();
+        TreeSet<Integer> released = new TreeSet<>();
+        for (Map.Entry<Integer, ArrayList<Item>> entry : schedule.entrySet()) {
+            int hour = entry.getKey();
+            for (Item item : entry.getValue()) {
+                if (item.getDay() != day) {
+                    continue;
+                }
+                int carry = item.getCarryMinutes();
+                copy.release(hour, item.getLane(), item.getReservedMinutes() - carry);
+                if (carry > 0) {
+                    copy.release(hour + 1, item.getLane(), carry);
+                }
+                released.add(hour);
+            }
+        }
+        for (int hour : released) {
+            copy.removeVolunteer(hour);
+            copy.clearPrepared(hour);
+            for (Item item : schedule.get(hour)) {
+                int bit = feedingPrepBit(item);
+                if (item.getDay() != day && bit >= 0) {
+                    copy.markPrepared(hour, bit);
                 }
             }
         }
+        return copy;
+    }
+
+    // Helper method to analyze items against the current timeline, without changing the schedule.
+    private FeasibilityReport checkFeasibility(ItemStore items) {
+        int[] prepGroups = new int[items.size()];
+        int[] prepMinutes = new int[items.size()];
+        fillPrepCosts(items, prepGroups, prepMinutes);
+        return feasibilityAnalyzer.analyze(items, prepGroups, prepMinutes, timeline);
+    }
+
+    // Helper method to fill in the species bit and prep minutes of each item that needs food prep.
+    private void fillPrepCosts(ItemStore items, int[] prepGroups, int[] prepMinutes) {
+        for (int i = 0; i < items.size(); i++) {
+            prepGroups[i] = feedingPrepBit(items.getAnimalID(i), items.getTaskID(i));
+            if (prepGroups[i] >= 0) {
+                prepMinutes[i] = speciesRegistry.getPrepMinutes(prepGroups[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns the feasibility analysis of the last day planned, made before any of its items were placed.
+     * @return The feasibility report, or null if no day has been planned yet.
+     */
+
+    public FeasibilityReport getFeasibilityReport() {
+        return feasibilityReport;
+    }
+
+    /**
+     * Returns the roster of staff on shift in each hour, which sets how many tasks can run in parallel.
+     * @return The staff roster.
+     */
+
+    public StaffRoster getStaffRoster() {
+        return staffRoster;
+    }
+
+    /**
+     * Sets the profiles of the species the shelter cares for. Only items planned afterwards use the new profiles,
+     * and animals of species without a profile get no feeding or cage cleaning.
+     * @param speciesRegistry The species profiles.
+     * @throws IllegalArgumentException if the registry is null.
+     */
+
+    public void setSpeciesRegistry(SpeciesRegistry speciesRegistry) throws IllegalArgumentException {
+        if (speciesRegistry == null) {
+            throw new IllegalArgumentException("Species registry cannot be null.");
+        }
+        this.speciesRegistry = speciesRegistry;
+        animals.assignSpecies(speciesRegistry);
+    }
+
+    /**
+     * Returns the profiles of the species the shelter cares for.
+     * @return The species registry.
+     */
+
+    public SpeciesRegistry getSpeciesRegistry() {
+        return speciesRegistry;
+    }
+
+    // Helper method to find the species bit of a feeding item whose species needs food prep, or -1 otherwise.
+    private int feedingPrepBit(Item item) {
+        return feedingPrepBit(item.getAnimalID(), item.getTaskID());
+    }
+
+    // Helper method to find the species bit of a feeding task whose species needs food prep, or -1 otherwise.
+    private int feedingPrepBit(int animalID, int taskID) {
+        int index = animals.indexOf(animalID);
+        if (taskID != TaskRegistry.FEEDING_TASK || index < 0) {
+            return -1;
+        }
+        int bit = animals.getSpeciesID(index);
+        return bit >= 0 && speciesRegistry.getPrepMinutes(bit) > 0 ? bit : -1;
+    }
+
+    /**
+     * Sets how long the branch-and-bound placement search may run for each day. With a budget of 0, items are
+     * placed greedily in the order they were generated, which is the default.
+     * @param searchBudgetMillis The search time budget in milliseconds.
+     * @throws IllegalArgumentException if the budget is negative.
+     */
+
+    public void setSearchBudget(long searchBudgetMillis) {
+        if (searchBudgetMillis < 0) {
+            throw new IllegalArgumentException("Search budget must be non-negative.");
+        }
+        this.placementEngine = searchBudgetMillis > 0 ? new BranchAndBoundPlacer(searchBudgetMillis) : null;
+    }
+
+    /**
+     * Sets the order in which each day's items are placed, using an {@link OrderedPlacer}. A null strategy
+     * places items greedily in the order they were generated.
+     * @param strategy The ordering strategy, such as {@link EarliestDeadlineFirst}.
+     */
+
+    public void setOrderingStrategy(OrderingStrategy strategy) {
+        this.placementEngine = strategy != null ? new OrderedPlacer(strategy) : null;
+    }
+
+    /**
+     * Dry-runs each ordering strategy over the current day's items, without changing the schedule. If the day has
+     * already been planned, its own placements are taken out of a copy of the timeline first, so they are not
+     * counted twice. The results report each strategy's placement rate, volunteer count and running
+     * time, so the fastest strategy that still places every item can be chosen.
+     * @param strategies The strategies to compare.
+     * @return The result of each strategy, keyed by strategy name in the order given.
+     */
+
+    public LinkedHashMap<String, PlacementResult> compareOrderingStrategies(ArrayList<OrderingStrategy> strategies) {
+        ItemStore items = createDayItems(currentDay);
+        CapacityTimeline withoutDay = copyTimelineWithoutDay(currentDay);
+        LinkedHashMap<String, PlacementResult> results = new LinkedHashMap<>();
+        for (OrderingStrategy strategy : strategies) {
+            results.put(strategy.getName(), runEngine(new OrderedPlacer(strategy), items, withoutDay));
+        }
+        return results;
+    }
+
+    /**
+     * Simulates the current day with task durations drawn from a duration model, without changing the schedule.
+     * If the day has already been planned, its own placements are taken out of a copy of the timeline first, so
+     * they are not counted twice. Each trial places the day with the configured ordering strategy, or in
+     * earliest-deadline-first order when items are placed greedily or by the branch-and-bound search. The search
+     * is not used for trials, as it would spend its time budget on every one of them, and where it stops depends
+     * on the clock. So the same seed gives the same report, and runs can be reproduced and compared.
+     * @param durationModel The spread of each task's duration.
+     * @param trials The number of trials to run.
+     * @param seed The seed of the random durations.
+     * @return The probability that each hour needs a backup volunteer.
+     * @throws IllegalArgumentException if the model is null or the trials are not positive.
+     */
+
+    public SimulationReport simulateDurations(DurationModel durationModel, int trials, long seed)
+            throws IllegalArgumentException {
+        ItemStore items = createDayItems(currentDay);
+        int[] prepGroups = new int[items.size()];
+        int[] prepMinutes = new int[items.size()];
+        fillPrepCosts(items, prepGroups, prepMinutes);
+        PlacementEngine engine = placementEngine instanceof OrderedPlacer ? placementEngine
+                : new OrderedPlacer(new EarliestDeadlineFirst());
+        return new DurationSimulator(engine, durationModel)
+                .simulate(items, prepGroups, prepMinutes, copyTimelineWithoutDay(currentDay), trials, seed);
+    }
+
+    // Helper method to hand an item that could not be placed to the volunteer and rescheduling logic.
+    private void resolveConflict(Item item) {
+        int volunteerHour = findHourForVolunteer(item);
+        if (volunteerHour >= 0) {
+            handleVolunteerRequired(volunteerHour, item);
+        } else {
+            reschedule(item);
+        }
+    }
+
+    /**
+     * Moves a treatment to a new start hour and re-plans only what the change affects. The treatment is updated
+     * in the database, and its item on every planned day is taken out of the schedule, releasing its minutes, and
+     * placed again from the new start hour. If it no longer fits, items with a wider window than the treatment
+     * are displaced from the first hour where removing them makes room, and are then placed again themselves.
+     * Anything that still does not fit goes through the conflict policy. Volunteers are released from the hours the
+     * moved items left once nothing there needs them any more. Once everything is placed, the treatment's start hour
+     * is saved once: the new start hour, or the hour the conflict policy last rescheduled it to. The database update
+     * is queued and written in a batch with other moves, at the latest when the schedule is closed.
+     * @param treatmentID The treatment to move.
+     * @param newStartHour The new start hour, between 0 and 23.
+     * @return true if the treatment exists and its database update was queued.
+     * @throws IllegalArgumentException if the start hour is outside the 0-23 range.
+     */
+
+    public boolean updateTreatmentStartHour(int treatmentID, int newStartHour) throws IllegalArgumentException {
+        if (newStartHour < 0 || newStartHour > 23) {
+            throw new IllegalArgumentException("Start hour must be between 0 and 23.");
+        }
+        if (indexOfTreatment(treatmentID) < 0) {
+            return false;
+        }
+        startHourChanges.put(treatmentID, newStartHour);
+
+        for (Item item : treatmentItems.getOrDefault(treatmentID, new ArrayList<>())) {
+            if (item.getScheduledHour() >= 0) {
+                evict(item);
+            }
+            unscheduledItems.remove(item);
+            item.setNeedsVolunteer(false);
+            item.setStartHour(newStartHour);
+            if (!addItem(item) && !displaceFor(item)) {
+                resolveConflict(item);
+            }
+        }
+        releaseUnusedVolunteers();
+        saveStartHourChanges();
         createScheduleString();
-        createTextSchedule();
-        createGUIschedule();
+        return true;
+    }
+
+    /**
+     * Writes any treatment moves still waiting in the write-behind queue and closes the data source. A shared
+     * connection pool is left open. A failure to write is printed rather than thrown, so this can run on shutdown.
+     */
+
+    @Override
+    public void close() {
+        if (treatmentWriter != null) {
+            try {
+                treatmentWriter.close();
+            } catch (SQLException e) {
+                System.err.println(treatmentWriter.getPendingCount() + " treatment move(s) could not be saved and "
+                        + "were lost: " + e.getMessage());
+            }
+            treatmentWriter = null;
+        }
+        dataSource.close();
+    }
+
+    // Helper method to give each treatment moved since the last save its final start hour for the days planned
+    // from now on, and to queue it for the next batched database write once, so the two always agree.
+    private void saveStartHourChanges() {
+        for (Map.Entry<Integer, Integer> change : startHourChanges.entrySet()) {
+            treatmentTemplates.setStartHour(indexOfTreatment(change.getKey()), change.getValue());
+            if (treatmentWriter == null) {
+                treatmentWriter = new TreatmentWriteBehind(dataSource::updateTreatmentStartHours);
+            }
+            treatmentWriter.enqueue(change.getKey(), change.getValue());
+        }
+        startHourChanges.clear();
+    }
+
+    // Helper method to find the index of a treatment among the imported ones, or -1 if there is no such treatment.
+    private int indexOfTreatment(int treatmentID) {
+        for (int i = 0; i < treatmentTemplates.size(); i++) {
+            if (treatmentTemplates.getTreatmentID(i) == treatmentID) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Makes room for an item by displacing lower-priority items, meaning medical and cage cleaning items with a
+     * wider window, from the first hour in its window where that frees enough time. Feeding items are never
+     * displaced because their food prep is shared with other feedings in the hour. Displaced items are placed
+     * again afterwards, and go through the conflict policy if they no longer fit.
+     * @param item The item that needs room.
+     * @return true if the item was placed.
+     */
+
+    private boolean displaceFor(Item item) {
+        int startHour = item.getAbsoluteStartHour();
+        for (int hour = startHour; hour < startHour + item.getMaxWindow(); hour++) {
+            ArrayList<Item> placed = schedule.get(hour);
+            if (placed == null) {
+                continue;
+            }
+            // The item has to fit in one person's lane, so only items of the same lane can make room for it.
+            int lane = -1;
+            for (int candidateLane = 0; candidateLane < timeline.getLanes(hour) && lane < 0; candidateLane++) {
+                int freeable = timeline.getLaneFree(hour, candidateLane);
+                for (Item other : placed) {
+                    if (other.getLane() == candidateLane && isDisplaceableFor(other, item)) {
+                        freeable += other.getReservedMinutes();
+                    }
+                }
+                if (freeable >= item.getDuration()) {
+                    lane = candidateLane;
+                }
+            }
+            if (lane < 0) {
+                continue;
+            }
+            ArrayList<Item> candidates = new ArrayList<>();
+            for (Item other : placed) {
+                if (other.getLane() == lane && isDisplaceableFor(other, item)) {
+                    candidates.add(other);
+                }
+            }
+
+            // Displace the most flexible items first, and only as many as needed.
+            candidates.sort(Comparator.comparingInt(Item::getMaxWindow).reversed());
+            ArrayList<Item> displaced = new ArrayList<>();
+            for (Item other : candidates) {
+                if (timeline.getLaneFree(hour, lane) >= item.getDuration()) {
+                    break;
+                }
+                evict(other);
+                displaced.add(other);
+            }
+            addItemAt(item, hour);
+            for (Item other : displaced) {
+                if (!addItem(other)) {
+                    resolveConflict(other);
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    // Helper method to check whether a placed item may be displaced to make room for another item.
+    private boolean isDisplaceableFor(Item other, Item item) {
+        return other.getTaskID() != TaskRegistry.FEEDING_TASK && other.getMaxWindow() > item.getMaxWindow() && other.getCarryMinutes() == 0;
+    }
+
+    /**
+     * Sets the policy used to resolve items that do not fit in their window.
+     * @param conflictPolicy The policy to consult, such as {@link SwingConflictPolicy} or {@link AutoShiftPolicy}.
+     * @throws IllegalArgumentException if the policy is null.
+     */
+
+    public void setConflictPolicy(ConflictPolicy conflictPolicy) {
+        if (conflictPolicy == null) {
+            throw new IllegalArgumentException("Conflict policy cannot be null.");
+        }
+        this.conflictPolicy = conflictPolicy;
+    }
+
+    /**
+     * Returns the schedule of the current day as built by the last planning run.
+     * @return The formatted schedule, or null if nothing has been planned yet.
+     */
+
+    public String getScheduleString() {
+        return snapshot.getScheduleString();
+    }
+
+    /**
+     * Returns the plan published by the last planning run or treatment move. Unlike the other methods of the
+     * schedule, this can be called from any thread while the schedule is being planned or edited, and always
+     * returns a complete plan. Moving to the next day publishes nothing until the new day is planned.
+     * @return The latest snapshot, or {@link ScheduleSnapshot#EMPTY} if nothing has been planned yet.
+     */
+
+    public ScheduleSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Returns the items the conflict policy chose to leave out of the schedule.
+     * @return A copy of the unscheduled items.
+     */
+
+    public ArrayList<Item> getUnscheduledItems() {
+        return new ArrayList<>(unscheduledItems);
     }
 
     /**
@@ -104,197 +767,370 @@ public class Schedule {
      */
 
      private int findHourForVolunteer(Item item) {
-        for (int i = item.getStartHour(); i < item.getStartHour() + item.getMaxWindow(); i++) {
-            if (maxTimeAvailability.get(i) == 60) {
-                return i;
-            }
-        }
-        return -1; // No hour available for volunteer
+        return timeline.firstHourWithoutVolunteer(item.getAbsoluteStartHour(), item.getMaxWindow());
     }
 
     /**
      * Handles the scenario where a backup volunteer is required for a specific hour.
-     * It displays a dialog asking whether to add a volunteer for the hour. If confirmed,
+     * It asks the conflict policy whether to add a volunteer for the hour. If approved,
      * it adjusts the time availability accordingly and attempts to add the item to the schedule.
-     * If declined, it prompts the user to reschedule the item.
+     * If declined, or if the item still does not fit with the volunteer, the item is rescheduled, and a volunteer
+     * it could not use is released again.
      * @param volunteerHour The hour requiring a backup volunteer.
      * @param item The schedule item that needs to be added or rescheduled.
-     * @param options Array of options presented to the user in the dialog.
      */
 
-    private void handleVolunteerRequired(int volunteerHour, Item item, String[] options) {
-        int selectedValue = JOptionPane.showOptionDialog(null,
-                "A backup volunteer is required for " + volunteerHour, "Warning",
-                JOptionPane.DEFAULT_OPTION, JOptionPane.WARNING_MESSAGE,
-                null, options, options[0]);
-        if (selectedValue == 1) {
+    private void handleVolunteerRequired(int volunteerHour, Item item) {
+        if (conflictPolicy.approveVolunteer(volunteerHour, item)) {
             adjustTimeAvailability(volunteerHour);
             item.setNeedsVolunteer(true);
-            addItem(item);
-        } else {
-            promptReschedule(item);
+            if (addItem(item)) {
+                return;
+            }
+            item.setNeedsVolunteer(false);
+            timeline.removeVolunteer(volunteerHour);
         }
+        reschedule(item);
     }
 
 
     /**
      * Adjusts the time availability for a specific hour to account for an added volunteer.
-     * Increases the maximum time availability to 120 minutes and adds an additional 60 minutes
-     * to the current available time for the specified hour.
+     * Opens one more lane of 60 minutes in the hour, next to the lanes of the staff on the roster.
      * @param hour The hour at which to adjust time availability.
      */
 
     private void adjustTimeAvailability(int hour) {
-        maxTimeAvailability.put(hour, 120);
-        timeAvailability.put(hour, timeAvailability.get(hour) + 60);
+        timeline.addVolunteer(hour);
     }
 
     /**
-     * Prompts the user to reschedule a task to a new start hour based on available time slots.
-     * If the user inputs a valid new start hour with full availability (60 minutes), the item is rescheduled,
-     * and the treatment start hour in the database is updated. If the input is invalid, the user is prompted again.
+     * Asks the conflict policy to move a task to a new start hour with full availability, where no minutes of any
+     * staff member have been reserved yet.
+     * If the policy picks a free hour, the item is rescheduled. A treatment keeps its new start hour on the days
+     * planned afterwards, and an update of the treatment start hour in the database is queued, both once the
+     * planning run or move it is part of has finished. Otherwise the item is recorded as unscheduled.
      * @param item The item to be rescheduled, containing its current scheduling details and treatment ID.
      */
 
-    private void promptReschedule(Item item) {
-        String timesAvailable = getTimeAvailabilityForRescheduling();
-        String userInput = JOptionPane.showInputDialog(null,
-                "Please reschedule the task to a different time: " + timesAvailable);
-        try {
-            int newStartHour = Integer.parseInt(userInput);
-            if (timeAvailability.containsKey(newStartHour) && timeAvailability.get(newStartHour) == 60) {
-                item.setStartHour(newStartHour);
-                addItem(item);
-                importData.updateTreatmentStartHour(item.getTreatmentID(), newStartHour);
-            } else {
-                JOptionPane.showMessageDialog(null, "Invalid input, try again.");
-                promptReschedule(item); // Recursive call to prompt again
+    private void reschedule(Item item) {
+        int dayStart = item.getDay() * 24;
+        int newStartHour = conflictPolicy.chooseStartHour(item, getHoursAvailableForRescheduling(dayStart));
+        if (newStartHour >= 0 && newStartHour < 24 && timeline.isFree(dayStart + newStartHour)) {
+            item.setStartHour(newStartHour);
+            if (addItem(item)) {
+                if (item.getTreatmentID() > 0) { // Cage cleaning and feeding have no treatment row to update.
+                    startHourChanges.put(item.getTreatmentID(), newStartHour);
+                }
+                return;
             }
-        } catch (NumberFormatException e) {
-            JOptionPane.showMessageDialog(null, "Invalid input, try again.");
-            promptReschedule(item); // Recursive call to prompt again
         }
+        unscheduledItems.add(item);
     }
 
     /**
-     * Generates a string listing all hours where the full time slot (60 minutes) is available for rescheduling.
-     * @return A trimmed string of hours with full availability, separated by spaces.
+     * Lists all hours of a day where the time of every staff member is available for rescheduling.
+     * @param dayStart The absolute hour at which the day begins.
+     * @return The hours of the day with full availability, in ascending order.
      */
 
-    private String getTimeAvailabilityForRescheduling() {
-        StringBuilder times = new StringBuilder();
-        for (Integer hour : timeAvailability.keySet()) {
-            if (timeAvailability.get(hour) == 60) {
-                times.append(hour).append(" ");
+    private int[] getHoursAvailableForRescheduling(int dayStart) {
+        int count = 0;
+        for (int hour = 0; hour < 24; hour++) {
+            if (timeline.isFree(dayStart + hour)) {
+                count++;
+            }
+        }
+        int[] hours = new int[count];
+        int index = 0;
+        for (int hour = 0; hour < 24; hour++) {
+            if (timeline.isFree(dayStart + hour)) {
+                hours[index++] = hour;
             }
         }
-        return times.toString().trim();
+        return hours;
     }
 
     /**
      * Attempts to add a scheduled item to the timetable, adjusting for animal-specific preparation needs.
-     * It iterates through available hours within the item's maximum window, adding extra prep time for certain animals.
-     * The item is added to the first suitable hour slot, updating time availability accordingly.
+     * Windows are measured from the item's absolute start hour, so a window opening late in the day continues
+     * into the next morning. Non-feeding items go straight to the first hour in their window with enough free minutes. A feeding
+     * whose species needs food prep first joins an hour where that species' food is already prepared, so the prep is shared;
+     * otherwise it goes to the first hour with room for the feeding and the prep, which is then marked as prepared.
+     * A non-feeding item that fits in no single hour may still start in the free minutes at the end of one hour and
+     * finish in the next, as long as both hours are in its window.
      * @param item The item to be scheduled, containing details like start hour, duration, and animal ID.
      * @return boolean True if the item is successfully added within its window, false if no suitable slot is found.
      */
 
      public boolean addItem(Item item) {
         int duration = item.getDuration();
-        int priority = item.getMaxWindow();
-    
-        for (int hour = item.getStartHour(); hour < item.getStartHour() + item.getMaxWindow(); hour++) {
-            if (item.getTaskID() == 0) {
-                duration += adjustDurationForAnimalPrep(hour, item.getAnimalID());
+        int startHour = item.getAbsoluteStartHour();
+
+        int bit = feedingPrepBit(item);
+
+        if (bit < 0) {
+            int hour = timeline.firstFit(startHour, item.getMaxWindow(), duration);
+            if (hour < 0) {
+                return addStraddlingItem(item);
             }
-            int newTimeAvailability = timeAvailability.getOrDefault(hour, 0) - duration;
-            if (newTimeAvailability >= 0) {
-                schedule.computeIfAbsent(hour, k -> new ArrayList<>()).add(item);
-                timeAvailability.put(hour, newTimeAvailability);
+            recordPlacement(item, hour, timeline.reserveLane(hour, duration), duration);
+            return true;
+        }
+
+        for (int hour = startHour; hour < startHour + item.getMaxWindow(); hour++) {
+            if (timeline.isPrepared(hour, bit) && timeline.fits(hour, duration)) {
+                recordPlacement(item, hour, timeline.reserveLane(hour, duration), duration);
+                return true;
+            }
+        }
+        for (int hour = startHour; hour < startHour + item.getMaxWindow(); hour++) {
+            if (addItemAt(item, hour)) {
                 return true;
-            } else {
-                priority--;
-                if (priority <= 0) {
-                    return false;
-                }
             }
         }
         return false;
     }
 
     /**
-     * Calculates additional prep time for feeding based on animal type at a given hour, updating the prep status.
-     * Adds 5 minutes for Foxes and 10 minutes for Coyotes if not already accounted for, returning the added time.
-     * @param hour The schedule hour to check for food preparation.
-     * @param animalID The identifier of the animal.
-     * @return The additional time required for preparation, if any.
+     * Adds an item to a specific hour, including any food prep time it needs there.
+     * @param item The item to be scheduled.
+     * @param hour The absolute hour to schedule it in.
+     * @return boolean True if the hour had enough free time for the item.
      */
 
-    private int adjustDurationForAnimalPrep(int hour, int animalID) {
-        Object animal = animalHashMap.get(animalID);
-        HashMap<String, Boolean> foodPrep = foodPrepFeeding.getOrDefault(hour, new HashMap<>());
-        int additionalDuration = 0;
-    
-        if (animal instanceof Fox && foodPrep.putIfAbsent("fox", true) == null) {
-            additionalDuration = 5;
-        } else if (animal instanceof Coyote && foodPrep.putIfAbsent("coyote", true) == null) {
-            additionalDuration = 10;
+    private boolean addItemAt(Item item, int hour) {
+        return addItemAt(item, hour, -1);
+    }
+
+    /**
+     * Adds an item to a lane of a specific hour, including any food prep time it needs there. If the lane does
+     * not have enough free time, the item goes to the lane of the hour that fits it most tightly.
+     * @param item The item to be scheduled.
+     * @param hour The absolute hour to schedule it in.
+     * @param lane The lane to schedule it in, or -1 for the lane that fits it most tightly.
+     * @return boolean True if the hour had enough free time for the item.
+     */
+
+    private boolean addItemAt(Item item, int hour, int lane) {
+        int duration = item.getDuration();
+        int bit = feedingPrepBit(item);
+        if (bit >= 0 && !timeline.isPrepared(hour, bit)) {
+            duration += speciesRegistry.getPrepMinutes(bit);
         }
-    
-        if (additionalDuration > 0) {
-            foodPrepFeeding.put(hour, foodPrep);
+        if (!timeline.reserveInLane(hour, lane, duration)) {
+            lane = timeline.reserveLane(hour, duration);
+            if (lane < 0) {
+                return false;
+            }
         }
-    
-        return additionalDuration;
+        if (bit >= 0) {
+            timeline.markPrepared(hour, bit);
+        }
+        recordPlacement(item, hour, lane, duration);
+        return true;
     }
 
     /**
-     * Generates a list of medical treatment items for animals, each item detailing the treatment schedule and requirements.
-     * Updates animal kit status for specific treatments and returns an ArrayList of these items.
-     * @return medicalItems
+     * Places an item across the boundary between two hours of its window, packing it back-to-back into the free
+     * minutes at the end of one staff member's first hour and the start of their second. Only staff lanes working
+     * both hours are used, and each lane of an hour can only have one item running on into the next.
+     * @param item The item to be scheduled.
+     * @return boolean True if two adjacent hours had enough free time between them.
      */
-    
-     public ArrayList<Item> addMedical() {
 
-        ArrayList<Item> medicalItems = new ArrayList<>();
-        for(Treatments treatment : treatmentsArrayList) {
-            int animalID = treatment.getAnimalID();
-            int taskID = treatment.getTaskID();
-            int startHour = treatment.getStartHour();
-            int treatmentID = treatment.getTreatmentID();
+    private boolean addStraddlingItem(Item item) {
+        int duration = item.getDuration();
+        int startHour = item.getAbsoluteStartHour();
+        for (int hour = startHour; hour + 1 < startHour + item.getMaxWindow(); hour++) {
+            int lanes = Math.min(timeline.getStaff(hour), timeline.getStaff(hour + 1));
+            for (int lane = 0; lane < lanes; lane++) {
+                int head = timeline.getLaneFree(hour, lane);
+                if (head == 0 || head >= duration || head + timeline.getLaneFree(hour + 1, lane) < duration
+                        || findCarryingItem(hour, lane) != null) {
+                    continue;
+                }
+                timeline.reserveInLane(hour, lane, head);
+                timeline.reserveInLane(hour + 1, lane, duration - head);
+                schedule.computeIfAbsent(hour, k -> new ArrayList<>()).add(item);
+                item.setPlacement(hour, lane, duration, duration - head);
+                layoutHour(hour);
+                layoutHour(hour + 1);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Helper method to add a placed item to its hour and remember where it went and how many minutes it took.
+    private void recordPlacement(Item item, int hour, int lane, int minutes) {
+        schedule.computeIfAbsent(hour, k -> new ArrayList<>()).add(item);
+        item.setPlacement(hour, lane, minutes);
+        layoutHour(hour);
+    }
+
+    // Helper method to take a placed item out of its hour and give its minutes back to the timeline.
+    private void evict(Item item) {
+        int hour = item.getScheduledHour();
+        int carry = item.getCarryMinutes();
+        ArrayList<Item> items = schedule.get(hour);
+        if (items != null) {
+            items.remove(item);
+        }
+        IntervalTree<Item> intervals = dayIntervals.get(Math.floorDiv(hour, 24));
+        if (intervals != null) {
+            intervals.remove(item);
+        }
+        timeline.release(hour, item.getLane(), item.getReservedMinutes() - carry);
+        if (carry > 0) {
+            timeline.release(hour + 1, item.getLane(), carry);
+        }
+        item.clearPlacement();
+        item.setNeedsVolunteer(false);
+        layoutHour(hour);
+        vacatedHours.add(hour);
+        if (carry > 0) {
+            layoutHour(hour + 1);
+        }
+    }
+
+    /**
+     * Releases the volunteers of the hours items were taken out of, once all of that has been re-placed. Items
+     * still in a volunteer's lane are moved to a staff member with enough free minutes, and a volunteer left with
+     * nothing to do is removed, so that a later conflict in the hour asks the conflict policy again. A volunteer
+     * who is still needed is kept, and the items in their lane are the ones marked as needing them.
+     */
 
-            if (taskID == 1) {
-                animalHashMap.get(animalID).setKitStatus();
+    private void releaseUnusedVolunteers() {
+        for (int hour : vacatedHours) {
+            if (!timeline.hasVolunteer(hour)) {
+                continue;
             }
-            
-            int maxWindow = tasksHashMap.get(taskID).getMaxWindow();
-            int duration = tasksHashMap.get(taskID).getDuration();
-    
-            Item medicalItem = new Item(animalID, taskID, startHour, maxWindow, duration, treatmentID);
-            medicalItems.add(medicalItem);
-            
+            int volunteerLane = timeline.getStaff(hour);
+            ArrayList<Item> items = schedule.getOrDefault(hour, new ArrayList<>());
+            for (Item item : items) {
+                if (item.getLane() != volunteerLane) {
+                    continue;
+                }
+                for (int lane = 0; lane < volunteerLane; lane++) {
+                    if (timeline.reserveInLane(hour, lane, item.getReservedMinutes())) {
+                        timeline.release(hour, volunteerLane, item.getReservedMinutes());
+                        item.setPlacement(hour, lane, item.getReservedMinutes());
+                        break;
+                    }
+                }
+            }
+            boolean released = timeline.removeVolunteer(hour);
+            for (Item item : items) {
+                item.setNeedsVolunteer(!released && item.getLane() == volunteerLane);
+            }
+            layoutHour(hour);
         }
-        return medicalItems;
+        vacatedHours.clear();
     }
 
     /**
-     * Prepares a list of cage cleaning tasks, with special consideration for porcupines, and returns the compiled items.
-     * @return A list of cage cleaning tasks differentiated by animal type.
+     * Assigns a start minute to every item placed in an hour and updates the interval index. Each person's items
+     * are packed back-to-back from the top of the hour in their own lane, after any item of theirs running on from
+     * the previous hour, and an item running on into the next hour takes the last minutes of the lane.
+     * @param hour The absolute hour to lay out.
      */
 
-    public ArrayList<Item> addCage() {
-        ArrayList<Item> cageItems = new ArrayList<>();
-        for (int animalID : animalHashMap.keySet()) {
-            Item cageCleaning;
-            if (animalHashMap.get(animalID) instanceof Porcupine) {
-                cageCleaning = new Item(animalID, -1, 0, 24, 10);
+    private void layoutHour(int hour) {
+        changedHours.add(hour);
+        ArrayList<Item> items = schedule.get(hour);
+        if (items == null) {
+            return;
+        }
+        int hourStart = hour * CapacityTimeline.MINUTES_PER_HOUR;
+        int[] laneUsed = new int[timeline.getMaxLanes()];
+        ArrayList<Item> carriedIn = schedule.get(hour - 1);
+        if (carriedIn != null) {
+            for (Item item : carriedIn) {
+                if (item.getCarryMinutes() > 0) {
+                    laneUsed[item.getLane()] = item.getCarryMinutes();
+                }
+            }
+        }
+        IntervalTree<Item> intervals = dayIntervals.computeIfAbsent(Math.floorDiv(hour, 24), k -> new IntervalTree<>());
+        for (Item item : items) {
+            if (item.getCarryMinutes() > 0) {
+                item.setStartMinute(hourStart + CapacityTimeline.MINUTES_PER_HOUR
+                        - (item.getReservedMinutes() - item.getCarryMinutes()));
+            } else {
+                item.setStartMinute(hourStart + laneUsed[item.getLane()]);
+                laneUsed[item.getLane()] += item.getReservedMinutes();
+            }
+            intervals.insert(item, item.getStartMinute(), item.getEndMinute());
+        }
+    }
+
+    // Helper method to find the item placed in a lane of an hour that runs on into the next hour, if there is one.
+    private Item findCarryingItem(int hour, int lane) {
+        ArrayList<Item> items = schedule.get(hour);
+        if (items != null) {
+            for (Item item : items) {
+                if (item.getCarryMinutes() > 0 && item.getLane() == lane) {
+                    return item;
+                }
             }
-            else {
-                cageCleaning = new Item(animalID, -2, 0, 24, 5);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the placed items being worked on at a minute, such as what staff are doing at 13:40 of a day.
+     * @param minute The absolute minute, counted from midnight of day 0.
+     * @return The items whose start and end minutes surround the minute, in order of start minute.
+     */
+
+    public ArrayList<Item> getItemsAt(int minute) {
+        return getItemsBetween(minute, minute + 1);
+    }
+
+    /**
+     * Returns the placed items being worked on at any time in a range of minutes.
+     * @param fromMinute The first absolute minute of the range.
+     * @param toMinute The absolute minute after the last minute of the range.
+     * @return The items overlapping the range, ordered by the day they start on and then by start minute.
+     */
+
+    public ArrayList<Item> getItemsBetween(int fromMinute, int toMinute) {
+        ArrayList<Item> items = new ArrayList<>();
+        int minutesPerDay = 24 * CapacityTimeline.MINUTES_PER_HOUR;
+        // An item starting late on the previous day may still be running at the start of the range.
+        for (int day = Math.floorDiv(fromMinute, minutesPerDay) - 1; day <= Math.floorDiv(toMinute - 1, minutesPerDay); day++) {
+            IntervalTree<Item> intervals = dayIntervals.get(day);
+            if (intervals != null) {
+                items.addAll(intervals.valuesBetween(fromMinute, toMinute));
             }
-        cageItems.add(cageCleaning);
         }
-        return cageItems;
+        return items;
+    }
+
+    /**
+     * Generates a list of medical treatment items for animals, each item detailing the treatment schedule and requirements.
+     * The items are copied from the ones imported with their task's duration and window already joined in, so no
+     * lookups are needed per treatment.
+     * @return medicalItems
+     */
+    
+     public ArrayList<Item> addMedical() {
+        ItemStore medicalItems = new ItemStore(treatmentTemplates.size());
+        appendMedical(medicalItems);
+        return medicalItems.toItems();
+    }
+
+    /**
+     * Prepares a list of cage cleaning tasks, taking each cage's cleaning time from its species' profile, and
+     * returns the compiled items.
+     * @return A list of cage cleaning tasks differentiated by species.
+     */
+
+    public ArrayList<Item> addCage() {
+        ItemStore cageItems = new ItemStore(animals.size());
+        appendCage(cageItems);
+        return cageItems.toItems();
     }
 
     /**
@@ -303,15 +1139,42 @@ public class Schedule {
      */
 
     public ArrayList<Item> addFeeding() {
-        ArrayList<Item> feedingItems = new ArrayList<>();
-        for (int animalID : animalHashMap.keySet()) {
-            if (animalHashMap.get(animalID).getKitStatus()) {
+        ItemStore feedingItems = new ItemStore(animals.size());
+        appendFeeding(feedingItems);
+        return feedingItems.toItems();
+    }
+
+    // Helper method to add a copy of every imported treatment to a store.
+    private void appendMedical(ItemStore items) {
+        for (int i = 0; i < treatmentTemplates.size(); i++) {
+            items.add(treatmentTemplates.getAnimalID(i), treatmentTemplates.getTaskID(i),
+                    treatmentTemplates.getStartHour(i), treatmentTemplates.getMaxWindow(i),
+                    treatmentTemplates.getDuration(i), treatmentTemplates.getTreatmentID(i));
+        }
+    }
+
+    // Helper method to add a cage cleaning item per animal of a registered species to a store.
+    private void appendCage(ItemStore items) {
+        for (int i = 0; i < animals.size(); i++) {
+            int species = animals.getSpeciesID(i);
+            if (species < 0) {
+                continue;
+            }
+            items.add(animals.getAnimalID(i), speciesRegistry.getCageTaskID(species), 0, 24,
+                    speciesRegistry.getCageMinutes(species), 0);
+        }
+    }
+
+    // Helper method to add a feeding item per animal of a registered species that is not a kit to a store.
+    private void appendFeeding(ItemStore items) {
+        for (int i = 0; i < animals.size(); i++) {
+            int species = animals.getSpeciesID(i);
+            if (species < 0 || animals.getAnimal(i).getKitStatus()) {
                 continue;
             }
-            Item feedingItem = animalHashMap.get(animalID).feeding();
-            feedingItems.add(feedingItem);
+            items.add(animals.getAnimalID(i), TaskRegistry.FEEDING_TASK, speciesRegistry.getFeedingStartHour(species),
+                    speciesRegistry.getFeedingWindow(species), speciesRegistry.getFeedingMinutes(species), 0);
         }
-        return feedingItems;
     }
 
     /**
@@ -321,44 +1184,27 @@ public class Schedule {
      */
 
     public String formatItem(Item item, int nickNameWidth, int descriptionWidth) {
-        String nickName = animalHashMap.get(item.getAnimalID()).getNickName();
-        if (item.getNeedsVolunteer()) {
-            nickName += " (+ Volunteer)";
+        StringBuilder builder = new StringBuilder(nickNameWidth + descriptionWidth + 10);
+        try {
+            ScheduleWriter.appendItem(builder, nickNameOf(item), item.getNeedsVolunteer(),
+                    tasks.getDescription(item.getTaskID()), item.getDuration(), nickNameWidth, descriptionWidth);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // A StringBuilder does not throw.
         }
-        String description = (item.getTaskID() == 0) ? "Feeding" : tasksHashMap.get(item.getTaskID()).getDescription();
-        int duration = item.getDuration();
-        return String.format("%-" + nickNameWidth + "s%-"+ descriptionWidth + "s%5d mins", nickName, description, duration);
+        return builder.toString();
     }
 
     /**
      * Writes the daily schedule of tasks to "Schedule.txt", detailing each hour's assignments or marking it as empty.
-     * For each hour with scheduled tasks, it formats the tasks for readability and outputs them to the file.
+     * The schedule is streamed from the latest published snapshot into a temporary file, which then replaces
+     * "Schedule.txt", so the file is never left half written and always shows one finished plan.
      */
 
     public void createTextSchedule() {
-        String fileName = "Schedule.txt";
-        FileWriter fileWriter = null;
-        BufferedWriter bufferedWriter = null;
         try {
-
-            fileWriter = new FileWriter(fileName);
-            bufferedWriter = new BufferedWriter(fileWriter);
-
-            bufferedWriter.write(this.scheduleString);
+            ScheduleWriter.writeFile(Paths.get(TEXT_SCHEDULE_FILE), snapshot::writeDay);
         } catch (IOException e) {
-            System.err.println("Error writing to Schedule.txt: " + e.getMessage());
-        }finally{
-            try{
-                if(bufferedWriter != null){
-                    bufferedWriter.close();
-                }
-                if(fileWriter != null){
-                    fileWriter.close();
-                }
-                
-            }catch(IOException e){
-                System.err.println("Excetption occured when trying to close schedule.txt");
-            }
+            System.err.println("Error writing to " + TEXT_SCHEDULE_FILE + ": " + e.getMessage());
         }
     }
 
@@ -370,7 +1216,7 @@ public class Schedule {
     public void createGUIschedule() {
         
        
-        JTextArea textArea = new JTextArea(scheduleString);
+        JTextArea textArea = new JTextArea(snapshot.getScheduleString());
         JScrollPane scrollPane = new JScrollPane(textArea);
         textArea.setEditable(false);
         textArea.setLineWrap(true);
@@ -381,26 +1227,27 @@ public class Schedule {
     }
 
     /*
+     * Publishes the plan of the current day, including items that spilled over from the previous day. The schedule
+     * string is built from the published snapshot the first time it is asked for, not on every planning run.
      * @param none.
-     * @return a formatted string that represents the schedule
      */
     public void createScheduleString(){
-        StringBuilder scheduleBuilder = new StringBuilder();
-    
-        for (Map.Entry<Integer, ArrayList<Item>> entry : schedule.entrySet()) {
-            int hour = entry.getKey();
-            scheduleBuilder.append("Hour: ").append(hour).append("\n");
-            
-            ArrayList<Item> items = entry.getValue();
-            if (items != null && !items.isEmpty()) {
-                for (Item item : items) {
-                    scheduleBuilder.append(formatItem(item, 30, 25)).append("\n");
-                }
-            } else {
-                scheduleBuilder.append("Empty\n");
-            }
-            scheduleBuilder.append("\n");
+        publishSnapshot();
+    }
+
+    // Helper method to find the nickname of an item's animal.
+    private String nickNameOf(Item item) {
+        return animals.getAnimal(animals.indexOf(item.getAnimalID())).getNickName();
+    }
+
+    // Helper method to publish a copy of every placed and unscheduled item, copying only the hours that changed
+    // since the last snapshot. Every placement change lays out its hour, which records the hour as changed.
+    private void publishSnapshot() {
+        HashMap<Integer, ArrayList<Item>> changed = new HashMap<>();
+        for (int hour : changedHours) {
+            changed.put(hour, schedule.getOrDefault(hour, new ArrayList<>()));
         }
-        this.scheduleString = scheduleBuilder.toString();
+        changedHours.clear();
+        snapshot = snapshot.update(++snapshotVersion, currentDay, changed, unscheduledItems, animals, tasks);
     }
 }
\ No newline at end of file
@@ -0,0 +1,192 @@
+package edu.ucalgary.oop.Schedule;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Plans many shelters at once on a work-stealing {@link ForkJoinPool}. Every shelter gets its own
+ * {@link Schedule}, with its own database connection and conflict policy, so no planning state is shared between
+ * shelters and the work scales with the number of cores.
+ * <p>
+ * Since no one is available to answer dialogs, each schedule uses a non-interactive conflict policy created by the
+ * policy supplier, a {@link ReportingConflictPolicy} by default. A shelter that cannot be imported or planned is
+ * reported as failed without affecting the others.
+ * </p>
+ * <p>
+ * Each database, told apart by its URL, user and password, keeps a {@link ConnectionPool} between runs, so
+ * planning a shelter again reuses its open connections. A pool that no shelter could be planned from is closed
+ * once the run has finished, unless a schedule from an earlier run still uses it, so the next run connects afresh.
+ * </p>
+ * <p>
+ * The service owns the schedules it returns. Closing the service closes every one of them, writing any treatment
+ * moves they still have queued, before closing the pools. Runs on the same service take turns.
+ * </p>
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class ScheduleService implements AutoCloseable {
+    private final int parallelism;
+    private final Supplier<ConflictPolicy> policySupplier;
+    private final ConcurrentHashMap<String, ConnectionPool> pools = new ConcurrentHashMap<>(); // By database.
+
+    // Every schedule handed out, and the databases they use, so their pools are kept open until they are closed.
+    private final ArrayList<Schedule> schedules = new ArrayList<>();
+    private final HashSet<String> servedKeys = new HashSet<>();
+
+    // Aggregate timings of the last run.
+    private long lastWallNanos = 0;
+    private long lastTotalNanos = 0;
+
+    /**
+     * Constructs a service using one worker per available core and a reporting conflict policy for each shelter.
+     */
+    public ScheduleService() {
+        this(Runtime.getRuntime().availableProcessors(), ReportingConflictPolicy::new);
+    }
+
+    /**
+     * Constructs a service with the given number of workers and conflict policy supplier.
+     *
+     * @param parallelism The number of worker threads. Must be positive.
+     * @param policySupplier Creates a new conflict policy for each shelter. Cannot be null.
+     * @throws IllegalArgumentException if the parallelism is not positive or the supplier is null.
+     */
+    public ScheduleService(int parallelism, Supplier<ConflictPolicy> policySupplier) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive.");
+        }
+        if (policySupplier == null) {
+            throw new IllegalArgumentException("Policy supplier cannot be null.");
+        }
+        this.parallelism = parallelism;
+        this.policySupplier = policySupplier;
+    }
+
+    /**
+     * Plans the current day of every shelter concurrently and waits for all of them to finish.
+     *
+     * @param shelters The shelters to plan.
+     * @return One result per shelter, in the order given.
+     */
+    public synchronized ArrayList<ShelterResult> planAll(List<ShelterConfig> shelters) {
+        ArrayList<Callable<ShelterResult>> tasks = new ArrayList<>();
+        for (ShelterConfig shelter : shelters) {
+            tasks.add(() -> planShelter(shelter));
+        }
+
+        long started = System.nanoTime();
+        ArrayList<ShelterResult> results = new ArrayList<>();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            for (Future<ShelterResult> future : pool.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while planning shelters.", e);
+        } catch (ExecutionException e) {
+            // planShelter catches its own exceptions, so this only happens on an Error.
+            throw new IllegalStateException("Planning a shelter failed unexpectedly.", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+
+        long total = 0;
+        for (ShelterResult result : results) {
+            total += result.getTotalNanos();
+            if (result.isSuccessful()) {
+                schedules.add(result.getSchedule());
+                servedKeys.add(keyOf(result.getConfig()));
+            }
+        }
+        closeUnservedPools(results);
+        this.lastWallNanos = System.nanoTime() - started;
+        this.lastTotalNanos = total;
+        return results;
+    }
+
+    /**
+     * Returns the wall-clock time of the last run, from submitting the first shelter to the last one finishing.
+     *
+     * @return The elapsed time in nanoseconds.
+     */
+    public long getLastWallNanos() {
+        return lastWallNanos;
+    }
+
+    /**
+     * Returns the sum of every shelter's import and planning time in the last run. Divided by the wall-clock time,
+     * this gives the speedup gained from planning shelters in parallel.
+     *
+     * @return The total time in nanoseconds.
+     */
+    public long getLastTotalNanos() {
+        return lastTotalNanos;
+    }
+
+    /**
+     * Closes every schedule returned so far, writing the treatment moves they still have queued, and then the
+     * connection pool of every shelter planned. The schedules can no longer read from or write to their databases.
+     */
+    @Override
+    public synchronized void close() {
+        for (Schedule schedule : schedules) {
+            schedule.close(); // The pools are still open, so queued moves can be written.
+        }
+        schedules.clear();
+        servedKeys.clear();
+        for (ConnectionPool pool : pools.values()) {
+            pool.close();
+        }
+        pools.clear();
+    }
+
+    // Helper method to import and plan a single shelter, recording a failure instead of throwing it.
+    private ShelterResult planShelter(ShelterConfig shelter) {
+        long started = System.nanoTime();
+        ConnectionPool pool = pools.computeIfAbsent(keyOf(shelter),
+                k -> new ConnectionPool(shelter.getUrl(), shelter.getUsername(), shelter.getPassword()));
+        Schedule schedule;
+        try {
+            schedule = new Schedule(pool);
+        } catch (Exception e) {
+            // The pool may be in use by other shelters of the run, so it is only closed once the run is over.
+            return new ShelterResult(shelter, null, e, System.nanoTime() - started, 0);
+        }
+        long imported = System.nanoTime();
+        try {
+            schedule.setConflictPolicy(policySupplier.get());
+            schedule.planSchedule();
+        } catch (Exception e) {
+            schedule.close();
+            return new ShelterResult(shelter, null, e, imported - started, System.nanoTime() - imported);
+        }
+        return new ShelterResult(shelter, schedule, null, imported - started, System.nanoTime() - imported);
+    }
+
+    // Helper method to close the pools of the databases no shelter has been planned from, now that no task of the
+    // run is using them, so the next run connects afresh instead of reusing a pool for a database that failed.
+    private void closeUnservedPools(List<ShelterResult> results) {
+        for (ShelterResult result : results) {
+            String key = keyOf(result.getConfig());
+            if (!servedKeys.contains(key)) {
+                ConnectionPool pool = pools.remove(key);
+                if (pool != null) {
+                    pool.close();
+                }
+            }
+        }
+    }
+
+    // Helper method to name the database of a shelter. The password is part of it, so shelters logging in with
+    // different passwords never share a pool's connections.
+    private static String keyOf(ShelterConfig shelter) {
+        return shelter.getUrl() + "\n" + shelter.getUsername() + "\n" + shelter.getPassword();
+    }
+}
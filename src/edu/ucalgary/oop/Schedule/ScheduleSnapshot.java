@@ -0,0 +1,283 @@
+package edu.ucalgary.oop.Schedule;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+
+/**
+ * An immutable copy of a finished plan, published by {@link Schedule} whenever a planning run or a treatment move
+ * completes. A snapshot holds the day it was built for, every placed item of the planned horizon as a
+ * {@link Placement} in order of start minute, and the items left out of the schedule. Placements carry their
+ * animal's nickname and their task's description, so the day can be written out from the snapshot alone; the
+ * formatted schedule is only built when it is first asked for, and then kept.
+ * <p>
+ * Since nothing in a snapshot changes after it is built, any number of threads, such as a GUI renderer, an
+ * exporter or a query endpoint, can read the latest one without locks, and never see a plan that is only
+ * partly placed. Each published snapshot has a higher version than the one before.
+ * </p>
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public final class ScheduleSnapshot {
+    /** The snapshot of a schedule that has not been planned yet. */
+    public static final ScheduleSnapshot EMPTY = new ScheduleSnapshot();
+
+    private final long version;
+    private final int day;
+    private final boolean planned;
+    private String scheduleString = null; // Built on first request. Racing readers build equal strings.
+    private final Placement[] placements; // Ordered by start minute.
+    private final int maxSpan;            // Longest placement, to bound the search for overlapping ones.
+    private final List<Placement> unscheduled;
+
+    /**
+     * Constructs a snapshot, copying the placed and unscheduled items along with their nicknames and descriptions.
+     *
+     * @param version The number of the snapshot, increasing with each one published.
+     * @param day The day of the horizon the schedule string shows.
+     * @param placedItems The items placed on any day of the horizon.
+     * @param unscheduledItems The items left out of the schedule.
+     * @param animals The animals the items are for.
+     * @param tasks The tasks the items perform.
+     */
+    public ScheduleSnapshot(long version, int day, Collection<Item> placedItems, Collection<Item> unscheduledItems,
+                            AnimalRegistry animals, TaskRegistry tasks) {
+        this(version, day, true, toSortedPlacements(placedItems, animals, tasks),
+                toPlacements(unscheduledItems, animals, tasks));
+    }
+
+    // Constructs the snapshot of a schedule that has not been planned, which has no schedule string.
+    private ScheduleSnapshot() {
+        this(0, 0, false, new Placement[0], Collections.emptyList());
+    }
+
+    // Constructs a snapshot from placements already in order of start minute.
+    private ScheduleSnapshot(long version, int day, boolean planned, Placement[] placements,
+                             List<Placement> unscheduled) {
+        this.version = version;
+        this.day = day;
+        this.planned = planned;
+        this.placements = placements;
+        int longest = 0;
+        for (Placement placement : placements) {
+            longest = Math.max(longest, placement.getEndMinute() - placement.getStartMinute());
+        }
+        maxSpan = longest;
+        this.unscheduled = Collections.unmodifiableList(unscheduled);
+    }
+
+    /**
+     * Creates the next snapshot from this one, copying only the items of the hours whose placements changed. The
+     * placements of every other hour are shared with this snapshot, as they never change, and are already in
+     * order, so the changed ones are merged in with a single pass instead of copying and sorting the whole horizon.
+     *
+     * @param version The number of the new snapshot, higher than this one's.
+     * @param day The day of the horizon the schedule string shows.
+     * @param changedHours The items now placed in each absolute hour whose placements changed, by hour.
+     * @param unscheduledItems The items left out of the schedule.
+     * @param animals The animals the items are for.
+     * @param tasks The tasks the items perform.
+     * @return The new snapshot.
+     */
+    public ScheduleSnapshot update(long version, int day, Map<Integer, ? extends Collection<Item>> changedHours,
+                                   Collection<Item> unscheduledItems, AnimalRegistry animals, TaskRegistry tasks) {
+        ArrayList<Item> changedItems = new ArrayList<>();
+        for (Collection<Item> items : changedHours.values()) {
+            changedItems.addAll(items);
+        }
+        Placement[] added = toSortedPlacements(changedItems, animals, tasks);
+        Placement[] merged = new Placement[placements.length + added.length];
+        int count = 0;
+        int next = 0;
+        for (Placement kept : placements) {
+            if (changedHours.containsKey(kept.getScheduledHour())) {
+                continue;
+            }
+            while (next < added.length && added[next].getStartMinute() < kept.getStartMinute()) {
+                merged[count++] = added[next++];
+            }
+            merged[count++] = kept;
+        }
+        while (next < added.length) {
+            merged[count++] = added[next++];
+        }
+        return new ScheduleSnapshot(version, day, true, Arrays.copyOf(merged, count),
+                toPlacements(unscheduledItems, animals, tasks));
+    }
+
+    /**
+     * Returns every placement of the horizon.
+     *
+     * @return An unmodifiable list of the placements, in order of start minute.
+     */
+    public List<Placement> getPlacements() {
+        return Collections.unmodifiableList(Arrays.asList(placements));
+    }
+
+    /**
+     * Returns the placements being worked on at any time in a range of minutes.
+     *
+     * @param fromMinute The first absolute minute of the range.
+     * @param toMinute The absolute minute after the last minute of the range.
+     * @return The placements overlapping the range, in order of start minute.
+     */
+    public List<Placement> getPlacementsBetween(int fromMinute, int toMinute) {
+        ArrayList<Placement> overlapping = new ArrayList<>();
+        // A placement starting more than the longest span before the range cannot reach into it.
+        for (int i = firstStartingAtOrAfter(fromMinute - maxSpan); i < placements.length
+                && placements[i].getStartMinute() < toMinute; i++) {
+            if (placements[i].getEndMinute() > fromMinute) {
+                overlapping.add(placements[i]);
+            }
+        }
+        return overlapping;
+    }
+
+    /**
+     * Returns the placements given to an absolute hour of the horizon.
+     *
+     * @param hour The absolute hour, counted from midnight of day 0.
+     * @return The placements reserved in the hour, in order of start minute.
+     */
+    public List<Placement> getPlacementsInHour(int hour) {
+        ArrayList<Placement> inHour = new ArrayList<>();
+        int hourStart = hour * CapacityTimeline.MINUTES_PER_HOUR;
+        for (Placement placement : getPlacementsBetween(hourStart, hourStart + CapacityTimeline.MINUTES_PER_HOUR)) {
+            if (placement.getScheduledHour() == hour) {
+                inHour.add(placement);
+            }
+        }
+        return inHour;
+    }
+
+    /**
+     * Writes every hour of the snapshot's day, with the placements given to it, one placement at a time, so a
+     * file can be written without building the whole schedule in memory first.
+     *
+     * @param out Where the schedule is written.
+     * @throws IOException if writing fails.
+     */
+    public void writeDay(Appendable out) throws IOException {
+        ScheduleWriter writer = new ScheduleWriter(out);
+        int dayStart = day * 24;
+        for (int hour = 0; hour < 24; hour++) {
+            writer.startHour(hour);
+            for (Placement placement : getPlacementsInHour(dayStart + hour)) {
+                writer.writeItem(Math.floorMod(placement.getStartMinute(), 24 * CapacityTimeline.MINUTES_PER_HOUR),
+                        placement.getNickName(), placement.getNeedsVolunteer(), placement.getDescription(),
+                        placement.getDuration());
+            }
+            writer.endHour();
+        }
+    }
+
+    /**
+     * Returns the formatted schedule of the snapshot's day, building it the first time it is asked for.
+     *
+     * @return The schedule, or null if nothing had been planned when the snapshot was published.
+     */
+    public String getScheduleString() {
+        if (!planned) {
+            return null;
+        }
+        String rendered = scheduleString;
+        if (rendered == null) {
+            StringBuilder builder = new StringBuilder();
+            try {
+                writeDay(builder);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e); // A StringBuilder does not throw.
+            }
+            rendered = builder.toString();
+            scheduleString = rendered;
+        }
+        return rendered;
+    }
+
+    public long getVersion() { return version; }
+    public int getDay() { return day; }
+    public List<Placement> getUnscheduled() { return unscheduled; }
+
+    // Helper method to copy items into placements, in order of start minute.
+    private static Placement[] toSortedPlacements(Collection<Item> items, AnimalRegistry animals, TaskRegistry tasks) {
+        Placement[] sorted = toPlacements(items, animals, tasks).toArray(new Placement[0]);
+        Arrays.sort(sorted, Comparator.comparingInt(Placement::getStartMinute));
+        return sorted;
+    }
+
+    // Helper method to copy items into placements, in the order given.
+    private static ArrayList<Placement> toPlacements(Collection<Item> items, AnimalRegistry animals,
+                                                     TaskRegistry tasks) {
+        ArrayList<Placement> copies = new ArrayList<>(items.size());
+        for (Item item : items) {
+            copies.add(new Placement(item, animals, tasks));
+        }
+        return copies;
+    }
+
+    // Helper method to find the first placement starting at or after a minute, by binary search.
+    private int firstStartingAtOrAfter(int minute) {
+        int low = 0;
+        int high = placements.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (placements[middle].getStartMinute() < minute) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * An immutable copy of one item of a snapshot, as it was placed when the snapshot was built. Items left out
+     * of the schedule have a scheduled hour, start minute and end minute of -1. The end minute includes any food
+     * prep reserved with the item.
+     */
+    public static final class Placement {
+        private final int animalID;
+        private final int taskID;
+        private final int treatmentID;
+        private final int day;
+        private final int scheduledHour;
+        private final int startMinute;
+        private final int endMinute;
+        private final int duration;
+        private final boolean needsVolunteer;
+        private final String nickName;
+        private final String description;
+
+        // Copies the fields of an item, with the nickname of its animal and the description of its task.
+        private Placement(Item item, AnimalRegistry animals, TaskRegistry tasks) {
+            animalID = item.getAnimalID();
+            taskID = item.getTaskID();
+            treatmentID = item.getTreatmentID();
+            day = item.getDay();
+            scheduledHour = item.getScheduledHour();
+            startMinute = item.getStartMinute();
+            endMinute = item.getEndMinute();
+            duration = item.getDuration();
+            needsVolunteer = item.getNeedsVolunteer();
+            nickName = animals.getAnimal(animals.indexOf(animalID)).getNickName();
+            description = tasks.getDescription(taskID);
+        }
+
+        public int getAnimalID() { return animalID; }
+        public int getTaskID() { return taskID; }
+        public int getTreatmentID() { return treatmentID; }
+        public int getDay() { return day; }
+        public int getScheduledHour() { return scheduledHour; }
+        public int getStartMinute() { return startMinute; }
+        public int getEndMinute() { return endMinute; }
+        public int getDuration() { return duration; }
+        public boolean getNeedsVolunteer() { return needsVolunteer; }
+        public String getNickName() { return nickName; }
+        public String getDescription() { return description; }
+    }
+}
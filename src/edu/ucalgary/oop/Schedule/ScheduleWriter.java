@@ -0,0 +1,196 @@
+package edu.ucalgary.oop.Schedule;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+
+/**
+ * Renders a day's schedule one hour and one item at a time to any {@link Appendable}, such as a StringBuilder for
+ * the dialog or a file writer. Columns are padded from a precomputed run of spaces and numbers are appended
+ * directly, so no format pattern is built or parsed per item. Every hour is written as a "Hour: " line followed
+ * by its items, or by "Empty" if it has none, and a blank line.
+ * <p>
+ * {@link #writeFile} streams a schedule through a small buffer into a temporary file next to the target and then
+ * renames it over the target, so the memory used does not grow with the schedule and readers of the file never
+ * see it half written.
+ * </p>
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class ScheduleWriter {
+    public static final int NICKNAME_WIDTH = 30;
+    public static final int DESCRIPTION_WIDTH = 25;
+
+    private static final String VOLUNTEER_SUFFIX = " (+ Volunteer)";
+    private static final String SPACES = "                                                                ";
+    private static final int DURATION_WIDTH = 5;
+    private static final int BUFFER_BYTES = 8192;
+
+    private final Appendable out;
+    private final int nickNameWidth;
+    private final int descriptionWidth;
+    private boolean hourEmpty = true;
+
+    /**
+     * Receives the rendered schedule written to a file.
+     */
+    public interface Body {
+        /**
+         * Writes the schedule.
+         *
+         * @param out The buffered file writer.
+         * @throws IOException if writing fails.
+         */
+        void write(Appendable out) throws IOException;
+    }
+
+    /**
+     * Constructs a writer with the default column widths.
+     *
+     * @param out Where the schedule is written.
+     */
+    public ScheduleWriter(Appendable out) {
+        this(out, NICKNAME_WIDTH, DESCRIPTION_WIDTH);
+    }
+
+    /**
+     * Constructs a writer.
+     *
+     * @param out Where the schedule is written.
+     * @param nickNameWidth The width the nickname column is padded to.
+     * @param descriptionWidth The width the description column is padded to.
+     * @throws IllegalArgumentException if the output is null or a width is negative.
+     */
+    public ScheduleWriter(Appendable out, int nickNameWidth, int descriptionWidth) {
+        if (out == null) {
+            throw new IllegalArgumentException("Output cannot be null.");
+        }
+        if (nickNameWidth < 0 || descriptionWidth < 0) {
+            throw new IllegalArgumentException("Column widths must be non-negative.");
+        }
+        this.out = out;
+        this.nickNameWidth = nickNameWidth;
+        this.descriptionWidth = descriptionWidth;
+    }
+
+    /**
+     * Starts an hour of the day.
+     *
+     * @param hour The hour of the day, between 0 and 23.
+     * @throws IOException if writing fails.
+     */
+    public void startHour(int hour) throws IOException {
+        out.append("Hour: ").append(Integer.toString(hour)).append('\n');
+        hourEmpty = true;
+    }
+
+    /**
+     * Writes an item of the current hour, preceded by the time of day it starts at.
+     *
+     * @param minuteOfDay The minute of the day the item starts at, between 0 and 1439.
+     * @param nickName The nickname of the animal.
+     * @param needsVolunteer true if the item needs a backup volunteer.
+     * @param description The description of the task.
+     * @param duration The minutes the item takes.
+     * @throws IOException if writing fails.
+     */
+    public void writeItem(int minuteOfDay, String nickName, boolean needsVolunteer, String description, int duration)
+            throws IOException {
+        appendTwoDigits(out, minuteOfDay / CapacityTimeline.MINUTES_PER_HOUR);
+        out.append(':');
+        appendTwoDigits(out, minuteOfDay % CapacityTimeline.MINUTES_PER_HOUR);
+        out.append("  ");
+        appendItem(out, nickName, needsVolunteer, description, duration, nickNameWidth, descriptionWidth);
+        out.append('\n');
+        hourEmpty = false;
+    }
+
+    /**
+     * Ends the current hour, marking it as empty if no items were written.
+     *
+     * @throws IOException if writing fails.
+     */
+    public void endHour() throws IOException {
+        if (hourEmpty) {
+            out.append("Empty\n");
+        }
+        out.append('\n');
+    }
+
+    /**
+     * Writes the columns of an item: the nickname and the description, each padded to its width, then the
+     * duration right-aligned in five characters and " mins".
+     *
+     * @param out Where the item is written.
+     * @param nickName The nickname of the animal.
+     * @param needsVolunteer true to mark the nickname as needing a backup volunteer.
+     * @param description The description of the task.
+     * @param duration The minutes the item takes.
+     * @param nickNameWidth The width the nickname column is padded to.
+     * @param descriptionWidth The width the description column is padded to.
+     * @throws IOException if writing fails.
+     */
+    public static void appendItem(Appendable out, String nickName, boolean needsVolunteer, String description,
+                                  int duration, int nickNameWidth, int descriptionWidth) throws IOException {
+        out.append(nickName);
+        int nickNameLength = nickName.length();
+        if (needsVolunteer) {
+            out.append(VOLUNTEER_SUFFIX);
+            nickNameLength += VOLUNTEER_SUFFIX.length();
+        }
+        appendSpaces(out, nickNameWidth - nickNameLength);
+        out.append(description);
+        appendSpaces(out, descriptionWidth - description.length());
+        String minutes = Integer.toString(duration);
+        appendSpaces(out, DURATION_WIDTH - minutes.length());
+        out.append(minutes).append(" mins");
+    }
+
+    /**
+     * Streams a schedule into a file as UTF-8 text. The schedule is written to a temporary file in the same
+     * directory, forced to disk, and then renamed over the target, so the target always holds either the old or
+     * the new schedule in full.
+     *
+     * @param file The file to write.
+     * @param body Writes the schedule.
+     * @throws IOException if the file cannot be written or renamed.
+     */
+    public static void writeFile(Path file, Body body) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+                 Writer writer = new BufferedWriter(Channels.newWriter(channel,
+                         StandardCharsets.UTF_8.newEncoder(), BUFFER_BYTES))) {
+                body.write(writer);
+                writer.flush();
+                channel.force(false);
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    // Helper method to append a number below 100 as two digits.
+    private static void appendTwoDigits(Appendable out, int value) throws IOException {
+        out.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+
+    // Helper method to append a number of spaces, or none if the count is not positive.
+    private static void appendSpaces(Appendable out, int count) throws IOException {
+        while (count > 0) {
+            int run = Math.min(count, SPACES.length());
+            out.append(SPACES, 0, run);
+            count -= run;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package edu.ucalgary.oop.Schedule;
+
+/**
+ * Describes one shelter to be planned by the {@link ScheduleService}: a name used in reports, and the JDBC URL
+ * and credentials of the database holding that shelter's animals, tasks and treatments.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class ShelterConfig {
+    private final String name;
+    private final String url;
+    private final String username;
+    private final String password;
+
+    /**
+     * Constructs a ShelterConfig with the given name, database URL and credentials.
+     *
+     * @param name The name of the shelter. Cannot be null or empty.
+     * @param url The JDBC URL of the shelter's database. Cannot be null or empty.
+     * @param username The database username.
+     * @param password The database password.
+     * @throws IllegalArgumentException if the name or URL is null or empty.
+     */
+    public ShelterConfig(String name, String url, String username, String password) {
+        if (name == null || name.trim().isEmpty())
+            throw new IllegalArgumentException("Shelter name cannot be null or empty.");
+        if (url == null || url.trim().isEmpty())
+            throw new IllegalArgumentException("Database URL cannot be null or empty.");
+
+        this.name = name;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+    }
+
+    public String getName() { return name; }
+    public String getUrl() { return url; }
+    public String getUsername() { return username; }
+    public String getPassword() { return password; }
+}
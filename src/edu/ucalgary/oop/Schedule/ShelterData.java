@@ -0,0 +1,71 @@
+package edu.ucalgary.oop.Schedule;
+
+import java.util.*;
+import edu.ucalgary.oop.Medical.*;
+import edu.ucalgary.oop.Animals.*;
+
+/**
+ * Holds everything a {@link Schedule} imports from a shelter's database, read together so that the animals, tasks,
+ * treatments and staffing all describe the database at the same moment.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class ShelterData {
+    private final HashMap<Integer, Animal> animals;
+    private final HashMap<Integer, Tasks> tasks;
+    private final ItemStore treatmentStore;  // One unplaced medical item per treatment, column by column.
+    private final StaffRoster staffRoster;
+
+    /**
+     * Constructs a ShelterData from the imported tables.
+     *
+     * @param animals The animals, keyed by animal ID.
+     * @param tasks The tasks, keyed by task ID.
+     * @param treatmentItems One medical item per treatment, with its task's duration and window.
+     * @param staffRoster The staff on shift in each hour.
+     * @throws IllegalArgumentException if any table is null.
+     */
+    public ShelterData(HashMap<Integer, Animal> animals, HashMap<Integer, Tasks> tasks,
+                       ArrayList<Item> treatmentItems, StaffRoster staffRoster) {
+        this(animals, tasks, treatmentItems == null ? null : ItemStore.from(treatmentItems), staffRoster);
+    }
+
+    /**
+     * Constructs a ShelterData whose treatments were read straight into a store, without an Item per treatment.
+     *
+     * @param animals The animals, keyed by animal ID.
+     * @param tasks The tasks, keyed by task ID.
+     * @param treatmentStore One medical item per treatment, with its task's duration and window.
+     * @param staffRoster The staff on shift in each hour.
+     * @throws IllegalArgumentException if any table is null.
+     */
+    public ShelterData(HashMap<Integer, Animal> animals, HashMap<Integer, Tasks> tasks,
+                       ItemStore treatmentStore, StaffRoster staffRoster) {
+        if (animals == null || tasks == null || treatmentStore == null || staffRoster == null) {
+            throw new IllegalArgumentException("Imported tables cannot be null.");
+        }
+        this.animals = animals;
+        this.tasks = tasks;
+        this.treatmentStore = treatmentStore;
+        this.staffRoster = staffRoster;
+    }
+
+    /**
+     * Returns a new Item for every treatment, so changing them leaves this data as it was.
+     *
+     * @return One medical item per treatment, in the order they were read.
+     */
+    public ArrayList<Item> getTreatmentItems() {
+        return treatmentStore.toItems();
+    }
+
+    public HashMap<Integer, Animal> getAnimals() { return animals; }
+    public HashMap<Integer, Tasks> getTasks() { return tasks; }
+    public ItemStore getTreatmentStore() { return treatmentStore; }
+    public StaffRoster getStaffRoster() { return staffRoster; }
+}
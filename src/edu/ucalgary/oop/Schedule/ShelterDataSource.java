@@ -0,0 +1,43 @@
+package edu.ucalgary.oop.Schedule;
+
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * Where a {@link Schedule} loads a shelter's animals, tasks, treatments and staffing from, and where it writes
+ * rescheduled treatments back to. {@link ImportData} reads a PostgreSQL database, {@link InMemoryShelterDataSource}
+ * holds the tables in memory, and {@link CsvShelterDataSource} reads them from flat files, so the whole pipeline
+ * can run without a database.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public interface ShelterDataSource extends AutoCloseable {
+
+    /**
+     * Loads every table of the shelter as it is now.
+     *
+     * @return The shelter's tables, which the caller is free to change.
+     * @throws SQLException if the tables cannot be read.
+     */
+    ShelterData load() throws SQLException;
+
+    /**
+     * Saves new start hours for several treatments, either all of them or none.
+     *
+     * @param startHours The new start hour of each treatment, keyed by treatment ID.
+     * @throws SQLException if the changes cannot be saved.
+     * @throws IllegalArgumentException if a start hour is outside the 0-23 range.
+     */
+    void updateTreatmentStartHours(Map<Integer, Integer> startHours) throws SQLException;
+
+    /**
+     * Releases whatever the source holds open. Loading after closing is not supported.
+     */
+    @Override
+    void close();
+}
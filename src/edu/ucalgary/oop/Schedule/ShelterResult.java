@@ -0,0 +1,61 @@
+package edu.ucalgary.oop.Schedule;
+
+/**
+ * Holds the outcome of planning one shelter in the {@link ScheduleService}: the planned {@link Schedule}, or the
+ * exception that stopped it, along with the time spent importing the shelter's data and planning its day.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class ShelterResult {
+    private final ShelterConfig config;
+    private final Schedule schedule;   // The planned schedule, or null if planning failed. Closed by its service.
+    private final Exception failure;   // The exception that stopped planning, or null if it succeeded.
+    private final long importNanos;
+    private final long planNanos;
+
+    /**
+     * Constructs a ShelterResult.
+     *
+     * @param config The shelter that was planned.
+     * @param schedule The planned schedule, or null if planning failed.
+     * @param failure The exception that stopped planning, or null if it succeeded.
+     * @param importNanos The time spent connecting and importing data, in nanoseconds.
+     * @param planNanos The time spent placing items, in nanoseconds.
+     */
+    public ShelterResult(ShelterConfig config, Schedule schedule, Exception failure, long importNanos, long planNanos) {
+        this.config = config;
+        this.schedule = schedule;
+        this.failure = failure;
+        this.importNanos = importNanos;
+        this.planNanos = planNanos;
+    }
+
+    /**
+     * Returns whether the shelter was planned without an exception.
+     *
+     * @return true if a schedule is available.
+     */
+    public boolean isSuccessful() {
+        return failure == null;
+    }
+
+    /**
+     * Returns the total time spent on this shelter.
+     *
+     * @return The import and planning time, in nanoseconds.
+     */
+    public long getTotalNanos() {
+        return importNanos + planNanos;
+    }
+
+    public ShelterConfig getConfig() { return config; }
+    public Schedule getSchedule() { return schedule; }
+    public Exception getFailure() { return failure; }
+    public long getImportNanos() { return importNanos; }
+    public long getPlanNanos() { return planNanos; }
+}
@@ -0,0 +1,97 @@
+package edu.ucalgary.oop.Schedule;
+
+/**
+ * Holds the outcome of a {@link DurationSimulator} run: in how many trials each hour needed a backup volunteer,
+ * and in how many trials some item could not be placed at all. Counts are turned into probabilities by dividing
+ * by the number of trials.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class SimulationReport {
+    private final int firstHour;
+    private final int trials;
+    private final int[] volunteerTrials;  // Trials in which each hour, counted from firstHour, needed a volunteer.
+    private final int unplacedTrials;     // Trials in which at least one item was left unplaced.
+    private final long totalVolunteers;   // Volunteers summed over every trial.
+    private final long elapsedNanos;
+
+    /**
+     * Constructs a SimulationReport from the counts of a run.
+     *
+     * @param firstHour The absolute hour the volunteer counts start at.
+     * @param trials The number of trials run. Must be positive.
+     * @param volunteerTrials The number of trials in which each hour needed a volunteer.
+     * @param unplacedTrials The number of trials in which some item was left unplaced.
+     * @param totalVolunteers The number of volunteers summed over every trial.
+     * @param elapsedNanos The time spent running the trials, in nanoseconds.
+     * @throws IllegalArgumentException if the counts are null, negative, or the trials are not positive.
+     */
+    public SimulationReport(int firstHour, int trials, int[] volunteerTrials, int unplacedTrials,
+                            long totalVolunteers, long elapsedNanos) {
+        if (trials <= 0) {
+            throw new IllegalArgumentException("Trials must be positive.");
+        }
+        if (volunteerTrials == null) {
+            throw new IllegalArgumentException("Volunteer counts cannot be null.");
+        }
+        if (unplacedTrials < 0 || totalVolunteers < 0) {
+            throw new IllegalArgumentException("Counts must be non-negative.");
+        }
+        this.firstHour = firstHour;
+        this.trials = trials;
+        this.volunteerTrials = volunteerTrials.clone();
+        this.unplacedTrials = unplacedTrials;
+        this.totalVolunteers = totalVolunteers;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Returns the probability that an hour needs a backup volunteer.
+     *
+     * @param hour The absolute hour.
+     * @return The fraction of trials in which the hour needed a volunteer, or 0 for hours outside the report.
+     */
+    public double getVolunteerProbability(int hour) {
+        int index = hour - firstHour;
+        if (index < 0 || index >= volunteerTrials.length) {
+            return 0.0;
+        }
+        return (double) volunteerTrials[index] / trials;
+    }
+
+    /**
+     * Returns the probability that at least one item cannot be placed, even with volunteers.
+     *
+     * @return The fraction of trials with an unplaced item.
+     */
+    public double getUnplacedProbability() {
+        return (double) unplacedTrials / trials;
+    }
+
+    /**
+     * Returns the average number of backup volunteers a day needs.
+     *
+     * @return The mean volunteer count over every trial.
+     */
+    public double getExpectedVolunteers() {
+        return (double) totalVolunteers / trials;
+    }
+
+    /**
+     * Returns the number of hours covered by the report.
+     *
+     * @return The hour count.
+     */
+    public int getHours() {
+        return volunteerTrials.length;
+    }
+
+    public int getFirstHour() { return firstHour; }
+    public int getTrials() { return trials; }
+    public long getElapsedNanos() { return elapsedNanos; }
+}
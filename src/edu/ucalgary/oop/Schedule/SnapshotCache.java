@@ -0,0 +1,190 @@
+package edu.ucalgary.oop.Schedule;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import edu.ucalgary.oop.Medical.*;
+import edu.ucalgary.oop.Animals.*;
+
+/**
+ * Keeps a compact binary copy of a shelter's imported data on disk, so a later start can skip the import when the
+ * database has not changed, and can still plan when the database cannot be reached.
+ * <p>
+ * The file starts with a magic number, a format version and the fingerprint of the database it was written
+ * from, followed by the animals, tasks, treatment items and the staff of each hour, all as fixed-width integers
+ * and length-prefixed UTF-8 strings. It is read through a memory-mapped buffer, so loading it costs little more
+ * than the page faults of the bytes actually read. The file is written to a temporary file first and then moved
+ * into place, so a crash while writing never leaves a half-written snapshot behind.
+ * </p>
+ * <p>
+ * A snapshot that is missing, unreadable, from another format version or for a different fingerprint is treated
+ * as absent, and the caller falls back to a full import.
+ * </p>
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class SnapshotCache {
+    private static final int MAGIC = 0x45575253; // "EWRS"
+    private static final int VERSION = 1;
+
+    private final Path file;
+
+    /**
+     * Constructs a cache kept in a file.
+     *
+     * @param file The snapshot file. Its directory must exist.
+     * @throws IllegalArgumentException if the path is null.
+     */
+    public SnapshotCache(Path file) {
+        if (file == null) {
+            throw new IllegalArgumentException("Snapshot file cannot be null.");
+        }
+        this.file = file;
+    }
+
+    /**
+     * Reads the snapshot if it was written from a database with the given fingerprint.
+     *
+     * @param fingerprint The fingerprint of the database now, or null to accept a snapshot of any fingerprint.
+     * @return The cached data, or null if there is no usable snapshot for the fingerprint.
+     */
+    public ShelterData read(long[] fingerprint) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                return null;
+            }
+            int length = buffer.getInt();
+            if (length < 0 || length > buffer.remaining() / Long.BYTES) {
+                return null; // A damaged length, which must not size an array before it is checked.
+            }
+            long[] written = new long[length];
+            for (int i = 0; i < written.length; i++) {
+                written[i] = buffer.getLong();
+            }
+            if (fingerprint != null && !Arrays.equals(fingerprint, written)) {
+                return null;
+            }
+            return readData(buffer);
+        } catch (IOException | RuntimeException e) {
+            return null; // A damaged snapshot is as good as none; the caller imports from the database.
+        }
+    }
+
+    /**
+     * Writes a snapshot of imported data, replacing any earlier one.
+     *
+     * @param data The imported data.
+     * @param fingerprint The fingerprint of the database the data was imported from.
+     * @throws IOException if the file cannot be written.
+     */
+    public void write(ShelterData data, long[] fingerprint) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(temporary)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(fingerprint.length);
+                for (long value : fingerprint) {
+                    out.writeLong(value);
+                }
+                writeData(out, data);
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    public Path getFile() { return file; }
+
+    // Helper method to write the tables in the order readData reads them.
+    private void writeData(DataOutputStream out, ShelterData data) throws IOException {
+        out.writeInt(data.getAnimals().size());
+        for (Animal animal : data.getAnimals().values()) {
+            out.writeInt(animal.getID());
+            writeString(out, animal.getNickName());
+            writeString(out, animal.getAnimalSpecies());
+        }
+        out.writeInt(data.getTasks().size());
+        for (Tasks task : data.getTasks().values()) {
+            out.writeInt(task.getTaskID());
+            writeString(out, task.getDescription());
+            out.writeInt(task.getDuration());
+            out.writeInt(task.getMaxWindow());
+        }
+        out.writeInt(data.getTreatmentItems().size());
+        for (Item item : data.getTreatmentItems()) {
+            out.writeInt(item.getTreatmentID());
+            out.writeInt(item.getAnimalID());
+            out.writeInt(item.getTaskID());
+            out.writeInt(item.getStartHour());
+            out.writeInt(item.getDuration());
+            out.writeInt(item.getMaxWindow());
+        }
+        for (int hour = 0; hour < 24; hour++) {
+            out.writeInt(data.getStaffRoster().getStaff(hour));
+        }
+    }
+
+    // Helper method to rebuild the tables from the mapped file, positioned just after the fingerprint.
+    private ShelterData readData(ByteBuffer buffer) {
+        HashMap<Integer, Animal> animals = new HashMap<>();
+        for (int i = buffer.getInt(); i > 0; i--) {
+            int id = buffer.getInt();
+            animals.put(id, ImportData.createAnimalBySpecies(id, readString(buffer), readString(buffer)));
+        }
+        HashMap<Integer, Tasks> tasks = new HashMap<>();
+        for (int i = buffer.getInt(); i > 0; i--) {
+            int taskID = buffer.getInt();
+            tasks.put(taskID, new Tasks(taskID, readString(buffer), buffer.getInt(), buffer.getInt()));
+        }
+        ArrayList<Item> treatmentItems = new ArrayList<>();
+        for (int i = buffer.getInt(); i > 0; i--) {
+            int treatmentID = buffer.getInt();
+            int animalID = buffer.getInt();
+            int taskID = buffer.getInt();
+            int startHour = buffer.getInt();
+            int duration = buffer.getInt();
+            int maxWindow = buffer.getInt();
+            treatmentItems.add(new Item(animalID, taskID, startHour, maxWindow, duration, treatmentID));
+        }
+        StaffRoster staffRoster = new StaffRoster();
+        for (int hour = 0; hour < 24; hour++) {
+            staffRoster.setStaff(hour, buffer.getInt());
+        }
+        return new ShelterData(animals, tasks, treatmentItems, staffRoster);
+    }
+
+    // Helper method to write a string as its UTF-8 length followed by its bytes.
+    private void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    // Helper method to read a string written by writeString.
+    private String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("Damaged string in snapshot.");
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,89 @@
+package edu.ucalgary.oop.Schedule;
+
+/**
+ * Describes how the shelter cares for one species: when and for how long its animals are fed, how long its food
+ * takes to prepare, and how long its cages take to clean. Profiles are registered with a {@link SpeciesRegistry},
+ * so a new species only needs a profile rather than a new {@code Animal} subclass.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class SpeciesProfile {
+    public static final int CAGE_CLEANING_TASK = TaskRegistry.CAGE_CLEANING_TASK;
+    public static final int SPECIAL_CAGE_CLEANING_TASK = TaskRegistry.SPECIAL_CAGE_CLEANING_TASK;
+
+    private final String species;
+    private final int feedingStartHour;
+    private final int feedingWindow;
+    private final int feedingMinutes;
+    private final int prepMinutes;
+    private final int cageMinutes;
+    private final int cageTaskID;
+
+    /**
+     * Constructs a profile whose cages are listed as ordinary cage cleaning.
+     *
+     * @param species The species name. Matching ignores case and surrounding spaces.
+     * @param feedingStartHour The first hour animals of the species can be fed, between 0 and 23.
+     * @param feedingWindow The number of hours, from the start hour, in which they can be fed. Must be positive.
+     * @param feedingMinutes The minutes needed to feed one animal. Must be non-negative.
+     * @param prepMinutes The food prep minutes charged once per hour the species is fed in. Must be non-negative.
+     * @param cageMinutes The minutes needed to clean one cage. Must be non-negative.
+     * @throws IllegalArgumentException if the species is empty or a value is out of range.
+     */
+    public SpeciesProfile(String species, int feedingStartHour, int feedingWindow, int feedingMinutes,
+                          int prepMinutes, int cageMinutes) {
+        this(species, feedingStartHour, feedingWindow, feedingMinutes, prepMinutes, cageMinutes, CAGE_CLEANING_TASK);
+    }
+
+    /**
+     * Constructs a profile.
+     *
+     * @param species The species name. Matching ignores case and surrounding spaces.
+     * @param feedingStartHour The first hour animals of the species can be fed, between 0 and 23.
+     * @param feedingWindow The number of hours, from the start hour, in which they can be fed. Must be positive.
+     * @param feedingMinutes The minutes needed to feed one animal. Must be non-negative.
+     * @param prepMinutes The food prep minutes charged once per hour the species is fed in. Must be non-negative.
+     * @param cageMinutes The minutes needed to clean one cage. Must be non-negative.
+     * @param cageTaskID The built-in task the cage cleaning is listed as, {@link #CAGE_CLEANING_TASK} or
+     *                   {@link #SPECIAL_CAGE_CLEANING_TASK}.
+     * @throws IllegalArgumentException if the species is empty or a value is out of range.
+     */
+    public SpeciesProfile(String species, int feedingStartHour, int feedingWindow, int feedingMinutes,
+                          int prepMinutes, int cageMinutes, int cageTaskID) {
+        if (species == null || species.trim().isEmpty()) {
+            throw new IllegalArgumentException("Species cannot be null or empty.");
+        }
+        if (feedingStartHour < 0 || feedingStartHour > 23) {
+            throw new IllegalArgumentException("Feeding start hour must be between 0 and 23.");
+        }
+        if (feedingWindow <= 0) {
+            throw new IllegalArgumentException("Feeding window must be positive.");
+        }
+        if (feedingMinutes < 0 || prepMinutes < 0 || cageMinutes < 0) {
+            throw new IllegalArgumentException("Feeding, prep and cage minutes must be non-negative.");
+        }
+        if (cageTaskID != CAGE_CLEANING_TASK && cageTaskID != SPECIAL_CAGE_CLEANING_TASK) {
+            throw new IllegalArgumentException("Cage task must be one of the built-in cage cleaning tasks.");
+        }
+        this.species = species.trim().toLowerCase();
+        this.feedingStartHour = feedingStartHour;
+        this.feedingWindow = feedingWindow;
+        this.feedingMinutes = feedingMinutes;
+        this.prepMinutes = prepMinutes;
+        this.cageMinutes = cageMinutes;
+        this.cageTaskID = cageTaskID;
+    }
+
+    public String getSpecies() { return species; }
+    public int getFeedingStartHour() { return feedingStartHour; }
+    public int getFeedingWindow() { return feedingWindow; }
+    public int getFeedingMinutes() { return feedingMinutes; }
+    public int getPrepMinutes() { return prepMinutes; }
+    public int getCageMinutes() { return cageMinutes; }
+    public int getCageTaskID() { return cageTaskID; }
+}
@@ -0,0 +1,173 @@
+package edu.ucalgary.oop.Schedule;
+
+import java.util.*;
+
+/**
+ * A table of {@link SpeciesProfile}s, giving each registered species a compact numeric ID. The scheduler looks
+ * up an animal's species ID once and then reads its feeding hours, feeding and prep costs and cage cleaning from
+ * arrays indexed by that ID, instead of checking the animal's class. The ID is also the bit the
+ * {@link CapacityTimeline} uses to track, per hour, which species already had their food prepared, so a prep cost
+ * is only charged once per hour.
+ * <p>
+ * The default registry matches the shelter's rules: beavers are fed from 8, coyotes and porcupines from 19, and
+ * foxes and raccoons from midnight, each within 3 hours and taking 5 minutes. Foxes need 5 minutes and coyotes
+ * 10 minutes of food prep. Porcupine cages take 10 minutes to clean and every other cage 5.
+ * </p>
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class SpeciesRegistry {
+    public static final int MAX_SPECIES = 64; // One bit per species in a long mask.
+
+    private final HashMap<String, Integer> speciesIDs = new HashMap<>();
+    private final SpeciesProfile[] profiles = new SpeciesProfile[MAX_SPECIES];
+    private final int[] feedingStartHours = new int[MAX_SPECIES];
+    private final int[] feedingWindows = new int[MAX_SPECIES];
+    private final int[] feedingMinutes = new int[MAX_SPECIES];
+    private final int[] prepMinutes = new int[MAX_SPECIES];
+    private final int[] cageMinutes = new int[MAX_SPECIES];
+    private final int[] cageTaskIDs = new int[MAX_SPECIES];
+
+    /**
+     * Creates the default registry for the shelter's species.
+     *
+     * @return A registry with profiles for beavers, coyotes, foxes, porcupines and raccoons.
+     */
+    public static SpeciesRegistry createDefault() {
+        SpeciesRegistry registry = new SpeciesRegistry();
+        registry.register(new SpeciesProfile("beaver", 8, 3, 5, 0, 5));
+        registry.register(new SpeciesProfile("coyote", 19, 3, 5, 10, 5));
+        registry.register(new SpeciesProfile("fox", 0, 3, 5, 5, 5));
+        registry.register(new SpeciesProfile("porcupine", 19, 3, 5, 0, 10,
+                SpeciesProfile.SPECIAL_CAGE_CLEANING_TASK));
+        registry.register(new SpeciesProfile("raccoon", 0, 3, 5, 0, 5));
+        return registry;
+    }
+
+    /**
+     * Creates a registry from configuration, with one group of keys per species, for example
+     * {@code otter.feedingStartHour=6}. Besides {@code feedingStartHour}, which is required, a species can set
+     * {@code feedingWindow} (3 by default), {@code feedingMinutes} (5), {@code prepMinutes} (0),
+     * {@code cageMinutes} (5) and {@code specialCage} (0, or 1 to list its cage cleaning as porcupine cage
+     * cleaning). Species are registered in alphabetical order, so the same configuration always gives the same IDs.
+     *
+     * @param properties The configuration.
+     * @return A registry with a profile for every species in the configuration.
+     * @throws IllegalArgumentException if a key is unknown, a value is not a number or out of range, or a
+     *                                  species has no feeding start hour.
+     */
+    public static SpeciesRegistry fromProperties(Properties properties) {
+        TreeMap<String, HashMap<String, Integer>> settings = new TreeMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            int dot = key.lastIndexOf('.');
+            if (dot <= 0) {
+                throw new IllegalArgumentException("Species setting \"" + key + "\" has no species.");
+            }
+            String value = properties.getProperty(key).trim();
+            try {
+                settings.computeIfAbsent(key.substring(0, dot).trim().toLowerCase(), species -> new HashMap<>())
+                        .put(key.substring(dot + 1), Integer.parseInt(value));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Species setting \"" + key + "\" is not a number.");
+            }
+        }
+
+        SpeciesRegistry registry = new SpeciesRegistry();
+        for (Map.Entry<String, HashMap<String, Integer>> entry : settings.entrySet()) {
+            HashMap<String, Integer> values = new HashMap<>(entry.getValue());
+            Integer startHour = values.remove("feedingStartHour");
+            if (startHour == null) {
+                throw new IllegalArgumentException("Species " + entry.getKey() + " has no feeding start hour.");
+            }
+            SpeciesProfile profile = new SpeciesProfile(entry.getKey(), startHour,
+                    valueOrDefault(values, "feedingWindow", 3), valueOrDefault(values, "feedingMinutes", 5),
+                    valueOrDefault(values, "prepMinutes", 0), valueOrDefault(values, "cageMinutes", 5),
+                    cageTaskOf(entry.getKey(), valueOrDefault(values, "specialCage", 0)));
+            if (!values.isEmpty()) {
+                throw new IllegalArgumentException("Unknown settings for species " + entry.getKey() + ": "
+                        + values.keySet());
+            }
+            registry.register(profile);
+        }
+        return registry;
+    }
+
+    // Helper method to turn a species' specialCage setting into the built-in task its cage cleaning is listed as.
+    private static int cageTaskOf(String species, int specialCage) {
+        if (specialCage != 0 && specialCage != 1) {
+            throw new IllegalArgumentException("Species " + species + " must set specialCage to 0 or 1.");
+        }
+        return specialCage == 1 ? SpeciesProfile.SPECIAL_CAGE_CLEANING_TASK : SpeciesProfile.CAGE_CLEANING_TASK;
+    }
+
+    /**
+     * Registers a species, or replaces its profile if it is already registered.
+     *
+     * @param profile The species profile.
+     * @return The species ID.
+     * @throws IllegalArgumentException if the profile is null or the registry is full.
+     */
+    public int register(SpeciesProfile profile) {
+        if (profile == null) {
+            throw new IllegalArgumentException("Species profile cannot be null.");
+        }
+        Integer id = speciesIDs.get(profile.getSpecies());
+        if (id == null) {
+            if (speciesIDs.size() == MAX_SPECIES) {
+                throw new IllegalArgumentException("No more than " + MAX_SPECIES + " species can be registered.");
+            }
+            id = speciesIDs.size();
+            speciesIDs.put(profile.getSpecies(), id);
+        }
+        profiles[id] = profile;
+        feedingStartHours[id] = profile.getFeedingStartHour();
+        feedingWindows[id] = profile.getFeedingWindow();
+        feedingMinutes[id] = profile.getFeedingMinutes();
+        prepMinutes[id] = profile.getPrepMinutes();
+        cageMinutes[id] = profile.getCageMinutes();
+        cageTaskIDs[id] = profile.getCageTaskID();
+        return id;
+    }
+
+    /**
+     * Returns the ID assigned to a species.
+     *
+     * @param species The species name. Matching ignores case and surrounding spaces.
+     * @return The species ID, or -1 if the species is not registered.
+     */
+    public int getSpeciesID(String species) {
+        if (species == null) {
+            return -1;
+        }
+        Integer id = speciesIDs.get(species.trim().toLowerCase());
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Returns the number of registered species, which is one more than the largest species ID.
+     *
+     * @return The species count.
+     */
+    public int size() {
+        return speciesIDs.size();
+    }
+
+    public SpeciesProfile getProfile(int id) { return profiles[id]; }
+    public int getFeedingStartHour(int id) { return feedingStartHours[id]; }
+    public int getFeedingWindow(int id) { return feedingWindows[id]; }
+    public int getFeedingMinutes(int id) { return feedingMinutes[id]; }
+    public int getPrepMinutes(int id) { return prepMinutes[id]; }
+    public int getCageMinutes(int id) { return cageMinutes[id]; }
+    public int getCageTaskID(int id) { return cageTaskIDs[id]; }
+
+    // Helper method to take an optional setting out of a species' settings.
+    private static int valueOrDefault(HashMap<String, Integer> values, String name, int defaultValue) {
+        Integer value = values.remove(name);
+        return value == null ? defaultValue : value;
+    }
+}
@@ -0,0 +1,72 @@
+package edu.ucalgary.oop.Schedule;
+
+import java.util.Arrays;
+
+/**
+ * Holds the number of staff members on shift in each hour of the day. The same roster applies to every day of
+ * the planning horizon. Each staff member gives the {@link CapacityTimeline} one lane of
+ * {@link CapacityTimeline#MINUTES_PER_HOUR} minutes in the hour, so tasks are assigned to individual people
+ * working in parallel rather than to a single pool of minutes.
+ * <p>
+ * A new roster has one staff member in every hour, which matches a shelter without a staffing table.
+ * </p>
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class StaffRoster {
+    public static final int MAX_STAFF = 32; // Upper bound on the staff of a single hour.
+
+    private final int[] staff = new int[24];
+
+    /**
+     * Constructs a roster with one staff member in every hour.
+     */
+    public StaffRoster() {
+        Arrays.fill(staff, 1);
+    }
+
+    /**
+     * Sets the number of staff members on shift in an hour of the day.
+     *
+     * @param hourOfDay The hour, between 0 and 23.
+     * @param count The number of staff, between 0 and {@link #MAX_STAFF}.
+     * @throws IllegalArgumentException if the hour or the count is out of range.
+     */
+    public void setStaff(int hourOfDay, int count) {
+        if (hourOfDay < 0 || hourOfDay > 23) {
+            throw new IllegalArgumentException("Hour must be between 0 and 23.");
+        }
+        if (count < 0 || count > MAX_STAFF) {
+            throw new IllegalArgumentException("Staff count must be between 0 and " + MAX_STAFF + ".");
+        }
+        staff[hourOfDay] = count;
+    }
+
+    /**
+     * Returns the number of staff members on shift in an hour.
+     *
+     * @param hour An absolute hour, counted from midnight of day 0. Only its hour of the day is used.
+     * @return The staff count.
+     */
+    public int getStaff(int hour) {
+        return staff[Math.floorMod(hour, 24)];
+    }
+
+    /**
+     * Returns the largest number of staff on shift in any hour of the day.
+     *
+     * @return The most staff in a single hour.
+     */
+    public int getMaxStaff() {
+        int max = 0;
+        for (int count : staff) {
+            max = Math.max(max, count);
+        }
+        return max;
+    }
+}
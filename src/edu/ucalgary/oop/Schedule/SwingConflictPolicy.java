@@ -0,0 +1,83 @@
+package edu.ucalgary.oop.Schedule;
+
+import javax.swing.*;
+
+/**
+ * Resolves scheduling conflicts by asking the user through Swing dialogs. The user is asked whether a backup
+ * volunteer should be called in, and if not, is prompted for a new start hour until a free hour is entered.
+ * Problems found by the feasibility analysis are shown together in a single dialog before placement starts.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class SwingConflictPolicy implements ConflictPolicy {
+    private static final String[] OPTIONS = {"NO", "YES"};
+
+    /**
+     * Displays a dialog asking whether to add a volunteer for the hour.
+     *
+     * @param volunteerHour The hour requiring a backup volunteer.
+     * @param item The schedule item that needs to be added.
+     * @return true if the user selected YES.
+     */
+    @Override
+    public boolean approveVolunteer(int volunteerHour, Item item) {
+        int selectedValue = JOptionPane.showOptionDialog(null,
+                "A backup volunteer is required for " + volunteerHour, "Warning",
+                JOptionPane.DEFAULT_OPTION, JOptionPane.WARNING_MESSAGE,
+                null, OPTIONS, OPTIONS[0]);
+        return selectedValue == 1;
+    }
+
+    /**
+     * Displays every finding of the feasibility analysis in one dialog, unless there is nothing to report.
+     *
+     * @param report The findings of the analysis.
+     */
+    @Override
+    public void reviewFeasibility(FeasibilityReport report) {
+        if (report.isClean()) {
+            return;
+        }
+        JOptionPane.showMessageDialog(null, String.join("\n", report.getReport()),
+                "Feasibility Check", JOptionPane.WARNING_MESSAGE);
+    }
+
+    /**
+     * Prompts the user to reschedule a task to one of the free hours. If the input is not one of them,
+     * the user is prompted again. Cancelling the dialog leaves the item unscheduled.
+     *
+     * @param item The item to be rescheduled.
+     * @param freeHours The hours with full availability.
+     * @return The hour entered by the user, or -1 if the dialog was cancelled.
+     */
+    @Override
+    public int chooseStartHour(Item item, int[] freeHours) {
+        StringBuilder timesAvailable = new StringBuilder();
+        for (int hour : freeHours) {
+            timesAvailable.append(hour).append(" ");
+        }
+        while (true) {
+            String userInput = JOptionPane.showInputDialog(null,
+                    "Please reschedule the task to a different time: " + timesAvailable.toString().trim());
+            if (userInput == null) {
+                return -1;
+            }
+            try {
+                int newStartHour = Integer.parseInt(userInput.trim());
+                for (int hour : freeHours) {
+                    if (hour == newStartHour) {
+                        return newStartHour;
+                    }
+                }
+            } catch (NumberFormatException e) {
+                // Fall through and prompt again.
+            }
+            JOptionPane.showMessageDialog(null, "Invalid input, try again.");
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package edu.ucalgary.oop.Schedule;
+
+import edu.ucalgary.oop.Medical.Tasks;
+import java.util.*;
+
+/**
+ * Holds the shelter's tasks in an array. The first {@link #BUILT_IN_TASKS} slots hold the tasks the scheduler
+ * generates itself, feeding and the two kinds of cage cleaning, and the imported tasks follow in ascending order
+ * of their database ID. Items refer to built-in tasks by the reserved task IDs {@link #FEEDING_TASK},
+ * {@link #CAGE_CLEANING_TASK} and {@link #SPECIAL_CAGE_CLEANING_TASK}, which map to their fixed slots, so the
+ * built-in tasks no longer have to be added to the imported task table.
+ * <p>
+ * Items, placements, species profiles and duration models all tell tasks apart by their ID alone, so the built-in
+ * tasks need IDs of their own. They take the three smallest ints, which no database sequence hands out, so every
+ * other ID, including 0 and negative ones, is free for imported tasks.
+ * </p>
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class TaskRegistry {
+    public static final int FEEDING_TASK = Integer.MIN_VALUE;
+    public static final int CAGE_CLEANING_TASK = Integer.MIN_VALUE + 1;
+    public static final int SPECIAL_CAGE_CLEANING_TASK = Integer.MIN_VALUE + 2; // "Porcupine Cage Cleaning".
+    public static final int BUILT_IN_TASKS = 3;
+
+    private static final int FEEDING_SLOT = 0;
+    private static final int CAGE_CLEANING_SLOT = 1;
+    private static final int SPECIAL_CAGE_CLEANING_SLOT = 2;
+
+    private final IdIndex index;
+    private final Tasks[] tasks;
+
+    /**
+     * Constructs a registry of the built-in tasks followed by imported tasks.
+     *
+     * @param tasks The imported tasks, keyed by their database ID.
+     * @throws IllegalArgumentException if the tasks are null, a task is null, or a task uses a reserved ID.
+     */
+    public TaskRegistry(Map<Integer, Tasks> tasks) {
+        if (tasks == null) {
+            throw new IllegalArgumentException("Tasks cannot be null.");
+        }
+        int[] ids = new int[tasks.size()];
+        int i = 0;
+        for (int id : tasks.keySet()) {
+            if (isBuiltIn(id)) {
+                throw new IllegalArgumentException("Task ID " + id + " is reserved for a built-in task.");
+            }
+            ids[i++] = id;
+        }
+        index = new IdIndex(ids);
+        this.tasks = new Tasks[BUILT_IN_TASKS + ids.length];
+        // Feeding and cage cleaning times come from species profiles; these are the usual values.
+        this.tasks[FEEDING_SLOT] = new Tasks(FEEDING_TASK, describe(FEEDING_TASK), 5, 3);
+        this.tasks[CAGE_CLEANING_SLOT] = new Tasks(CAGE_CLEANING_TASK, describe(CAGE_CLEANING_TASK), 5, 24);
+        this.tasks[SPECIAL_CAGE_CLEANING_SLOT] = new Tasks(SPECIAL_CAGE_CLEANING_TASK,
+                describe(SPECIAL_CAGE_CLEANING_TASK), 10, 24);
+        for (Map.Entry<Integer, Tasks> entry : tasks.entrySet()) {
+            if (entry.getValue() == null) {
+                throw new IllegalArgumentException("Task " + entry.getKey() + " cannot be null.");
+            }
+            this.tasks[BUILT_IN_TASKS + index.indexOf(entry.getKey())] = entry.getValue();
+        }
+    }
+
+    /**
+     * Checks whether a task ID is reserved for a task the scheduler generates itself.
+     *
+     * @param taskID The task ID.
+     * @return true for feeding and cage cleaning.
+     */
+    public static boolean isBuiltIn(int taskID) {
+        return taskID == FEEDING_TASK || taskID == CAGE_CLEANING_TASK || taskID == SPECIAL_CAGE_CLEANING_TASK;
+    }
+
+    /**
+     * Names a task without a registry, for messages about an item: the description of a built-in task, or the
+     * task's ID otherwise.
+     *
+     * @param taskID The task ID.
+     * @return "Feeding", "Cage Cleaning" or "Porcupine Cage Cleaning", or "task" followed by the ID.
+     */
+    public static String describe(int taskID) {
+        switch (taskID) {
+            case FEEDING_TASK:
+                return "Feeding";
+            case CAGE_CLEANING_TASK:
+                return "Cage Cleaning";
+            case SPECIAL_CAGE_CLEANING_TASK:
+                return "Porcupine Cage Cleaning";
+            default:
+                return "task " + taskID;
+        }
+    }
+
+    /**
+     * Returns the slot of a task.
+     *
+     * @param taskID The task ID, either a reserved built-in ID or an imported task's database ID.
+     * @return The slot, below {@link #BUILT_IN_TASKS} for built-in tasks, or -1 if there is no such task.
+     */
+    public int indexOf(int taskID) {
+        switch (taskID) {
+            case FEEDING_TASK:
+                return FEEDING_SLOT;
+            case CAGE_CLEANING_TASK:
+                return CAGE_CLEANING_SLOT;
+            case SPECIAL_CAGE_CLEANING_TASK:
+                return SPECIAL_CAGE_CLEANING_SLOT;
+            default:
+                int slot = index.indexOf(taskID);
+                return slot < 0 ? -1 : BUILT_IN_TASKS + slot;
+        }
+    }
+
+    /**
+     * Returns the description of a task.
+     *
+     * @param taskID The task ID.
+     * @return The description.
+     * @throws IllegalArgumentException if there is no such task.
+     */
+    public String getDescription(int taskID) {
+        int slot = indexOf(taskID);
+        if (slot < 0) {
+            throw new IllegalArgumentException("Unknown task ID " + taskID + ".");
+        }
+        return tasks[slot].getDescription();
+    }
+
+    public int size() { return tasks.length; }
+    public Tasks getTask(int slot) { return tasks[slot]; }
+}
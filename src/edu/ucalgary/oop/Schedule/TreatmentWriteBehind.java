@@ -0,0 +1,232 @@
+package edu.ucalgary.oop.Schedule;
+
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Queues changes to treatment start hours and writes them to the database in batches, instead of one update and
+ * one commit per moved treatment. A batch is written in the background once enough changes are pending, and
+ * whatever is pending is written every flush interval. Moving the same treatment twice before a flush only
+ * writes its last start hour.
+ * <p>
+ * A batch that fails is put back in the queue, under any newer changes to the same treatments, and retried on
+ * the next flush. Closing the writer stops the background flushes and then flushes synchronously, retrying a
+ * few times, so changes are either written or the caller is told they were not.
+ * </p>
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class TreatmentWriteBehind implements AutoCloseable {
+    public static final int DEFAULT_BATCH_SIZE = 50;
+    public static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 2000;
+    private static final int CLOSE_ATTEMPTS = 3;
+    private static final long CLOSE_RETRY_MILLIS = 200;
+
+    /**
+     * Writes a batch of start hours, keyed by treatment ID, in one transaction.
+     */
+    public interface BatchWriter {
+        void write(Map<Integer, Integer> startHours) throws SQLException;
+    }
+
+    private final BatchWriter writer;
+    private final int batchSize;
+    private final ScheduledExecutorService executor;
+    private final Object flushLock = new Object(); // Keeps flushes in order, so an older batch never lands last.
+
+    // Guarded by this writer.
+    private LinkedHashMap<Integer, Integer> pending = new LinkedHashMap<>();
+    private boolean closed = false;
+    private long writtenCount = 0;
+    private long batchCount = 0;
+    private long failedCount = 0;
+    private Exception lastFailure = null;
+
+    /**
+     * Constructs a writer with the default batch size and flush interval.
+     *
+     * @param writer Writes each batch to the database. Cannot be null.
+     */
+    public TreatmentWriteBehind(BatchWriter writer) {
+        this(writer, DEFAULT_BATCH_SIZE, DEFAULT_FLUSH_INTERVAL_MILLIS);
+    }
+
+    /**
+     * Constructs a writer.
+     *
+     * @param writer Writes each batch to the database. Cannot be null.
+     * @param batchSize The number of pending changes that starts a flush. Must be positive.
+     * @param flushIntervalMillis How often pending changes are flushed regardless of their number. Must be positive.
+     * @throws IllegalArgumentException if the writer is null or a threshold is not positive.
+     */
+    public TreatmentWriteBehind(BatchWriter writer, int batchSize, long flushIntervalMillis) {
+        if (writer == null) {
+            throw new IllegalArgumentException("Batch writer cannot be null.");
+        }
+        if (batchSize <= 0 || flushIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Batch size and flush interval must be positive.");
+        }
+        this.writer = writer;
+        this.batchSize = batchSize;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "treatment-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis, flushIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Queues a new start hour for a treatment, replacing any change to it that has not been written yet.
+     *
+     * @param treatmentID The treatment to move.
+     * @param startHour The new start hour, between 0 and 23.
+     * @throws IllegalArgumentException if the start hour is outside the 0-23 range.
+     * @throws IllegalStateException if the writer has been closed.
+     */
+    public void enqueue(int treatmentID, int startHour) {
+        if (startHour < 0 || startHour > 23) {
+            throw new IllegalArgumentException("Start hour must be between 0 and 23.");
+        }
+        boolean full;
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("Write-behind queue is closed.");
+            }
+            pending.remove(treatmentID); // Re-insert so the treatment moves to the end of the write order.
+            pending.put(treatmentID, startHour);
+            full = pending.size() >= batchSize;
+        }
+        if (full) {
+            try {
+                executor.execute(this::flushQuietly);
+            } catch (RejectedExecutionException e) {
+                // Closed meanwhile; close() writes the change.
+            }
+        }
+    }
+
+    /**
+     * Writes every pending change as one batch on the calling thread.
+     *
+     * @return true if the pending changes were written, false if the write failed and they were queued again.
+     */
+    public boolean flush() {
+        synchronized (flushLock) {
+            LinkedHashMap<Integer, Integer> batch;
+            synchronized (this) {
+                if (pending.isEmpty()) {
+                    return true;
+                }
+                batch = pending;
+                pending = new LinkedHashMap<>();
+            }
+            try {
+                writer.write(Collections.unmodifiableMap(batch));
+            } catch (SQLException | RuntimeException e) {
+                requeue(batch, e);
+                return false;
+            }
+            synchronized (this) {
+                writtenCount += batch.size();
+                batchCount++;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Stops the background flushes and writes whatever is still pending, retrying a few times if the write fails.
+     *
+     * @throws SQLException if some changes could still not be written; they remain pending.
+     */
+    @Override
+    public void close() throws SQLException {
+        synchronized (this) {
+            closed = true;
+        }
+        executor.shutdown();
+        try {
+            executor.awaitTermination(CLOSE_RETRY_MILLIS * CLOSE_ATTEMPTS, TimeUnit.MILLISECONDS);
+            for (int attempt = 1; !flush(); attempt++) {
+                if (attempt == CLOSE_ATTEMPTS) {
+                    throw new SQLException("Could not write " + getPendingCount() + " treatment updates.",
+                            getLastFailure());
+                }
+                Thread.sleep(CLOSE_RETRY_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while writing treatment updates.", e);
+        }
+    }
+
+    /**
+     * Returns the number of changes waiting to be written.
+     *
+     * @return The pending change count.
+     */
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Returns the number of changes written so far.
+     *
+     * @return The written change count.
+     */
+    public synchronized long getWrittenCount() {
+        return writtenCount;
+    }
+
+    /**
+     * Returns the number of batches written so far, each in its own transaction.
+     *
+     * @return The batch count.
+     */
+    public synchronized long getBatchCount() {
+        return batchCount;
+    }
+
+    /**
+     * Returns the number of batches that failed and were queued again.
+     *
+     * @return The failed batch count.
+     */
+    public synchronized long getFailedCount() {
+        return failedCount;
+    }
+
+    /**
+     * Returns the exception of the last failed batch.
+     *
+     * @return The last failure, or null if no batch has failed.
+     */
+    public synchronized Exception getLastFailure() {
+        return lastFailure;
+    }
+
+    // Helper method to flush from the background thread, where a failure is only recorded for the next retry.
+    private void flushQuietly() {
+        flush();
+    }
+
+    // Helper method to put a failed batch back in the queue without overwriting changes queued since it was taken.
+    private synchronized void requeue(LinkedHashMap<Integer, Integer> batch, Exception failure) {
+        LinkedHashMap<Integer, Integer> merged = new LinkedHashMap<>(batch);
+        for (Map.Entry<Integer, Integer> change : pending.entrySet()) {
+            merged.remove(change.getKey());
+            merged.put(change.getKey(), change.getValue());
+        }
+        pending = merged;
+        failedCount++;
+        lastFailure = failure;
+    }
+}
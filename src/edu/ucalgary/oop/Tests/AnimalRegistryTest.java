@@ -0,0 +1,90 @@
+package edu.ucalgary.oop.Tests;
+
+import edu.ucalgary.oop.Animals.*;
+import edu.ucalgary.oop.Schedule.*;
+import java.util.*;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the AnimalRegistry class in the Schedule package.
+ * This test suite verifies that animals get compact indices in ID order, that lookups work for both close and
+ * widely spread IDs, that species IDs are assigned from a species registry, and that invalid tables are rejected.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class AnimalRegistryTest {
+
+    // Helper method to create a registry of foxes with the given IDs.
+    private AnimalRegistry createRegistry(int... ids) {
+        HashMap<Integer, Animal> animals = new HashMap<>();
+        for (int id : ids) {
+            animals.put(id, new Fox(id, "Fox" + id, "fox"));
+        }
+        return new AnimalRegistry(animals);
+    }
+
+    /**
+     * Tests that animals with close IDs are indexed in ID order and found by ID.
+     */
+    @Test
+    public void testIndexOf_CloseIDs() {
+        AnimalRegistry registry = createRegistry(12, 10, 11, 15);
+
+        assertEquals("The smallest ID should have index 0", 0, registry.indexOf(10));
+        assertEquals("ID 15 should have the last index", 3, registry.indexOf(15));
+        assertEquals("The animal should be found by its index", "Fox12",
+                registry.getAnimal(registry.indexOf(12)).getNickName());
+        assertEquals("The index should map back to the ID", 11, registry.getAnimalID(1));
+        assertEquals("A gap between IDs should not be found", -1, registry.indexOf(13));
+        assertEquals("An ID below the range should not be found", -1, registry.indexOf(Integer.MIN_VALUE));
+    }
+
+    /**
+     * Tests that animals with IDs spread too far apart for a table are still found.
+     */
+    @Test
+    public void testIndexOf_SpreadIDs() {
+        AnimalRegistry registry = createRegistry(1, 1000000, Integer.MAX_VALUE);
+
+        assertEquals("The middle ID should be found", 1, registry.indexOf(1000000));
+        assertEquals("The largest ID should be found", 2, registry.indexOf(Integer.MAX_VALUE));
+        assertEquals("A missing ID should not be found", -1, registry.indexOf(500));
+        assertEquals("Three animals should be registered", 3, registry.size());
+    }
+
+    /**
+     * Tests that species IDs are taken from a species registry, and that unknown species have none.
+     */
+    @Test
+    public void testAssignSpecies() {
+        HashMap<Integer, Animal> animals = new HashMap<>();
+        animals.put(1, new Coyote(1, "Loner", "coyote"));
+        animals.put(2, new Animal(2, "Slick", "otter"));
+        AnimalRegistry registry = new AnimalRegistry(animals);
+        SpeciesRegistry species = SpeciesRegistry.createDefault();
+
+        assertEquals("Species should be unassigned at first", -1, registry.getSpeciesID(0));
+        registry.assignSpecies(species);
+
+        assertEquals("The coyote should get the coyote ID", species.getSpeciesID("coyote"), registry.getSpeciesID(0));
+        assertEquals("An unregistered species should get no ID", -1, registry.getSpeciesID(1));
+    }
+
+    /**
+     * Tests a table containing a null animal.
+     * Expects an IllegalArgumentException to ensure proper validation.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructor_NullAnimal() {
+        HashMap<Integer, Animal> animals = new HashMap<>();
+        animals.put(1, null);
+
+        new AnimalRegistry(animals);
+    }
+}
@@ -10,6 +10,9 @@
  package edu.ucalgary.oop.Tests;
 
  import edu.ucalgary.oop.Schedule.Item;
+ import edu.ucalgary.oop.Schedule.SpeciesProfile;
+ import edu.ucalgary.oop.Schedule.SpeciesRegistry;
+ import edu.ucalgary.oop.Schedule.TaskRegistry;
  import edu.ucalgary.oop.Animals.Animal;
  import org.junit.Test;
  import static org.junit.Assert.*;
@@ -90,9 +93,33 @@
          Item item = animal.feeding();
   
          assertEquals("Animal ID should match", 1, item.getAnimalID());
+         assertEquals("Task should be the built-in feeding", TaskRegistry.FEEDING_TASK, item.getTaskID());
          assertEquals("Start hour should be 0", 0, item.getStartHour());
          assertEquals("Max window should be 3", 3, item.getMaxWindow());
          assertEquals("Duration should be 5", 5, item.getDuration());
      }
+
+     /**
+      * Tests that the feeding() method reads the feeding hours and duration from the species' profile in a registry,
+      * so a species can change its feeding schedule without a new subclass.
+      */
+     @Test
+     public void testFeeding_FromSpeciesProfile() {
+         SpeciesRegistry registry = new SpeciesRegistry();
+         registry.register(new SpeciesProfile("otter", 6, 2, 7, 0, 5));
+         Item item = new Animal(1, "Slick", "Otter").feeding(registry);
+
+         assertEquals("Start hour should come from the profile", 6, item.getStartHour());
+         assertEquals("Max window should come from the profile", 2, item.getMaxWindow());
+         assertEquals("Duration should come from the profile", 7, item.getDuration());
+     }
+
+     /**
+      * Tests the feeding() method with a null registry, which should throw an IllegalArgumentException.
+      */
+     @Test(expected = IllegalArgumentException.class)
+     public void testFeeding_NullRegistry() {
+         new Animal(1, "Fido", "Dog").feeding(null);
+     }
  }
  
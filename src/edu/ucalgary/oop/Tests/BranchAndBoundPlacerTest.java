@@ -0,0 +1,110 @@
+package edu.ucalgary.oop.Tests;
+
+import edu.ucalgary.oop.Schedule.*;
+import java.util.*;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the BranchAndBoundPlacer class in the Schedule package.
+ * This test suite verifies that the placer avoids backup volunteers that a greedy first-fit would have needed,
+ * only adds volunteers when no placement avoids them, shares food-prep time within an hour, and leaves
+ * items unplaced when they cannot fit at all.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class BranchAndBoundPlacerTest {
+
+    /**
+     * Tests that a flexible item is moved out of the way of a constrained one instead of adding a volunteer.
+     * Greedy first-fit in list order would put both items in hour 0 and need a volunteer.
+     */
+    @Test
+    public void testPlace_AvoidsVolunteer() {
+        List<Item> items = Arrays.asList(new Item(1, 3, 0, 2, 40), new Item(2, 4, 0, 1, 40));
+
+        PlacementResult result = new BranchAndBoundPlacer(1000)
+                .place(items, new int[]{-1, -1}, new int[2], new CapacityTimeline(24));
+
+        assertEquals("No volunteer should be needed", 0, result.getVolunteerCount());
+        assertEquals("The flexible item should move to hour 1", 1, result.getHour(0));
+        assertEquals("The constrained item should stay in hour 0", 0, result.getHour(1));
+        assertTrue("The search should finish within its budget", result.isOptimal());
+    }
+
+    /**
+     * Tests that a volunteer is added when the items cannot fit in their windows otherwise.
+     */
+    @Test
+    public void testPlace_AddsVolunteerWhenNeeded() {
+        List<Item> items = Arrays.asList(new Item(1, 3, 5, 1, 40), new Item(2, 4, 5, 1, 40));
+
+        PlacementResult result = new BranchAndBoundPlacer(1000)
+                .place(items, new int[]{-1, -1}, new int[2], new CapacityTimeline(24));
+
+        assertEquals("Exactly one volunteer should be needed", 1, result.getVolunteerCount());
+        assertEquals("Every item should be placed", 1.0, result.getPlacementRate(), 0.0);
+    }
+
+    /**
+     * Tests that with two staff on shift, two long items run in parallel in the same hour without a volunteer,
+     * while a third one that neither person has room for still needs one.
+     */
+    @Test
+    public void testPlace_UsesEveryStaffLane() {
+        StaffRoster roster = new StaffRoster();
+        roster.setStaff(5, 2);
+        List<Item> items = Arrays.asList(new Item(1, 3, 5, 1, 40), new Item(2, 4, 5, 1, 40),
+                new Item(3, 4, 5, 1, 40));
+
+        PlacementResult result = new BranchAndBoundPlacer(1000)
+                .place(items, new int[]{-1, -1, -1}, new int[3], new CapacityTimeline(24, roster));
+
+        assertEquals("Every item should be placed in hour 5", 1.0, result.getPlacementRate(), 0.0);
+        assertEquals("Only the third item should need a volunteer", 1, result.getVolunteerCount());
+    }
+
+    /**
+     * Tests that items in the same prep group only pay the prep time once per hour.
+     */
+    @Test
+    public void testPlace_SharesPrepTime() {
+        List<Item> items = Arrays.asList(new Item(1, TaskRegistry.FEEDING_TASK, 0, 1, 25),
+                new Item(2, TaskRegistry.FEEDING_TASK, 0, 1, 25));
+
+        PlacementResult result = new BranchAndBoundPlacer(1000)
+                .place(items, new int[]{0, 0}, new int[]{10, 10}, new CapacityTimeline(24));
+
+        assertEquals("Both feedings plus one prep should fit in 60 minutes", 0, result.getVolunteerCount());
+        assertEquals("Both feedings should be placed in hour 0", 0, result.getHour(1));
+    }
+
+    /**
+     * Tests that an item longer than a volunteered hour is left unplaced.
+     */
+    @Test
+    public void testPlace_LeavesImpossibleItemUnplaced() {
+        List<Item> items = Collections.singletonList(new Item(1, 3, 0, 1, 130));
+
+        PlacementResult result = new BranchAndBoundPlacer(1000)
+                .place(items, new int[]{-1}, new int[1], new CapacityTimeline(24));
+
+        assertEquals("The item should be left unplaced", -1, result.getHour(0));
+        assertEquals("One item should be unplaced", 1, result.getUnplacedCount());
+        assertEquals("No volunteer should be added for an unplaced item", 0, result.getVolunteerCount());
+    }
+
+    /**
+     * Tests constructing a placer with a negative time budget.
+     * Expects an IllegalArgumentException to ensure proper validation.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructor_NegativeBudget() {
+        new BranchAndBoundPlacer(-1);
+    }
+}
@@ -0,0 +1,323 @@
+package edu.ucalgary.oop.Tests;
+
+import edu.ucalgary.oop.Schedule.CapacityTimeline;
+import edu.ucalgary.oop.Schedule.StaffRoster;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the CapacityTimeline class in the Schedule package.
+ * This test suite verifies that the timeline starts every hour at full capacity, finds the earliest
+ * hour that fits a task inside its window, and correctly tracks reserved minutes and added volunteers.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class CapacityTimelineTest {
+
+    /**
+     * Tests that a new timeline gives every hour 60 free minutes and 60 minutes of capacity.
+     */
+    @Test
+    public void testConstructor_AllHoursFree() {
+        CapacityTimeline timeline = new CapacityTimeline(24);
+
+        assertEquals("Timeline should cover 24 hours", 24, timeline.getHours());
+        for (int hour = 0; hour < 24; hour++) {
+            assertEquals("Every hour should start with 60 free minutes", 60, timeline.getRemaining(hour));
+            assertEquals("Every hour should start with 60 minutes of capacity", 60, timeline.getCapacity(hour));
+        }
+    }
+
+    /**
+     * Tests the constructor with a non-positive length.
+     * Expects an IllegalArgumentException to ensure proper validation.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructor_NoHours() {
+        new CapacityTimeline(0);
+    }
+
+    /**
+     * Tests that hours outside of the timeline report no capacity and cannot be reserved.
+     */
+    @Test
+    public void testHoursOutsideTimeline() {
+        CapacityTimeline timeline = new CapacityTimeline(24);
+
+        assertEquals("Hour 24 should have no free minutes", 0, timeline.getRemaining(24));
+        assertEquals("Hour -1 should have no capacity", 0, timeline.getCapacity(-1));
+        assertFalse("Reserving outside the timeline should fail", timeline.reserve(24, 5));
+    }
+
+    /**
+     * Tests that firstFit skips hours without enough free minutes and returns the earliest fitting hour.
+     */
+    @Test
+    public void testFirstFit_SkipsFullHours() {
+        CapacityTimeline timeline = new CapacityTimeline(24);
+        timeline.reserve(10, 50);
+
+        assertEquals("Hour 10 only has 10 minutes left, so hour 11 should fit", 11, timeline.firstFit(10, 3, 20));
+        assertEquals("Hour 10 should still fit a 10 minute task", 10, timeline.firstFit(10, 3, 10));
+    }
+
+    /**
+     * Tests that firstFit returns -1 when no hour in the window fits, including windows running past the end.
+     */
+    @Test
+    public void testFirstFit_NoFit() {
+        CapacityTimeline timeline = new CapacityTimeline(24);
+        timeline.reserve(22, 60);
+        timeline.reserve(23, 60);
+
+        assertEquals("No hour from 22 onward should fit", -1, timeline.firstFit(22, 5, 5));
+    }
+
+    /**
+     * Tests that reserving and releasing minutes updates the free time of an hour without exceeding its capacity.
+     */
+    @Test
+    public void testReserveAndRelease() {
+        CapacityTimeline timeline = new CapacityTimeline(24);
+
+        assertTrue("Reserving 40 minutes should succeed", timeline.reserve(5, 40));
+        assertFalse("Reserving another 40 minutes should fail", timeline.reserve(5, 40));
+        assertEquals("Hour 5 should have 20 minutes left", 20, timeline.getRemaining(5));
+        assertFalse("Hour 5 should no longer be free", timeline.isFree(5));
+
+        timeline.release(5, 100);
+        assertEquals("Releasing should not exceed capacity", 60, timeline.getRemaining(5));
+        assertTrue("Hour 5 should be free again", timeline.isFree(5));
+    }
+
+    /**
+     * Tests that adding a volunteer doubles an hour's capacity and is skipped by the volunteer search afterwards.
+     */
+    @Test
+    public void testAddVolunteer() {
+        CapacityTimeline timeline = new CapacityTimeline(24);
+        timeline.reserve(8, 60);
+        timeline.addVolunteer(8);
+
+        assertEquals("Hour 8 should have 120 minutes of capacity", 120, timeline.getCapacity(8));
+        assertEquals("Hour 8 should have 60 free minutes", 60, timeline.getRemaining(8));
+        assertEquals("Hour 9 should be the first hour without a volunteer", 9, timeline.firstHourWithoutVolunteer(8, 3));
+        timeline.addVolunteer(9);
+        timeline.addVolunteer(10);
+        assertEquals("Every hour in the window has a volunteer", -1, timeline.firstHourWithoutVolunteer(8, 3));
+    }
+
+    /**
+     * Tests that a volunteer is only removed once nothing is reserved in their lane, and that the hour then has
+     * its rostered capacity again.
+     */
+    @Test
+    public void testRemoveVolunteer() {
+        CapacityTimeline timeline = new CapacityTimeline(24);
+        timeline.reserve(8, 60);
+        timeline.addVolunteer(8);
+        timeline.reserveInLane(8, 1, 20);
+
+        assertFalse("A volunteer with reserved minutes should be kept", timeline.removeVolunteer(8));
+        timeline.release(8, 1, 20);
+        assertTrue("An unused volunteer should be removed", timeline.removeVolunteer(8));
+        assertFalse("Hour 8 should no longer have a volunteer", timeline.hasVolunteer(8));
+        assertEquals("Hour 8 should be back to 60 minutes of capacity", 60, timeline.getCapacity(8));
+        assertEquals("Hour 8 should have no free minutes", 0, timeline.getRemaining(8));
+        assertEquals("Hour 8 should be the first hour without a volunteer", 8, timeline.firstHourWithoutVolunteer(8, 3));
+        assertFalse("An hour without a volunteer has none to remove", timeline.removeVolunteer(9));
+    }
+
+    /**
+     * Tests that a window opening late in the day continues into the next morning of a multi-day timeline.
+     */
+    @Test
+    public void testFirstFit_WrapsPastMidnight() {
+        CapacityTimeline timeline = new CapacityTimeline(48);
+        timeline.reserve(22, 60);
+        timeline.reserve(23, 60);
+
+        assertEquals("A window from 22 should spill into hour 24 of the next day", 24, timeline.firstFit(22, 5, 30));
+    }
+
+    /**
+     * Tests that advancing the ring retires the oldest hours, keeps later reservations, and frees the reused slots.
+     */
+    @Test
+    public void testAdvance_ReusesRetiredSlots() {
+        CapacityTimeline timeline = new CapacityTimeline(48);
+        timeline.reserve(5, 60);
+        timeline.addVolunteer(5);
+        timeline.reserve(30, 45);
+
+        timeline.advance(24);
+
+        assertEquals("The first hour should move to 24", 24, timeline.getFirstHour());
+        assertEquals("The end hour should move to 72", 72, timeline.getEndHour());
+        assertEquals("Retired hour 5 should no longer be covered", 0, timeline.getRemaining(5));
+        assertEquals("Hour 30 should keep its reservation", 15, timeline.getRemaining(30));
+        assertEquals("Hour 53 reuses the slot of hour 5 and should be free", 60, timeline.getRemaining(53));
+        assertEquals("Hour 53 should not inherit the volunteer", 60, timeline.getCapacity(53));
+    }
+
+    /**
+     * Tests advancing with a negative number of hours.
+     * Expects an IllegalArgumentException to ensure proper validation.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testAdvance_Negative() {
+        new CapacityTimeline(24).advance(-1);
+    }
+
+    /**
+     * Tests that the range-max query returns the most free minutes of any hour in a window, including wrapped windows.
+     */
+    @Test
+    public void testMaxRemaining() {
+        CapacityTimeline timeline = new CapacityTimeline(24);
+        timeline.reserve(3, 60);
+        timeline.reserve(4, 20);
+
+        assertEquals("Hour 4 has the most free time in hours 3-4", 40, timeline.maxRemaining(3, 2));
+        timeline.advance(20);
+        timeline.reserve(24, 60);
+        assertEquals("Hours 23-24 wrap around the ring", 60, timeline.maxRemaining(23, 2));
+        assertEquals("A window outside the timeline has no free time", 0, timeline.maxRemaining(100, 5));
+    }
+
+    /**
+     * Tests the tree-backed searches against a straightforward hour-by-hour, lane-by-lane scan over random
+     * reservations, volunteers and advances with between 0 and 3 staff per hour, including windows that wrap
+     * around the ring.
+     */
+    @Test
+    public void testSearches_MatchLinearScan() {
+        Random random = new Random(42);
+        StaffRoster roster = new StaffRoster();
+        for (int hour = 0; hour < 24; hour++) {
+            roster.setStaff(hour, hour % 4);
+        }
+        CapacityTimeline timeline = new CapacityTimeline(30, roster);
+
+        for (int step = 0; step < 2000; step++) {
+            int hour = timeline.getFirstHour() + random.nextInt(timeline.getHours());
+            switch (random.nextInt(5)) {
+                case 0: timeline.reserve(hour, random.nextInt(40)); break;
+                case 1: timeline.release(hour, random.nextInt(40)); break;
+                case 2: timeline.addVolunteer(hour); break;
+                case 3: timeline.advance(random.nextInt(5)); break;
+                default: break;
+            }
+
+            int start = timeline.getFirstHour() - 3 + random.nextInt(timeline.getHours() + 6);
+            int window = 1 + random.nextInt(24);
+            int minutes = random.nextInt(100);
+            int expectedFit = -1;
+            int expectedVolunteer = -1;
+            for (int h = start; h < start + window; h++) {
+                int largest = 0;
+                for (int lane = 0; lane < timeline.getLanes(h); lane++) {
+                    largest = Math.max(largest, timeline.getLaneFree(h, lane));
+                }
+                if (expectedFit < 0 && timeline.getLanes(h) > 0 && largest >= minutes) {
+                    expectedFit = h;
+                }
+                boolean inside = h >= timeline.getFirstHour() && h < timeline.getFirstHour() + timeline.getHours();
+                if (expectedVolunteer < 0 && inside && !timeline.hasVolunteer(h)) {
+                    expectedVolunteer = h;
+                }
+            }
+            assertEquals("firstFit should match a linear scan", expectedFit, timeline.firstFit(start, window, minutes));
+            assertEquals("firstHourWithoutVolunteer should match a linear scan",
+                    expectedVolunteer, timeline.firstHourWithoutVolunteer(start, window));
+        }
+    }
+
+    /**
+     * Tests that with several staff on shift a task has to fit in one person's free time, and that reservations
+     * go to the lane that fits them most tightly.
+     */
+    @Test
+    public void testLanes_TaskFitsOnePerson() {
+        StaffRoster roster = new StaffRoster();
+        roster.setStaff(2, 3);
+        CapacityTimeline timeline = new CapacityTimeline(24, roster);
+
+        assertEquals("Hour 2 should have three lanes", 3, timeline.getLanes(2));
+        assertEquals("Hour 2 should have 180 minutes of capacity", 180, timeline.getCapacity(2));
+        for (int lane = 0; lane < 3; lane++) {
+            assertTrue("Each lane should take 20 minutes", timeline.reserveInLane(2, lane, 20));
+        }
+        assertEquals("120 minutes should be left in total", 120, timeline.getRemaining(2));
+        assertFalse("A 50 minute task should not fit in any one lane", timeline.fits(2, 50));
+        assertEquals("firstFit should skip hour 2 for a 50 minute task", 3, timeline.firstFit(2, 2, 50));
+
+        timeline.reserveInLane(2, 1, 30);
+        assertEquals("A 10 minute task should go to the tightest lane", 1, timeline.reserveLane(2, 10));
+        timeline.release(2, 1, 40);
+        assertEquals("Released minutes should return to their lane", 40, timeline.getLaneFree(2, 1));
+        assertEquals("Lanes beyond the hour's staff should have no time", 0, timeline.getLaneFree(2, 3));
+    }
+
+    /**
+     * Tests that a volunteer opens one extra lane after the staff lanes, only once per hour, including in an hour
+     * nobody is rostered for.
+     */
+    @Test
+    public void testLanes_VolunteerOpensLane() {
+        StaffRoster roster = new StaffRoster();
+        roster.setStaff(4, 2);
+        roster.setStaff(5, 0);
+        CapacityTimeline timeline = new CapacityTimeline(24, roster);
+
+        assertFalse("An hour without staff should not fit anything", timeline.fits(5, 0));
+        timeline.addVolunteer(4);
+        timeline.addVolunteer(4);
+        timeline.addVolunteer(5);
+
+        assertEquals("Hour 4 should have two staff lanes and one volunteer lane", 3, timeline.getLanes(4));
+        assertEquals("The volunteer should take the lane after the staff", 60, timeline.getLaneFree(4, 2));
+        assertEquals("The staff count should not change", 2, timeline.getStaff(4));
+        assertTrue("The volunteer should make hour 5 usable", timeline.fits(5, 60));
+        assertEquals("firstFit should find the volunteered hour", 5, timeline.firstFit(5, 1, 45));
+    }
+
+    /**
+     * Tests that prepared species are tracked per hour, copied with the timeline, and cleared when a slot is reused.
+     */
+    @Test
+    public void testMarkPrepared() {
+        CapacityTimeline timeline = new CapacityTimeline(24);
+        timeline.markPrepared(3, 1);
+        timeline.markPrepared(3, 4);
+
+        assertTrue("Species 1 should be prepared in hour 3", timeline.isPrepared(3, 1));
+        assertFalse("Species 1 should not be prepared in hour 4", timeline.isPrepared(4, 1));
+        assertEquals("Hour 3 should have bits 1 and 4 set", 0b10010L, timeline.getPreparedMask(3));
+        assertTrue("A copy should keep the prepared species", timeline.copy().isPrepared(3, 4));
+
+        timeline.advance(4);
+        assertEquals("Hour 27 reuses the slot of hour 3 and should have nothing prepared", 0L, timeline.getPreparedMask(27));
+    }
+
+    /**
+     * Tests that clearing an hour's prepared food leaves the other hours prepared.
+     */
+    @Test
+    public void testClearPrepared() {
+        CapacityTimeline timeline = new CapacityTimeline(24);
+        timeline.markPrepared(3, 1);
+        timeline.markPrepared(4, 1);
+
+        timeline.clearPrepared(3);
+
+        assertEquals("Hour 3 should have nothing prepared", 0L, timeline.getPreparedMask(3));
+        assertTrue("Hour 4 should still be prepared", timeline.isPrepared(4, 1));
+    }
+}
@@ -0,0 +1,66 @@
+package edu.ucalgary.oop.Tests;
+
+import edu.ucalgary.oop.Schedule.*;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the non-interactive ConflictPolicy implementations in the Schedule package.
+ * This test suite verifies that each built-in policy makes the expected volunteer and rescheduling
+ * decisions without prompting, so that schedules can be created unattended.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class ConflictPolicyTest {
+
+    private final int[] freeHours = {3, 9, 15};
+
+    /**
+     * Tests that AutoVolunteerPolicy always approves a volunteer and falls back to the earliest free hour.
+     */
+    @Test
+    public void testAutoVolunteerPolicy() {
+        ConflictPolicy policy = new AutoVolunteerPolicy();
+        Item item = new Item(1, 2, 10, 1, 20, 5);
+
+        assertTrue("A volunteer should always be approved", policy.approveVolunteer(10, item));
+        assertEquals("The earliest free hour should be chosen", 3, policy.chooseStartHour(item, freeHours));
+        assertEquals("No free hours should leave the item unscheduled", -1, policy.chooseStartHour(item, new int[0]));
+    }
+
+    /**
+     * Tests that AutoShiftPolicy never approves a volunteer and shifts to the next free hour after the start hour.
+     */
+    @Test
+    public void testAutoShiftPolicy() {
+        ConflictPolicy policy = new AutoShiftPolicy();
+        Item item = new Item(1, 2, 10, 1, 20, 5);
+
+        assertFalse("A volunteer should never be approved", policy.approveVolunteer(10, item));
+        assertEquals("The next free hour after 10 should be 15", 15, policy.chooseStartHour(item, freeHours));
+
+        Item lateItem = new Item(1, 2, 20, 1, 20, 6);
+        assertEquals("No free hour after 20 should leave the item unscheduled", -1, policy.chooseStartHour(lateItem, freeHours));
+    }
+
+    /**
+     * Tests that ReportingConflictPolicy declines every conflict and records each one in its report.
+     */
+    @Test
+    public void testReportingConflictPolicy() {
+        ReportingConflictPolicy policy = new ReportingConflictPolicy();
+        Item item = new Item(1, 2, 10, 1, 20, 5);
+
+        assertFalse("A volunteer should never be approved", policy.approveVolunteer(10, item));
+        assertEquals("The item should be left unscheduled", -1, policy.chooseStartHour(item, freeHours));
+
+        assertEquals("Both conflicts should be reported", 2, policy.getReport().size());
+        assertEquals("Only the unscheduled item should be a conflict", 1, policy.getConflicts().size());
+        assertSame("The conflict should be the unscheduled item", item, policy.getConflicts().get(0));
+    }
+}
@@ -0,0 +1,188 @@
+package edu.ucalgary.oop.Tests;
+
+import edu.ucalgary.oop.Schedule.ConnectionPool;
+import java.lang.reflect.Proxy;
+import java.sql.*;
+import java.util.*;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the ConnectionPool class in the Schedule package.
+ * This test suite verifies that returned connections are reused, that the pool never opens more connections than
+ * its size, that invalid and long-idle connections are replaced, and that borrow times are recorded. The pool is
+ * given stand-in connections, so no database is needed.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class ConnectionPoolTest {
+
+    // A stand-in for a physical connection that records whether it was closed and can be marked invalid.
+    private static class FakeConnection {
+        boolean closed = false;
+        boolean valid = true;
+        final Connection connection = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "close": closed = true; return null;
+                        case "isClosed": return closed;
+                        case "isValid": return valid && !closed;
+                        case "getAutoCommit": return true;
+                        default: return null;
+                    }
+                });
+    }
+
+    private final ArrayList<FakeConnection> opened = new ArrayList<>();
+
+    // Helper method to create a pool that opens stand-in connections and remembers them.
+    private ConnectionPool createPool(int maxSize, long idleTimeoutMillis, long borrowTimeoutMillis) {
+        return new ConnectionPool(() -> {
+            FakeConnection fake = new FakeConnection();
+            opened.add(fake);
+            return fake.connection;
+        }, maxSize, idleTimeoutMillis, borrowTimeoutMillis);
+    }
+
+    /**
+     * Tests that a returned connection is handed out again instead of opening a new one.
+     */
+    @Test
+    public void testBorrow_ReusesReturnedConnection() throws SQLException {
+        ConnectionPool pool = createPool(2, 60000, 1000);
+
+        try (Connection connection = pool.borrow()) {
+            assertFalse("A borrowed connection should be open", connection.isClosed());
+        }
+        pool.borrow().close();
+        assertEquals("Only one connection should have been opened", 1, opened.size());
+        assertEquals("The connection should be idle in the pool", 1, pool.getIdleCount());
+        assertFalse("Returning a connection should not close it", opened.get(0).closed);
+        assertEquals("Both borrows should be recorded", 2, pool.getBorrowCount());
+        assertTrue("The longest borrow should be at least the average",
+                pool.getMaxBorrowNanos() >= pool.getAverageBorrowNanos());
+    }
+
+    /**
+     * Tests that a borrower gives up when every connection is in use for longer than the borrow timeout.
+     */
+    @Test
+    public void testBorrow_BoundedSize() throws SQLException {
+        ConnectionPool pool = createPool(1, 60000, 50);
+        Connection held = pool.borrow();
+
+        try {
+            pool.borrow();
+            fail("Borrowing from a full pool should time out");
+        } catch (SQLException e) {
+            assertEquals("No second connection should be opened", 1, opened.size());
+        }
+        held.close();
+        pool.borrow().close();
+        assertEquals("The returned connection should be reused", 1, opened.size());
+    }
+
+    /**
+     * Tests that a waiting borrower gets the connection as soon as another thread returns it.
+     */
+    @Test
+    public void testBorrow_WaitsForReturn() throws Exception {
+        ConnectionPool pool = createPool(1, 60000, 5000);
+        Connection held = pool.borrow();
+        Thread returner = new Thread(() -> {
+            try {
+                Thread.sleep(20);
+                held.close();
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        returner.start();
+
+        pool.borrow().close();
+        returner.join();
+        assertEquals("The waiting borrower should reuse the returned connection", 1, opened.size());
+    }
+
+    /**
+     * Tests that an idle connection that fails validation is closed and replaced.
+     */
+    @Test
+    public void testBorrow_ReplacesInvalidConnection() throws SQLException {
+        ConnectionPool pool = createPool(1, 60000, 1000);
+        pool.borrow().close();
+        opened.get(0).valid = false;
+
+        pool.borrow().close();
+
+        assertTrue("The invalid connection should be closed", opened.get(0).closed);
+        assertEquals("A new connection should be opened in its place", 2, opened.size());
+        assertEquals("The pool should still hold one connection", 1, pool.getOpenCount());
+    }
+
+    /**
+     * Tests that a connection idle for longer than the idle timeout is closed the next time the pool is used.
+     */
+    @Test
+    public void testBorrow_EvictsIdleConnection() throws Exception {
+        ConnectionPool pool = createPool(2, 1, 1000);
+        pool.borrow().close();
+        Thread.sleep(10);
+
+        pool.borrow().close();
+
+        assertTrue("The idle connection should be closed", opened.get(0).closed);
+        assertEquals("A new connection should be opened", 2, opened.size());
+    }
+
+    /**
+     * Tests that a returned connection cannot be used again and that closing it twice returns it once.
+     */
+    @Test
+    public void testClose_ReturnedConnectionIsClosed() throws SQLException {
+        ConnectionPool pool = createPool(2, 60000, 1000);
+        Connection connection = pool.borrow();
+        connection.close();
+        connection.close();
+
+        assertTrue("A returned connection should report being closed", connection.isClosed());
+        assertEquals("The connection should be in the pool once", 1, pool.getIdleCount());
+        try {
+            connection.createStatement();
+            fail("Using a returned connection should fail");
+        } catch (SQLException e) {
+            assertEquals("The pool should be unchanged", 1, pool.getIdleCount());
+        }
+    }
+
+    /**
+     * Tests that closing the pool closes its idle connections and the ones returned afterwards.
+     */
+    @Test
+    public void testClose_ClosesConnections() throws SQLException {
+        ConnectionPool pool = createPool(2, 60000, 1000);
+        Connection held = pool.borrow();
+        pool.borrow().close();
+
+        pool.close();
+        held.close();
+
+        assertTrue("The idle connection should be closed", opened.get(1).closed);
+        assertTrue("The connection returned after closing should be closed", opened.get(0).closed);
+        assertEquals("No connection should be left open", 0, pool.getOpenCount());
+    }
+
+    /**
+     * Tests the constructor with a pool size of zero.
+     * Expects an IllegalArgumentException to ensure proper validation.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructor_NoConnections() {
+        createPool(0, 60000, 1000);
+    }
+}
@@ -0,0 +1,148 @@
+package edu.ucalgary.oop.Tests;
+
+import edu.ucalgary.oop.Animals.*;
+import edu.ucalgary.oop.Medical.Tasks;
+import edu.ucalgary.oop.Schedule.*;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the CsvShelterDataSource class in the Schedule package.
+ * This test suite verifies that tables read from flat files match the database import, that quoted fields and
+ * a missing staffing file are handled, that written files read back the same, and that malformed files are
+ * reported.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class CsvShelterDataSourceTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    // Helper method to write a file in the temporary folder.
+    private void writeFile(String name, String... lines) throws IOException {
+        Files.write(folder.getRoot().toPath().resolve(name), Arrays.asList(lines), StandardCharsets.UTF_8);
+    }
+
+    // Helper method to write a small shelter without a staffing file.
+    private void writeShelter() throws IOException {
+        writeFile(CsvShelterDataSource.ANIMALS_FILE, "AnimalID,AnimalNickname,AnimalSpecies",
+                "1,Loner,coyote", "2,\"Spike, Jr.\",porcupine");
+        writeFile(CsvShelterDataSource.TASKS_FILE, "TaskID,Description,Duration,MaxWindow",
+                "1,Kit feeding,30,2", "2,\"Apply \"\"burn\"\" ointment\",10,3");
+        writeFile(CsvShelterDataSource.TREATMENTS_FILE, "TreatmentID,AnimalID,TaskID,StartHour",
+                "7,2,2,13", "3,1,1,0", "8,5,1,4", "9,1,6,4", "");
+    }
+
+    /**
+     * Tests reading files with quoted fields, joining each treatment with its task.
+     */
+    @Test
+    public void testRead_JoinsTreatmentsWithTasks() throws IOException {
+        writeShelter();
+
+        ShelterData data = new CsvShelterDataSource(folder.getRoot().toPath()).load();
+
+        assertEquals("Both animals should be read", 2, data.getAnimals().size());
+        assertEquals("Quoted commas should be kept", "Spike, Jr.", data.getAnimals().get(2).getNickName());
+        assertEquals("Doubled quotes should be read as one", "Apply \"burn\" ointment",
+                data.getTasks().get(2).getDescription());
+        assertEquals("Treatments of unknown animals or tasks should be left out", 2,
+                data.getTreatmentItems().size());
+        Item first = data.getTreatmentItems().get(0);
+        assertEquals("Treatments should be ordered by ID", 3, first.getTreatmentID());
+        assertEquals("The task's duration should be joined in", 30, first.getDuration());
+        assertEquals("The task's window should be joined in", 2, first.getMaxWindow());
+        assertEquals("Without a staffing file there should be one staff member", 1,
+                data.getStaffRoster().getStaff(9));
+    }
+
+    /**
+     * Tests that a rescheduled treatment is saved back to the files.
+     */
+    @Test
+    public void testSave_WritesRescheduledTreatments() throws IOException {
+        writeShelter();
+        CsvShelterDataSource source = new CsvShelterDataSource(folder.getRoot().toPath());
+        source.updateTreatmentStartHours(Collections.singletonMap(7, 20));
+
+        source.save();
+
+        ShelterData data = CsvShelterDataSource.read(folder.getRoot().toPath());
+        assertEquals("The new start hour should be saved", 20, data.getTreatmentItems().get(1).getStartHour());
+        assertEquals("Quoted fields should survive a save", "Apply \"burn\" ointment",
+                data.getTasks().get(2).getDescription());
+    }
+
+    /**
+     * Tests that written tables read back the same, including staffing and line breaks inside fields.
+     */
+    @Test
+    public void testWrite_RoundTrip() throws IOException {
+        HashMap<Integer, Animal> animals = new HashMap<>();
+        animals.put(4, new Raccoon(4, "Bandit", "raccoon"));
+        HashMap<Integer, Tasks> tasks = new HashMap<>();
+        tasks.put(5, new Tasks(5, "Flush wound,\nthen rebandage", 20, 1));
+        ArrayList<Item> items = new ArrayList<>();
+        items.add(new Item(4, 5, 22, 1, 20, 1));
+        StaffRoster staffRoster = new StaffRoster();
+        staffRoster.setStaff(22, 0);
+        Path directory = folder.getRoot().toPath();
+
+        CsvShelterDataSource.write(new ShelterData(animals, tasks, items, staffRoster), directory);
+        ShelterData data = CsvShelterDataSource.read(directory);
+
+        assertEquals("Line breaks inside a field should be kept", "Flush wound,\nthen rebandage",
+                data.getTasks().get(5).getDescription());
+        assertEquals("The treatment should be read back", 22, data.getTreatmentItems().get(0).getStartHour());
+        assertEquals("The staffing should be read back", 0, data.getStaffRoster().getStaff(22));
+    }
+
+    /**
+     * Tests that a field that is not a number is reported as a malformed file.
+     */
+    @Test
+    public void testRead_MalformedNumber() throws IOException {
+        writeShelter();
+        writeFile(CsvShelterDataSource.TASKS_FILE, "TaskID,Description,Duration,MaxWindow", "1,Kit feeding,thirty,2");
+
+        try {
+            CsvShelterDataSource.read(folder.getRoot().toPath());
+            fail("A malformed number should be reported");
+        } catch (IOException e) {
+            assertTrue("The message should name the field", e.getMessage().contains("thirty"));
+        }
+    }
+
+    /**
+     * Tests that a row with too few fields is reported as a malformed file.
+     * Expects an IOException so the caller knows the files cannot be used.
+     */
+    @Test(expected = IOException.class)
+    public void testRead_MissingField() throws IOException {
+        writeShelter();
+        writeFile(CsvShelterDataSource.ANIMALS_FILE, "AnimalID,AnimalNickname,AnimalSpecies", "1,Loner");
+
+        CsvShelterDataSource.read(folder.getRoot().toPath());
+    }
+
+    /**
+     * Tests reading a directory without the required files.
+     * Expects an IOException so the caller knows the files cannot be used.
+     */
+    @Test(expected = IOException.class)
+    public void testRead_MissingFile() throws IOException {
+        CsvShelterDataSource.read(folder.getRoot().toPath());
+    }
+}
@@ -0,0 +1,92 @@
+package edu.ucalgary.oop.Tests;
+
+import edu.ucalgary.oop.Schedule.DurationModel;
+import edu.ucalgary.oop.Schedule.Item;
+import edu.ucalgary.oop.Schedule.TaskRegistry;
+import java.util.SplittableRandom;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the DurationModel class in the Schedule package.
+ * This test suite verifies that tasks without a spread keep their listed duration, that sampled durations stay
+ * within a task's spread and peak at the listed duration, and that invalid spreads are rejected.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class DurationModelTest {
+
+    /**
+     * Tests that a new model always returns the listed duration.
+     */
+    @Test
+    public void testSample_NoSpreadKeepsDuration() {
+        DurationModel model = new DurationModel();
+        SplittableRandom random = new SplittableRandom(1);
+        Item item = new Item(1, 3, 0, 1, 25);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals("Without a spread the duration should not change", 25, model.sample(item, random));
+        }
+    }
+
+    /**
+     * Tests that sampled durations stay within the spread and average out near the triangular mean.
+     */
+    @Test
+    public void testSample_StaysWithinSpread() {
+        DurationModel model = new DurationModel();
+        model.setSpread(3, 0.5, 2.0);
+        SplittableRandom random = new SplittableRandom(7);
+        Item item = new Item(1, 3, 0, 1, 40);
+
+        long total = 0;
+        int samples = 20000;
+        for (int i = 0; i < samples; i++) {
+            int duration = model.sample(item, random);
+            assertTrue("Duration should not be below 20 minutes", duration >= 20);
+            assertTrue("Duration should not be above 80 minutes", duration <= 80);
+            total += duration;
+        }
+        // The mean of a triangular distribution is (low + peak + high) / 3 = 3.5 / 3 of the listed duration.
+        assertEquals("Mean duration should match the triangular mean", 40 * 3.5 / 3, (double) total / samples, 0.5);
+    }
+
+    /**
+     * Tests that the default model spreads feedings more than cage cleaning, and applies the default spread to
+     * other tasks.
+     */
+    @Test
+    public void testCreateDefault() {
+        DurationModel model = DurationModel.createDefault();
+
+        assertEquals("Feedings may take twice as long", 2.0,
+                model.getSpread(TaskRegistry.FEEDING_TASK)[1], 0.0);
+        assertEquals("Cage cleaning may overrun by a fifth", 1.2,
+                model.getSpread(TaskRegistry.CAGE_CLEANING_TASK)[1], 0.0);
+        assertEquals("Other tasks should use the default spread", 1.5, model.getSpread(7)[1], 0.0);
+    }
+
+    /**
+     * Tests setSpread with a high factor below the listed duration.
+     * Expects an IllegalArgumentException to ensure proper validation.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetSpread_HighBelowOne() {
+        new DurationModel().setSpread(1, 0.5, 0.9);
+    }
+
+    /**
+     * Tests setDefaultSpread with a negative low factor.
+     * Expects an IllegalArgumentException to ensure proper validation.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetDefaultSpread_NegativeLow() {
+        new DurationModel().setDefaultSpread(-0.1, 1.5);
+    }
+}
@@ -0,0 +1,97 @@
+package edu.ucalgary.oop.Tests;
+
+import edu.ucalgary.oop.Schedule.*;
+import java.util.*;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the DurationSimulator class in the Schedule package.
+ * This test suite verifies that fixed durations give certain outcomes, that varying durations give volunteer
+ * probabilities between 0 and 1 in the hours at risk, and that the same seed gives the same report whatever the
+ * number of workers.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class DurationSimulatorTest {
+
+    /**
+     * Tests that without any spread every trial matches the listed durations.
+     */
+    @Test
+    public void testSimulate_FixedDurations() {
+        List<Item> items = Arrays.asList(new Item(1, 3, 5, 1, 40), new Item(2, 4, 5, 1, 40));
+
+        SimulationReport report = new DurationSimulator(new OrderedPlacer(new EarliestDeadlineFirst()),
+                new DurationModel(), 2).simulate(items, new int[]{-1, -1}, new int[2], new CapacityTimeline(24), 50, 1);
+
+        assertEquals("Hour 5 should always need a volunteer", 1.0, report.getVolunteerProbability(5), 0.0);
+        assertEquals("Hour 4 should never need a volunteer", 0.0, report.getVolunteerProbability(4), 0.0);
+        assertEquals("One volunteer should be needed on average", 1.0, report.getExpectedVolunteers(), 0.0);
+        assertEquals("Every item should always be placed", 0.0, report.getUnplacedProbability(), 0.0);
+        assertEquals("Every trial should be counted", 50, report.getTrials());
+    }
+
+    /**
+     * Tests that two items that only just fill an hour sometimes overrun it and need a volunteer.
+     */
+    @Test
+    public void testSimulate_VarianceCreatesRisk() {
+        List<Item> items = Arrays.asList(new Item(1, 3, 5, 1, 28), new Item(2, 4, 5, 1, 28));
+        DurationModel model = new DurationModel();
+        model.setDefaultSpread(0.8, 1.5);
+
+        SimulationReport report = new DurationSimulator(new OrderedPlacer(new EarliestDeadlineFirst()), model, 4)
+                .simulate(items, new int[]{-1, -1}, new int[2], new CapacityTimeline(24), 2000, 3);
+
+        double risk = report.getVolunteerProbability(5);
+        assertTrue("Hour 5 should sometimes need a volunteer", risk > 0.1);
+        assertTrue("Hour 5 should sometimes manage without one", risk < 0.9);
+        assertEquals("No other hour should ever need a volunteer", 0.0, report.getVolunteerProbability(6), 0.0);
+    }
+
+    /**
+     * Tests that the same seed gives the same counts with one worker as with several.
+     */
+    @Test
+    public void testSimulate_SameSeedSameReport() {
+        ArrayList<Item> items = new ArrayList<>();
+        Random random = new Random(11);
+        for (int i = 0; i < 30; i++) {
+            items.add(new Item(i, 1 + random.nextInt(5), random.nextInt(6), 1 + random.nextInt(3),
+                    5 + random.nextInt(30)));
+        }
+        int[] prepGroups = new int[items.size()];
+        Arrays.fill(prepGroups, -1);
+        DurationModel model = DurationModel.createDefault();
+        PlacementEngine engine = new OrderedPlacer(new MostConstrainedFirst());
+
+        SimulationReport single = new DurationSimulator(engine, model, 1)
+                .simulate(items, prepGroups, new int[items.size()], new CapacityTimeline(24), 500, 99);
+        SimulationReport parallel = new DurationSimulator(engine, model, 4)
+                .simulate(items, prepGroups, new int[items.size()], new CapacityTimeline(24), 500, 99);
+
+        for (int hour = 0; hour < 24; hour++) {
+            assertEquals("Hour " + hour + " should have the same risk",
+                    single.getVolunteerProbability(hour), parallel.getVolunteerProbability(hour), 0.0);
+        }
+        assertTrue("Some hour should need a volunteer", single.getExpectedVolunteers() > 0);
+        assertEquals("The expected volunteers should match",
+                single.getExpectedVolunteers(), parallel.getExpectedVolunteers(), 0.0);
+    }
+
+    /**
+     * Tests simulate with no trials.
+     * Expects an IllegalArgumentException to ensure proper validation.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testSimulate_NoTrials() {
+        new DurationSimulator(new OrderedPlacer(new EarliestDeadlineFirst()), new DurationModel())
+                .simulate(new ArrayList<>(), new int[0], new int[0], new CapacityTimeline(24), 0, 1);
+    }
+}
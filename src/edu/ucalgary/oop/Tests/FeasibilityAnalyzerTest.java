@@ -0,0 +1,163 @@
+package edu.ucalgary.oop.Tests;
+
+import edu.ucalgary.oop.Schedule.*;
+import java.util.*;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the FeasibilityAnalyzer class in the Schedule package.
+ * This test suite verifies that the analysis finds hours that are certain to need a volunteer, items that cannot
+ * fit at all and overloaded windows, counts shared food prep once per species, and never contradicts an optimal
+ * placement.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class FeasibilityAnalyzerTest {
+
+    /**
+     * Tests that items that fit without help produce a clean report.
+     */
+    @Test
+    public void testAnalyze_Clean() {
+        List<Item> items = Arrays.asList(new Item(1, 3, 5, 2, 40), new Item(2, 4, 5, 2, 40));
+
+        FeasibilityReport report = analyze(items, new CapacityTimeline(24));
+
+        assertTrue("Two 40 minute items in two hours should need nothing", report.isClean());
+        assertEquals("There should be nothing to report", 0, report.getReport().size());
+    }
+
+    /**
+     * Tests that an hour whose fixed items exceed 60 minutes is reported as needing a volunteer.
+     */
+    @Test
+    public void testAnalyze_ForcedVolunteerHour() {
+        List<Item> items = Arrays.asList(new Item(1, 3, 5, 1, 40), new Item(2, 4, 5, 1, 40));
+
+        FeasibilityReport report = analyze(items, new CapacityTimeline(24));
+
+        assertArrayEquals("Hour 5 should need a volunteer", new int[]{5}, report.getVolunteerHours());
+        assertEquals("One volunteer should be needed", 1, report.getMinimumVolunteers());
+        assertTrue("The items should still be feasible", report.isFeasible());
+    }
+
+    /**
+     * Tests that excess spread over a wider window raises the volunteer bound without forcing a particular hour.
+     */
+    @Test
+    public void testAnalyze_VolunteerNeededSomewhere() {
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            items.add(new Item(i, 3, 5, 2, 40));
+        }
+
+        FeasibilityReport report = analyze(items, new CapacityTimeline(24));
+
+        assertEquals("One volunteer should be needed", 1, report.getMinimumVolunteers());
+        assertEquals("Neither hour is certain to need it", 0, report.getVolunteerHours().length);
+    }
+
+    /**
+     * Tests that an item longer than an hour with a volunteer is reported as infeasible.
+     */
+    @Test
+    public void testAnalyze_InfeasibleItem() {
+        Item tooLong = new Item(1, 3, 5, 3, 130);
+
+        FeasibilityReport report = analyze(Collections.singletonList(tooLong), new CapacityTimeline(24));
+
+        assertFalse("The report should not be feasible", report.isFeasible());
+        assertEquals("The long item should be infeasible", Collections.singletonList(tooLong), report.getInfeasibleItems());
+    }
+
+    /**
+     * Tests that a window needing more time than a volunteer can add is reported as overloaded.
+     */
+    @Test
+    public void testAnalyze_OverloadedWindow() {
+        List<Item> items = Arrays.asList(new Item(1, 3, 5, 1, 50), new Item(2, 3, 5, 1, 50), new Item(3, 3, 5, 1, 50));
+
+        FeasibilityReport report = analyze(items, new CapacityTimeline(24));
+
+        assertFalse("The report should not be feasible", report.isFeasible());
+        assertEquals("One window should be overloaded", 1, report.getOverloadedWindows());
+        assertTrue("Each item fits on its own", report.getInfeasibleItems().isEmpty());
+    }
+
+    /**
+     * Tests that food prep is counted once per species in a window, and not at all when already prepared.
+     */
+    @Test
+    public void testAnalyze_SharedPrep() {
+        List<Item> items = Arrays.asList(new Item(1, TaskRegistry.FEEDING_TASK, 0, 1, 20),
+                new Item(2, TaskRegistry.FEEDING_TASK, 0, 1, 20));
+        int[] groups = {0, 0};
+        int[] minutes = {10, 10};
+        FeasibilityAnalyzer analyzer = new FeasibilityAnalyzer();
+
+        assertTrue("Two feedings and one prep fit in an hour",
+                analyzer.analyze(items, groups, minutes, new CapacityTimeline(24)).isClean());
+
+        CapacityTimeline timeline = new CapacityTimeline(24);
+        timeline.reserve(0, 15);
+        assertEquals("Prep pushes the hour over its free time", 1,
+                analyzer.analyze(items, groups, minutes, timeline).getVolunteerHours().length);
+        timeline.markPrepared(0, 0);
+        assertTrue("With the food already prepared the feedings fit",
+                analyzer.analyze(items, groups, minutes, timeline).isClean());
+    }
+
+    /**
+     * Tests the analysis against an optimal placement over random items: an infeasible report must match items the
+     * search leaves unplaced, and the search must use at least the volunteers the analysis requires, including
+     * every hour it reports.
+     */
+    @Test
+    public void testAnalyze_AgreesWithOptimalPlacement() {
+        Random random = new Random(7);
+        for (int round = 0; round < 200; round++) {
+            List<Item> items = new ArrayList<>();
+            int count = 2 + random.nextInt(5);
+            for (int i = 0; i < count; i++) {
+                items.add(new Item(i, 3, random.nextInt(6), 1 + random.nextInt(3), 10 + random.nextInt(60)));
+            }
+            CapacityTimeline timeline = new CapacityTimeline(24);
+            FeasibilityReport report = analyze(items, timeline);
+            int[] groups = new int[count];
+            Arrays.fill(groups, -1);
+            PlacementResult result = new BranchAndBoundPlacer(1000).place(items, groups, new int[count], timeline);
+            if (!result.isOptimal()) {
+                continue;
+            }
+            if (!report.isFeasible()) {
+                assertTrue("An infeasible report means some item cannot be placed", result.getUnplacedCount() > 0);
+                continue;
+            }
+            if (result.getUnplacedCount() > 0) {
+                continue;
+            }
+            assertTrue("The search cannot beat the volunteer lower bound",
+                    result.getVolunteerCount() >= report.getMinimumVolunteers());
+            for (int hour : report.getVolunteerHours()) {
+                boolean covered = false;
+                for (int i = 0; i < count; i++) {
+                    covered |= result.needsVolunteer(i) && result.getHour(i) == hour;
+                }
+                assertTrue("Hour " + hour + " should have a volunteer in every placement", covered);
+            }
+        }
+    }
+
+    // Helper method to analyze items without food prep.
+    private FeasibilityReport analyze(List<Item> items, CapacityTimeline timeline) {
+        int[] groups = new int[items.size()];
+        Arrays.fill(groups, -1);
+        return new FeasibilityAnalyzer().analyze(items, groups, new int[items.size()], timeline);
+    }
+}
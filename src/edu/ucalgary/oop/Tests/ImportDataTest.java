@@ -1,7 +1,21 @@
 package edu.ucalgary.oop.Tests;
 
+import edu.ucalgary.oop.Schedule.ConnectionPool;
 import edu.ucalgary.oop.Schedule.ImportData;
+import edu.ucalgary.oop.Schedule.Item;
+import edu.ucalgary.oop.Schedule.ShelterData;
+import edu.ucalgary.oop.Schedule.SnapshotCache;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.sql.Connection;
+import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.*;
 import org.junit.Test;
 import static org.junit.Assert.*;
 
@@ -91,6 +105,173 @@ public class ImportDataTest {
         }
     }
 
+    /**
+     * Test importing treatments joined with their tasks as ready-to-place items.
+     * 
+     * Note: This test assumes every treatment in the test database refers to an existing task and animal.
+     */
+    @Test
+    public void testImportTreatmentItems() {
+        try {
+            ImportData importData = new ImportData();
+            importData.establishDBConnection(username, password);
+            ArrayList<Item> items = importData.importTreatmentItems();
+            assertEquals("There should be one item per treatment",
+                importData.importTreatmentsTable().size(), items.size());
+            for (Item item : items) {
+                assertTrue("Each item should carry its task's duration", item.getDuration() > 0);
+            }
+        } catch (SQLException e) {
+            fail("Importing treatment items should not throw SQLException");
+        }
+    }
+
+    /**
+     * Test importing every table at once under a shared snapshot.
+     * 
+     * Note: This test assumes the tables are properly populated in the test database.
+     */
+    @Test
+    public void testImportShelterData() {
+        try {
+            ImportData importData = new ImportData();
+            importData.establishDBConnection(username, password);
+            ShelterData data = importData.importShelterData();
+            assertEquals("The snapshot import should read the same animals",
+                importData.importAnimalsTable().size(), data.getAnimals().size());
+            assertEquals("The snapshot import should read the same treatments",
+                importData.importTreatmentItems().size(), data.getTreatmentItems().size());
+            assertNotNull("A staff roster should always be imported", data.getStaffRoster());
+        } catch (SQLException e) {
+            fail("Importing the shelter's data should not throw SQLException");
+        }
+    }
+
+    /**
+     * Test that two imports sharing a pool of the default size both finish, taking turns instead of waiting on
+     * each other's connections until the borrow timeout.
+     * 
+     * Note: This test assumes the tables are properly populated in the test database.
+     */
+    @Test
+    public void testImportShelterData_SharedPool() throws Exception {
+        ConnectionPool pool = new ConnectionPool(ImportData.DEFAULT_URL, username, password);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<ShelterData> first = executor.submit(() -> new ImportData(pool).importShelterData());
+            Future<ShelterData> second = executor.submit(() -> new ImportData(pool).importShelterData());
+            assertEquals("Both imports should read the same treatments",
+                first.get(10, TimeUnit.SECONDS).getTreatmentItems().size(),
+                second.get(10, TimeUnit.SECONDS).getTreatmentItems().size());
+            assertTrue("No more connections than the pool allows should be open",
+                pool.getOpenCount() <= ConnectionPool.DEFAULT_MAX_SIZE);
+        } finally {
+            executor.shutdown();
+            pool.close();
+        }
+    }
+
+    /**
+     * Test that a pool of a single connection reads every table in one transaction.
+     * 
+     * Note: This test assumes the tables are properly populated in the test database.
+     */
+    @Test
+    public void testImportShelterData_SingleConnection() throws SQLException {
+        ConnectionPool pool = new ConnectionPool(
+            () -> DriverManager.getConnection(ImportData.DEFAULT_URL, username, password), 1, 60000, 1000);
+        try {
+            ImportData importData = new ImportData(pool);
+            ShelterData data = importData.importShelterData();
+            assertEquals("The import should read every treatment",
+                importData.importTreatmentItems().size(), data.getTreatmentItems().size());
+            assertNotNull("A staff roster should always be imported", data.getStaffRoster());
+        } finally {
+            pool.close();
+        }
+    }
+
+    /**
+     * Test that renaming an animal in place changes the fingerprint, so a snapshot of the old name is not used.
+     * 
+     * Note: This test assumes the 'animals' table contains an animal with ID 1 in the test database; its nickname
+     * is restored afterwards.
+     */
+    @Test
+    public void testImportFingerprint_Rename() throws SQLException {
+        ImportData importData = new ImportData();
+        importData.establishDBConnection(username, password);
+        long[] before = importData.importFingerprint();
+        try (Connection connection = DriverManager.getConnection(ImportData.DEFAULT_URL, username, password);
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("UPDATE animals SET AnimalNickname = AnimalNickname || '!' WHERE AnimalID = 1");
+            try {
+                assertFalse("A renamed animal should change the fingerprint",
+                    Arrays.equals(before, importData.importFingerprint()));
+            } finally {
+                statement.executeUpdate("UPDATE animals SET AnimalNickname = left(AnimalNickname, -1) "
+                    + "WHERE AnimalID = 1");
+                importData.closeConnection();
+            }
+        }
+    }
+
+    /**
+     * Test that an unchanged database is loaded from the snapshot file written by the previous import.
+     * 
+     * Note: This test assumes the tables are properly populated in the test database.
+     */
+    @Test
+    public void testImportShelterData_Snapshot() throws IOException {
+        Path file = Files.createTempFile("shelter", ".snapshot");
+        Files.delete(file);
+        try {
+            ImportData importData = new ImportData();
+            importData.establishDBConnection(username, password);
+            SnapshotCache cache = new SnapshotCache(file);
+            ShelterData imported = importData.importShelterData(cache);
+            assertNotNull("The import should write a snapshot",
+                cache.read(importData.importFingerprint()));
+            ShelterData cached = importData.importShelterData(cache);
+            assertEquals("The snapshot should hold the same treatments",
+                imported.getTreatmentItems().size(), cached.getTreatmentItems().size());
+        } catch (SQLException e) {
+            fail("Importing the shelter's data should not throw SQLException");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Test streaming treatments a few rows at a time through a cursor.
+     * 
+     * Note: This test assumes the 'treatments' table is properly populated in the test database.
+     */
+    @Test
+    public void testStreamTreatmentsTable() {
+        try {
+            ImportData importData = new ImportData();
+            importData.establishDBConnection(username, password);
+            importData.setFetchSize(2);
+            ArrayList<Integer> treatmentIDs = new ArrayList<>();
+            int rows = importData.streamTreatmentsTable(treatment -> treatmentIDs.add(treatment.getTreatmentID()));
+            assertEquals("Every streamed row should reach the consumer", rows, treatmentIDs.size());
+            assertEquals("Streaming should read the same treatments as importing",
+                importData.importTreatmentsTable().size(), rows);
+        } catch (SQLException e) {
+            fail("Streaming treatments should not throw SQLException");
+        }
+    }
+
+    /**
+     * Test setting a fetch size of zero.
+     * Expects an IllegalArgumentException to ensure proper validation.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetFetchSize_Zero() {
+        new ImportData().setFetchSize(0);
+    }
+
     /**
      * Test updating the start hour of a treatment.
      * 
@@ -107,4 +288,23 @@ public class ImportDataTest {
             fail("Updating treatment start hour should not throw SQLException");
         }
     }
+
+    /**
+     * Test updating the start hours of several treatments in one batch.
+     * 
+     * Note: This test assumes the 'treatments' table contains treatments with IDs 1 and 2 in the test database.
+     */
+    @Test
+    public void testUpdateTreatmentStartHours() {
+        try {
+            ImportData importData = new ImportData();
+            importData.establishDBConnection(username, password);
+            HashMap<Integer, Integer> startHours = new HashMap<>();
+            startHours.put(1, 10);
+            startHours.put(2, 11);
+            importData.updateTreatmentStartHours(startHours);
+        } catch (SQLException e) {
+            fail("Updating treatment start hours should not throw SQLException");
+        }
+    }
 }
@@ -0,0 +1,107 @@
+package edu.ucalgary.oop.Tests;
+
+import edu.ucalgary.oop.Medical.Tasks;
+import edu.ucalgary.oop.Schedule.*;
+import java.util.*;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the InMemoryShelterDataSource class in the Schedule package.
+ * This test suite verifies that each load hands out an independent copy of the tables, that rescheduled
+ * treatments are seen by later loads, and that a Schedule can be built and rescheduled from memory alone.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class InMemoryShelterDataSourceTest {
+
+    // Helper method to build a small shelter with two treatments.
+    private ShelterData createShelterData() {
+        return ShelterFixture.createDefault().staff(8, 2).build();
+    }
+
+    /**
+     * Tests that changing loaded tables does not change what the next load returns.
+     */
+    @Test
+    public void testLoad_ReturnsIndependentCopies() {
+        InMemoryShelterDataSource source = new InMemoryShelterDataSource(createShelterData());
+
+        ShelterData first = source.load();
+        first.getTasks().put(-1, new Tasks(-1, "Porcupine Cage Cleaning", 10, 24));
+        first.getTreatmentItems().get(0).setStartHour(20);
+        first.getAnimals().get(1).setKitStatus();
+        ShelterData second = source.load();
+
+        assertEquals("Added tasks should not be kept", 2, second.getTasks().size());
+        assertEquals("Changed items should not be kept", 8, second.getTreatmentItems().get(0).getStartHour());
+        assertFalse("Changed animals should not be kept", second.getAnimals().get(1).getKitStatus());
+        assertEquals("The staffing should be loaded", 2, second.getStaffRoster().getStaff(8));
+    }
+
+    /**
+     * Tests that updated start hours are seen by later loads and unknown treatments are ignored.
+     */
+    @Test
+    public void testUpdateTreatmentStartHours() {
+        InMemoryShelterDataSource source = new InMemoryShelterDataSource(createShelterData());
+        Map<Integer, Integer> startHours = new HashMap<>();
+        startHours.put(11, 3);
+        startHours.put(99, 4);
+
+        source.updateTreatmentStartHours(startHours);
+
+        ShelterData data = source.load();
+        assertEquals("The moved treatment should have its new start hour", 3,
+                data.getTreatmentItems().get(1).getStartHour());
+        assertEquals("Other treatments should be unchanged", 8, data.getTreatmentItems().get(0).getStartHour());
+    }
+
+    /**
+     * Tests that a batch with an invalid start hour changes nothing.
+     */
+    @Test
+    public void testUpdateTreatmentStartHours_InvalidHour() {
+        InMemoryShelterDataSource source = new InMemoryShelterDataSource(createShelterData());
+        Map<Integer, Integer> startHours = new LinkedHashMap<>();
+        startHours.put(10, 5);
+        startHours.put(11, 24);
+
+        try {
+            source.updateTreatmentStartHours(startHours);
+            fail("An invalid start hour should be rejected");
+        } catch (IllegalArgumentException e) {
+            assertEquals("No change should be made", 8, source.load().getTreatmentItems().get(0).getStartHour());
+        }
+    }
+
+    /**
+     * Tests that a Schedule built from memory writes a moved treatment back to the source when it is closed.
+     */
+    @Test
+    public void testSchedule_WritesBackToSource() {
+        InMemoryShelterDataSource source = new InMemoryShelterDataSource(createShelterData());
+        Schedule schedule = new Schedule(source);
+
+        assertEquals("The staffing should come from the source", 2, schedule.getStaffRoster().getStaff(8));
+        assertTrue("The move should be queued", schedule.updateTreatmentStartHour(10, 6));
+        schedule.close();
+
+        assertEquals("The move should be written to the source", 6,
+                source.load().getTreatmentItems().get(0).getStartHour());
+    }
+
+    /**
+     * Tests the constructor with null data.
+     * Expects an IllegalArgumentException to ensure proper validation.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructor_NullData() {
+        new InMemoryShelterDataSource(null);
+    }
+}
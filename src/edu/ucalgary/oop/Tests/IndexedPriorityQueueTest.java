@@ -0,0 +1,79 @@
+package edu.ucalgary.oop.Tests;
+
+import edu.ucalgary.oop.Schedule.IndexedPriorityQueue;
+import java.util.NoSuchElementException;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the IndexedPriorityQueue class in the Schedule package.
+ * This test suite verifies that indices come out in key order with ties broken by index,
+ * that changing a key re-ranks an index in either direction, and that invalid use is rejected.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class IndexedPriorityQueueTest {
+
+    /**
+     * Tests that indices are polled in ascending key order, with equal keys polled by the lower index.
+     */
+    @Test
+    public void testPoll_KeyOrderWithIndexTieBreak() {
+        IndexedPriorityQueue queue = new IndexedPriorityQueue(4);
+        queue.insert(0, 5);
+        queue.insert(1, 2);
+        queue.insert(2, 5);
+        queue.insert(3, 1);
+
+        assertEquals("Index 3 has the lowest key", 3, queue.poll());
+        assertEquals("Index 1 has the next lowest key", 1, queue.poll());
+        assertEquals("Index 0 wins the tie with index 2", 0, queue.poll());
+        assertEquals("Index 2 should come last", 2, queue.poll());
+        assertTrue("The queue should be empty", queue.isEmpty());
+    }
+
+    /**
+     * Tests that changing a key moves an index both up and down the queue.
+     */
+    @Test
+    public void testChangeKey() {
+        IndexedPriorityQueue queue = new IndexedPriorityQueue(3);
+        queue.insert(0, 10);
+        queue.insert(1, 20);
+        queue.insert(2, 30);
+
+        queue.changeKey(2, 0);
+        queue.changeKey(0, 40);
+
+        assertEquals("Index 2 should move to the front", 2, queue.poll());
+        assertEquals("Index 1 should be next", 1, queue.poll());
+        assertFalse("Index 1 should no longer be in the queue", queue.contains(1));
+        assertTrue("Index 0 should still be in the queue", queue.contains(0));
+        assertEquals("One index should remain", 1, queue.size());
+    }
+
+    /**
+     * Tests inserting an index that is already in the queue.
+     * Expects an IllegalArgumentException to ensure proper validation.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInsert_Duplicate() {
+        IndexedPriorityQueue queue = new IndexedPriorityQueue(2);
+        queue.insert(0, 1);
+        queue.insert(0, 2);
+    }
+
+    /**
+     * Tests polling an empty queue.
+     * Expects a NoSuchElementException.
+     */
+    @Test(expected = NoSuchElementException.class)
+    public void testPoll_Empty() {
+        new IndexedPriorityQueue(2).poll();
+    }
+}
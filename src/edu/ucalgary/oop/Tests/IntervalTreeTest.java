@@ -0,0 +1,106 @@
+package edu.ucalgary.oop.Tests;
+
+import edu.ucalgary.oop.Schedule.IntervalTree;
+import java.util.*;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the IntervalTree class in the Schedule package.
+ * This test suite verifies point and range overlap queries, replacing and removing intervals, and checks the
+ * tree against a straightforward scan over random intervals.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class IntervalTreeTest {
+
+    /**
+     * Tests that a point query returns every interval containing the minute, treating ends as exclusive.
+     */
+    @Test
+    public void testValuesAt() {
+        IntervalTree<String> tree = new IntervalTree<>();
+        tree.insert("feeding", 780, 795);
+        tree.insert("cleaning", 790, 800);
+        tree.insert("medication", 800, 820);
+
+        assertEquals("Both overlapping tasks run at 13:10", Arrays.asList("feeding", "cleaning"), tree.valuesAt(790));
+        assertEquals("The cleaning has ended at 13:20", Collections.singletonList("medication"), tree.valuesAt(800));
+        assertTrue("Nothing runs at 12:59", tree.valuesAt(779).isEmpty());
+    }
+
+    /**
+     * Tests that inserting a stored value again moves its interval, and that removed values are no longer found.
+     */
+    @Test
+    public void testInsertAndRemove() {
+        IntervalTree<String> tree = new IntervalTree<>();
+        tree.insert("feeding", 0, 10);
+        tree.insert("feeding", 30, 40);
+
+        assertEquals("Re-inserting should not add a second copy", 1, tree.size());
+        assertTrue("The old interval should be gone", tree.valuesAt(5).isEmpty());
+        assertTrue("The value should be found at its new interval", tree.valuesAt(35).contains("feeding"));
+        assertTrue("Removing a stored value should succeed", tree.remove("feeding"));
+        assertFalse("The value should no longer be stored", tree.contains("feeding"));
+        assertFalse("Removing it again should fail", tree.remove("feeding"));
+    }
+
+    /**
+     * Tests inserting an interval that ends before it starts.
+     * Expects an IllegalArgumentException to ensure proper validation.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInsert_Backwards() {
+        new IntervalTree<String>().insert("feeding", 10, 5);
+    }
+
+    /**
+     * Tests range queries against a linear scan over random inserts and removals.
+     */
+    @Test
+    public void testValuesBetween_MatchLinearScan() {
+        Random random = new Random(11);
+        IntervalTree<Integer> tree = new IntervalTree<>();
+        HashMap<Integer, int[]> intervals = new HashMap<>();
+        Integer[] pool = new Integer[200]; // The tree tells values apart by identity, so reuse the same boxes.
+        for (int i = 0; i < pool.length; i++) {
+            pool[i] = i;
+        }
+
+        for (int step = 0; step < 3000; step++) {
+            Integer value = pool[random.nextInt(pool.length)];
+            if (random.nextInt(3) == 0) {
+                assertEquals("Remove should report whether the value was stored",
+                        intervals.remove(value) != null, tree.remove(value));
+            } else {
+                int start = random.nextInt(1440);
+                int end = start + random.nextInt(90);
+                tree.insert(value, start, end);
+                intervals.put(value, new int[]{start, end});
+            }
+
+            int from = random.nextInt(1500) - 30;
+            int to = from + 1 + random.nextInt(60);
+            HashSet<Integer> expected = new HashSet<>();
+            for (Map.Entry<Integer, int[]> entry : intervals.entrySet()) {
+                if (entry.getValue()[0] < to && entry.getValue()[1] > from) {
+                    expected.add(entry.getKey());
+                }
+            }
+            ArrayList<Integer> found = tree.valuesBetween(from, to);
+            assertEquals("No value should be returned twice", found.size(), new HashSet<>(found).size());
+            assertEquals("The overlapping values should match a linear scan", expected, new HashSet<>(found));
+            for (int i = 1; i < found.size(); i++) {
+                assertTrue("Values should be ordered by start minute",
+                        intervals.get(found.get(i - 1))[0] <= intervals.get(found.get(i))[0]);
+            }
+        }
+        assertEquals("The size should match the stored intervals", intervals.size(), tree.size());
+    }
+}
@@ -0,0 +1,130 @@
+package edu.ucalgary.oop.Tests;
+
+import edu.ucalgary.oop.Schedule.*;
+import java.util.*;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the ItemStore class in the Schedule package.
+ * This test suite verifies adding and reading items by index, growing past the initial capacity, copying, turning
+ * stored items back into Items, and the validation of values and indices.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class ItemStoreTest {
+
+    /**
+     * Tests that added items are read back by the index add returns.
+     */
+    @Test
+    public void testAdd_ReadsBackByIndex() {
+        ItemStore store = new ItemStore();
+        store.add(1, 2, 3, 4, 5, 6);
+        int index = store.add(7, 8, 9, 10, 11, 12);
+
+        assertEquals("The second item should have index 1", 1, index);
+        assertEquals("The animal ID should be stored", 7, store.getAnimalID(index));
+        assertEquals("The task ID should be stored", 8, store.getTaskID(index));
+        assertEquals("The start hour should be stored", 9, store.getStartHour(index));
+        assertEquals("The window should be stored", 10, store.getMaxWindow(index));
+        assertEquals("The duration should be stored", 11, store.getDuration(index));
+        assertEquals("The treatment ID should be stored", 12, store.getTreatmentID(index));
+        assertFalse("A new item should not need a volunteer", store.getNeedsVolunteer(index));
+        assertEquals("Two items should be stored", 2, store.size());
+    }
+
+    /**
+     * Tests that a store keeps every item when it grows past its initial capacity.
+     */
+    @Test
+    public void testAdd_GrowsPastCapacity() {
+        ItemStore store = new ItemStore(0);
+        for (int i = 0; i < 100; i++) {
+            store.add(i, 1, i % 24, 2, i, 0);
+        }
+
+        assertEquals("Every item should be stored", 100, store.size());
+        assertEquals("The first item should be kept", 0, store.getAnimalID(0));
+        assertEquals("The last item should be kept", 99, store.getDuration(99));
+    }
+
+    /**
+     * Tests that an item turned into a store and back keeps its fields, day and volunteer.
+     */
+    @Test
+    public void testToItem_RoundTrip() {
+        Item item = new Item(4, 5, 22, 1, 20, 3);
+        item.setDay(2);
+        item.setNeedsVolunteer(true);
+
+        Item copy = ItemStore.from(Collections.singletonList(item)).toItem(0);
+
+        assertEquals("The animal ID should be kept", 4, copy.getAnimalID());
+        assertEquals("The treatment ID should be kept", 3, copy.getTreatmentID());
+        assertEquals("The day should be kept", 2, copy.getDay());
+        assertTrue("The volunteer should be kept", copy.getNeedsVolunteer());
+        assertEquals("The absolute start hour should match the item's", item.getAbsoluteStartHour(),
+                ItemStore.from(Collections.singletonList(item)).getAbsoluteStartHour(0));
+    }
+
+    /**
+     * Tests that changing a copy of a store leaves the original unchanged.
+     */
+    @Test
+    public void testCopy_Independent() {
+        ItemStore store = new ItemStore();
+        store.add(1, 1, 0, 24, 5, 0);
+        ItemStore copy = store.copy();
+
+        copy.setDuration(0, 30);
+        copy.setNeedsVolunteer(0, true);
+        copy.add(2, 1, 0, 24, 5, 0);
+
+        assertEquals("The original's duration should be unchanged", 5, store.getDuration(0));
+        assertFalse("The original's volunteer should be unchanged", store.getNeedsVolunteer(0));
+        assertEquals("The original's size should be unchanged", 1, store.size());
+        assertEquals("The copy should be changed", 30, copy.getDuration(0));
+    }
+
+    /**
+     * Tests that setting the day moves every stored item to that day.
+     */
+    @Test
+    public void testSetDay() {
+        ItemStore store = new ItemStore();
+        store.add(1, 1, 5, 24, 5, 0);
+        store.add(2, 1, 7, 24, 5, 0);
+
+        store.setDay(3);
+
+        assertEquals("The first item should be on day 3", 3, store.getDay(0));
+        assertEquals("The second item should start at hour 79", 79, store.getAbsoluteStartHour(1));
+    }
+
+    /**
+     * Tests adding an item with a start hour outside the day.
+     * Expects an IllegalArgumentException to ensure proper validation.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testAdd_InvalidStartHour() {
+        new ItemStore().add(1, 1, 24, 1, 5, 0);
+    }
+
+    /**
+     * Tests reading an index within the arrays' spare capacity but past the stored items.
+     * Expects an IndexOutOfBoundsException so spare capacity is never read as an item.
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGet_IndexPastSize() {
+        ItemStore store = new ItemStore(16);
+        store.add(1, 1, 0, 24, 5, 0);
+
+        store.getDuration(1);
+    }
+}
@@ -114,4 +114,40 @@ public class ItemTest {
         Item item = new Item(1, 2, 10, 3, 1);
         item.setStartHour(24); // Invalid start hour above range
     }
+
+    /**
+     * Tests that setting the day offsets the absolute start hour by 24 hours per day.
+     */
+    @Test
+    public void testSetDay_AbsoluteStartHour() {
+        Item item = new Item(1, 2, 22, 5, 1);
+        assertEquals("Absolute start hour should default to the start hour", 22, item.getAbsoluteStartHour());
+
+        item.setDay(2);
+        assertEquals("Day should be updated to 2", 2, item.getDay());
+        assertEquals("Absolute start hour should be 70", 70, item.getAbsoluteStartHour());
+    }
+
+    /**
+     * Tests setting a negative day.
+     * Expects an IllegalArgumentException to ensure proper validation.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetDay_Negative() {
+        Item item = new Item(1, 2, 10, 3, 1);
+        item.setDay(-1);
+    }
+
+    /**
+     * Tests that a new item is not placed and has no minutes reserved.
+     */
+    @Test
+    public void testNewItem_NotPlaced() {
+        Item item = new Item(1, 2, 10, 3, 1);
+        assertEquals("Scheduled hour should default to -1", -1, item.getScheduledHour());
+        assertEquals("Reserved minutes should default to 0", 0, item.getReservedMinutes());
+        assertEquals("Start minute should default to -1", -1, item.getStartMinute());
+        assertEquals("End minute should be -1 while not placed", -1, item.getEndMinute());
+        assertEquals("Carry minutes should default to 0", 0, item.getCarryMinutes());
+    }
 }
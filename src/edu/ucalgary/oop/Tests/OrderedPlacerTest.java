@@ -0,0 +1,110 @@
+package edu.ucalgary.oop.Tests;
+
+import edu.ucalgary.oop.Schedule.*;
+import java.util.*;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the OrderedPlacer class and the built-in ordering strategies in the Schedule package.
+ * This test suite verifies that each strategy ranks items as described, that the placer places items in
+ * rank order, and that the result reports the placement rate and volunteer count of the strategy.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class OrderedPlacerTest {
+
+    /**
+     * Tests that earliest deadline first ranks items by the hour their window closes.
+     */
+    @Test
+    public void testEarliestDeadlineFirst_Rank() {
+        OrderingStrategy strategy = new EarliestDeadlineFirst();
+        CapacityTimeline timeline = new CapacityTimeline(24);
+
+        assertTrue("A window closing at 3 should rank before one closing at 5",
+                strategy.rank(new Item(1, 2, 0, 3, 10), timeline) < strategy.rank(new Item(1, 2, 4, 1, 10), timeline));
+        assertFalse("Earliest deadline first should not be dynamic", strategy.isDynamic());
+    }
+
+    /**
+     * Tests that most constrained first ranks items by the hours that still fit them, and updates as capacity is used.
+     */
+    @Test
+    public void testMostConstrainedFirst_RankChangesWithCapacity() {
+        OrderingStrategy strategy = new MostConstrainedFirst();
+        CapacityTimeline timeline = new CapacityTimeline(24);
+        Item wide = new Item(1, 2, 0, 3, 30);
+        Item narrow = new Item(2, 2, 5, 2, 30);
+
+        assertTrue("Two fitting hours should rank before three", strategy.rank(narrow, timeline) < strategy.rank(wide, timeline));
+        timeline.reserve(0, 40);
+        timeline.reserve(1, 40);
+        assertTrue("One fitting hour should now rank first", strategy.rank(wide, timeline) < strategy.rank(narrow, timeline));
+        assertTrue("Most constrained first should be dynamic", strategy.isDynamic());
+    }
+
+    /**
+     * Tests that longest processing time ranks longer items first.
+     */
+    @Test
+    public void testLongestProcessingTime_Rank() {
+        OrderingStrategy strategy = new LongestProcessingTime();
+        CapacityTimeline timeline = new CapacityTimeline(24);
+
+        assertTrue("A 40 minute item should rank before a 10 minute one",
+                strategy.rank(new Item(1, 2, 0, 3, 40), timeline) < strategy.rank(new Item(1, 2, 0, 3, 10), timeline));
+    }
+
+    /**
+     * Tests that placing a constrained item first avoids a volunteer that list order would need.
+     */
+    @Test
+    public void testPlace_MostConstrainedAvoidsVolunteer() {
+        List<Item> items = Arrays.asList(new Item(1, 3, 0, 2, 40), new Item(2, 4, 0, 1, 40));
+
+        PlacementResult result = new OrderedPlacer(new MostConstrainedFirst())
+                .place(items, new int[]{-1, -1}, new int[2], new CapacityTimeline(24));
+
+        assertEquals("No volunteer should be needed", 0, result.getVolunteerCount());
+        assertEquals("Every item should be placed", 1.0, result.getPlacementRate(), 0.0);
+        assertEquals("The flexible item should move to hour 1", 1, result.getHour(0));
+    }
+
+    /**
+     * Tests that the placer adds a volunteer when an item does not fit otherwise, and reports unplaced items.
+     */
+    @Test
+    public void testPlace_VolunteerAndUnplaced() {
+        List<Item> items = Arrays.asList(new Item(1, 3, 5, 1, 50), new Item(2, 4, 5, 1, 50), new Item(3, 5, 5, 1, 50));
+        CapacityTimeline timeline = new CapacityTimeline(24);
+
+        PlacementResult result = new OrderedPlacer(new EarliestDeadlineFirst())
+                .place(items, new int[]{-1, -1, -1}, new int[3], timeline);
+
+        assertEquals("One volunteer should be added", 1, result.getVolunteerCount());
+        assertEquals("The third item should not fit", 1, result.getUnplacedCount());
+        assertEquals("The timeline passed in should not change", 60, timeline.getRemaining(5));
+    }
+
+    /**
+     * Tests that a feeding joins a later hour where its species' food is already prepared rather than paying
+     * the prep again in an earlier hour.
+     */
+    @Test
+    public void testPlace_CoLocatesPreparedSpecies() {
+        CapacityTimeline timeline = new CapacityTimeline(24);
+        timeline.markPrepared(1, 0);
+        List<Item> items = Collections.singletonList(new Item(1, TaskRegistry.FEEDING_TASK, 0, 3, 5));
+
+        PlacementResult result = new OrderedPlacer(new EarliestDeadlineFirst())
+                .place(items, new int[]{0}, new int[]{10}, timeline);
+
+        assertEquals("The feeding should share the prep already done in hour 1", 1, result.getHour(0));
+    }
+}
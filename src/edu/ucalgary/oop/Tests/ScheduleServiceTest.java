@@ -0,0 +1,62 @@
+package edu.ucalgary.oop.Tests;
+
+import edu.ucalgary.oop.Schedule.*;
+import java.util.*;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the ScheduleService and ShelterConfig classes in the Schedule package.
+ * This test suite verifies the validation of shelter configurations and that a shelter whose database
+ * cannot be reached is reported as failed without stopping the other shelters from being planned.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class ScheduleServiceTest {
+
+    /**
+     * Tests ShelterConfig with an empty URL.
+     * Expects an IllegalArgumentException to ensure proper validation.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testShelterConfig_EmptyUrl() {
+        new ShelterConfig("North", " ", "user", "password");
+    }
+
+    /**
+     * Tests ScheduleService with no workers.
+     * Expects an IllegalArgumentException to ensure proper validation.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructor_NoWorkers() {
+        new ScheduleService(0, ReportingConflictPolicy::new);
+    }
+
+    /**
+     * Tests that unreachable shelters are each reported as failed, in order, with timings recorded.
+     * Note: This test assumes nothing is listening on port 1 of the local machine.
+     */
+    @Test
+    public void testPlanAll_UnreachableSheltersFail() {
+        List<ShelterConfig> shelters = Arrays.asList(
+                new ShelterConfig("North", "jdbc:postgresql://localhost:1/ewr", "user", "password"),
+                new ShelterConfig("South", "jdbc:postgresql://localhost:1/ewr", "user", "password"));
+        ScheduleService service = new ScheduleService(2, ReportingConflictPolicy::new);
+
+        ArrayList<ShelterResult> results = service.planAll(shelters);
+
+        assertEquals("There should be one result per shelter", 2, results.size());
+        assertEquals("Results should keep the order of the shelters", "South", results.get(1).getConfig().getName());
+        for (ShelterResult result : results) {
+            assertFalse("An unreachable shelter should fail", result.isSuccessful());
+            assertNull("A failed shelter should have no schedule", result.getSchedule());
+            assertNotNull("The failure should be recorded", result.getFailure());
+        }
+        assertTrue("The wall-clock time should be recorded", service.getLastWallNanos() > 0);
+    }
+}
@@ -0,0 +1,189 @@
+package edu.ucalgary.oop.Tests;
+
+import edu.ucalgary.oop.Schedule.*;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the ScheduleSnapshot class in the Schedule package.
+ * This test suite verifies that a schedule publishes a snapshot when planning and treatment moves finish, that
+ * published snapshots do not change afterwards, that their queries match the live schedule, and that a reader on
+ * another thread only ever sees complete plans.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class ScheduleSnapshotTest {
+
+    // Helper method to create a schedule of two animals with one treatment each, resolving conflicts unattended.
+    private Schedule createSchedule() {
+        return ShelterFixture.createDefault().createSchedule(new AutoVolunteerPolicy());
+    }
+
+    /**
+     * Tests that nothing is published before planning, and that planning publishes the whole day.
+     */
+    @Test
+    public void testPlanSchedule_PublishesSnapshot() {
+        Schedule schedule = createSchedule();
+        assertSame("Nothing should be published before planning", ScheduleSnapshot.EMPTY, schedule.getSnapshot());
+
+        schedule.planSchedule();
+        ScheduleSnapshot snapshot = schedule.getSnapshot();
+
+        assertEquals("The first snapshot should have version 1", 1, snapshot.getVersion());
+        assertEquals("The snapshot should hold the schedule string", schedule.getScheduleString(),
+                snapshot.getScheduleString());
+        // Two treatments, two cages and two feedings.
+        assertEquals("Every placed item should be in the snapshot", 6, snapshot.getPlacements().size());
+        assertEquals("The snapshot should be for day 0", 0, snapshot.getDay());
+        schedule.close();
+    }
+
+    /**
+     * Tests that a treatment move publishes a new snapshot and leaves the earlier one unchanged.
+     */
+    @Test
+    public void testUpdateTreatmentStartHour_KeepsOldSnapshot() {
+        Schedule schedule = createSchedule();
+        schedule.planSchedule();
+        ScheduleSnapshot before = schedule.getSnapshot();
+        String beforeString = before.getScheduleString();
+
+        schedule.updateTreatmentStartHour(10, 20);
+        ScheduleSnapshot after = schedule.getSnapshot();
+
+        assertTrue("The new snapshot should have a higher version", after.getVersion() > before.getVersion());
+        assertEquals("The old snapshot's string should be unchanged", beforeString, before.getScheduleString());
+        assertEquals("The old snapshot should keep the treatment at 8", 8, findTreatment(before, 10).getScheduledHour());
+        assertEquals("The new snapshot should have the treatment at 20", 20,
+                findTreatment(after, 10).getScheduledHour());
+        schedule.close();
+    }
+
+    /**
+     * Tests that a treatment move publishes new placements only for the hours it changed, sharing the rest with
+     * the earlier snapshot, and keeps the placements in order of start minute.
+     */
+    @Test
+    public void testUpdateTreatmentStartHour_SharesUnchangedHours() {
+        Schedule schedule = createSchedule();
+        schedule.planSchedule();
+        ScheduleSnapshot before = schedule.getSnapshot();
+
+        schedule.updateTreatmentStartHour(10, 20);
+        ScheduleSnapshot after = schedule.getSnapshot();
+
+        assertSame("The untouched treatment should be shared", findTreatment(before, 11), findTreatment(after, 11));
+        assertNotSame("The moved treatment should be copied again", findTreatment(before, 10),
+                findTreatment(after, 10));
+        assertEquals("Every placed item should still be in the snapshot", 6, after.getPlacements().size());
+        int lastStart = Integer.MIN_VALUE;
+        for (ScheduleSnapshot.Placement placement : after.getPlacements()) {
+            assertTrue("Placements should be in order of start minute", placement.getStartMinute() >= lastStart);
+            lastStart = placement.getStartMinute();
+        }
+        schedule.close();
+    }
+
+    /**
+     * Tests that a snapshot writes the plan it was published with, even after a treatment has been moved, and that
+     * its schedule string is the same text.
+     */
+    @Test
+    public void testWriteDay_WritesPublishedPlan() throws IOException {
+        Schedule schedule = createSchedule();
+        schedule.planSchedule();
+        ScheduleSnapshot before = schedule.getSnapshot();
+
+        schedule.updateTreatmentStartHour(10, 20);
+        StringBuilder written = new StringBuilder();
+        before.writeDay(written);
+
+        String hourEight = written.substring(written.indexOf("Hour: 8\n"), written.indexOf("Hour: 9\n"));
+        assertTrue("The eyedrops should still be written at 8", hourEight.contains("Eyedrops"));
+        assertEquals("The schedule string should match the written day", written.toString(),
+                before.getScheduleString());
+        schedule.close();
+    }
+
+    /**
+     * Tests that the snapshot's range and hour queries match the live schedule.
+     */
+    @Test
+    public void testGetPlacementsBetween_MatchesSchedule() {
+        Schedule schedule = createSchedule();
+        schedule.planSchedule();
+        ScheduleSnapshot snapshot = schedule.getSnapshot();
+
+        for (int minute = 0; minute < 24 * 60; minute += 15) {
+            assertEquals("The snapshot should match the schedule at minute " + minute,
+                    schedule.getItemsBetween(minute, minute + 15).size(),
+                    snapshot.getPlacementsBetween(minute, minute + 15).size());
+        }
+        assertEquals("The treatment should be the only placement given to hour 8", 10,
+                snapshot.getPlacementsInHour(8).get(0).getTreatmentID());
+        schedule.close();
+    }
+
+    /**
+     * Tests changing a snapshot's placements.
+     * Expects an UnsupportedOperationException since snapshots cannot be changed.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void testGetPlacements_Unmodifiable() {
+        Schedule schedule = createSchedule();
+        schedule.planSchedule();
+
+        schedule.getSnapshot().getPlacements().clear();
+    }
+
+    /**
+     * Tests that a reader on another thread only sees complete plans while treatments are moved.
+     */
+    @Test
+    public void testGetSnapshot_ConcurrentReader() throws InterruptedException {
+        Schedule schedule = createSchedule();
+        schedule.planSchedule();
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            long lastVersion = 0;
+            while (!Thread.currentThread().isInterrupted()) {
+                ScheduleSnapshot snapshot = schedule.getSnapshot();
+                if (snapshot.getPlacements().size() + snapshot.getUnscheduled().size() != 6) {
+                    failure.set("A snapshot held " + snapshot.getPlacements().size() + " placements");
+                } else if (snapshot.getVersion() < lastVersion) {
+                    failure.set("The version went backwards");
+                }
+                lastVersion = snapshot.getVersion();
+            }
+        });
+        reader.start();
+
+        for (int i = 0; i < 200; i++) {
+            schedule.updateTreatmentStartHour(11, i % 2 == 0 ? 3 : 14);
+        }
+        reader.interrupt();
+        reader.join();
+
+        assertNull(failure.get(), failure.get());
+        schedule.close();
+    }
+
+    // Helper method to find the placement of a treatment in a snapshot.
+    private ScheduleSnapshot.Placement findTreatment(ScheduleSnapshot snapshot, int treatmentID) {
+        for (ScheduleSnapshot.Placement placement : snapshot.getPlacements()) {
+            if (placement.getTreatmentID() == treatmentID) {
+                return placement;
+            }
+        }
+        fail("Treatment " + treatmentID + " should be placed");
+        return null;
+    }
+}
@@ -0,0 +1,639 @@
+package edu.ucalgary.oop.Tests;
+
+import edu.ucalgary.oop.Animals.Animal;
+import edu.ucalgary.oop.Animals.Beaver;
+import edu.ucalgary.oop.Animals.Fox;
+import edu.ucalgary.oop.Schedule.*;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the Schedule class in the Schedule package.
+ * This test suite verifies how treatment moves re-place items, displacing more flexible ones and releasing the
+ * volunteers nothing needs any more, that volunteers chosen by a placement engine go through the conflict policy,
+ * that dry runs of a planned day do not count its own placements, and that the horizon is planned and moved on
+ * day by day, including windows that run past midnight. The animals are of species without a
+ * profile, so each day holds only the treatments under test.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class ScheduleTest {
+
+    // Approves or declines every volunteer and moves items that need rescheduling to a fixed hour, or leaves them
+    // out, counting the volunteers asked for.
+    private static class CountingPolicy implements ConflictPolicy {
+        private final boolean approve;
+        private final int startHour;
+        private int volunteersAsked = 0;
+
+        CountingPolicy(boolean approve) {
+            this(approve, -1);
+        }
+
+        CountingPolicy(boolean approve, int startHour) {
+            this.approve = approve;
+            this.startHour = startHour;
+        }
+
+        @Override
+        public boolean approveVolunteer(int volunteerHour, Item item) {
+            volunteersAsked++;
+            return approve;
+        }
+
+        @Override
+        public int chooseStartHour(Item item, int[] freeHours) {
+            return startHour;
+        }
+    }
+
+    // Plans from tables in memory and records every start hour saved back, in the order the saves are written.
+    private static class SavingSource implements ShelterDataSource {
+        private final InMemoryShelterDataSource source;
+        private final ArrayList<Integer> savedIDs = new ArrayList<>();
+        private final HashMap<Integer, Integer> savedHours = new HashMap<>();
+
+        SavingSource(ShelterFixture fixture) {
+            source = new InMemoryShelterDataSource(fixture.build());
+        }
+
+        @Override
+        public ShelterData load() {
+            return source.load();
+        }
+
+        @Override
+        public void updateTreatmentStartHours(Map<Integer, Integer> startHours) {
+            savedIDs.addAll(startHours.keySet());
+            savedHours.putAll(startHours);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    // Helper method to build a shelter of otters, which get no feeding or cage cleaning, with one staff member.
+    private ShelterFixture createOtters() {
+        return new ShelterFixture()
+                .animal(new Animal(1, "Slick", "otter"))
+                .animal(new Animal(2, "Pip", "otter"));
+    }
+
+    /**
+     * Tests that a treatment too long for an approved volunteer is left out rather than dropped, and that the
+     * volunteer it could not use is released, so a later conflict in the hour asks for one again.
+     */
+    @Test
+    public void testPlanSchedule_ReleasesVolunteerItCannotUse() {
+        CountingPolicy policy = new CountingPolicy(true);
+        Schedule schedule = createOtters().task(5, "Hold for surgery", 70, 1).task(6, "Flush wound", 40, 1)
+                .treatment(20, 1, 5, 8).treatment(21, 2, 6, 8).treatment(22, 2, 6, 8).createSchedule(policy);
+
+        schedule.planSchedule();
+
+        ArrayList<Item> unscheduled = schedule.getUnscheduledItems();
+        assertEquals("The long treatment should be left out", 1, unscheduled.size());
+        assertEquals("The long treatment should be left out", 20, unscheduled.get(0).getTreatmentID());
+        assertEquals("The volunteer should be asked for again", 2, policy.volunteersAsked);
+        assertTrue("The last treatment should need the volunteer", findTreatment(schedule, 22).getNeedsVolunteer());
+        schedule.close();
+    }
+
+    /**
+     * Tests that moving a treatment out of an hour releases the volunteer it needed, so that moving it back asks
+     * the conflict policy for a volunteer again.
+     */
+    @Test
+    public void testUpdateTreatmentStartHour_ReleasesVolunteer() {
+        CountingPolicy policy = new CountingPolicy(true);
+        Schedule schedule = createOtters().task(5, "Flush wound", 40, 1)
+                .treatment(20, 1, 5, 8).treatment(21, 2, 5, 8).createSchedule(policy);
+        schedule.planSchedule();
+        assertTrue("The second treatment should need a volunteer", findTreatment(schedule, 21).getNeedsVolunteer());
+
+        schedule.updateTreatmentStartHour(21, 12);
+        assertFalse("The moved treatment should not need a volunteer",
+                findTreatment(schedule, 21).getNeedsVolunteer());
+        schedule.updateTreatmentStartHour(21, 8);
+
+        assertEquals("The volunteer should have been asked for again", 2, policy.volunteersAsked);
+        assertTrue("The treatment should need a volunteer again", findTreatment(schedule, 21).getNeedsVolunteer());
+        assertEquals("The treatment should be back at 8", 8, findTreatment(schedule, 21).getScheduledHour());
+        schedule.close();
+    }
+
+    /**
+     * Tests that moving away the treatment a volunteer's item was waiting on hands that item to the staff member,
+     * so it no longer needs the volunteer.
+     */
+    @Test
+    public void testUpdateTreatmentStartHour_ReplacesVolunteerWithStaff() {
+        CountingPolicy policy = new CountingPolicy(true);
+        Schedule schedule = createOtters().task(5, "Flush wound", 40, 1)
+                .treatment(20, 1, 5, 8).treatment(21, 2, 5, 8).createSchedule(policy);
+        schedule.planSchedule();
+
+        schedule.updateTreatmentStartHour(20, 12);
+
+        ScheduleSnapshot.Placement stayed = findTreatment(schedule, 21);
+        assertEquals("The other treatment should stay at 8", 8, stayed.getScheduledHour());
+        assertFalse("The other treatment should no longer need a volunteer", stayed.getNeedsVolunteer());
+        assertEquals("It should start at the top of the staff member's hour", 8 * 60, stayed.getStartMinute());
+        assertEquals("Only one volunteer should have been asked for", 1, policy.volunteersAsked);
+        schedule.close();
+    }
+
+    /**
+     * Tests that a moved treatment with no room displaces a treatment with a wider window, which is then placed
+     * again in the hour the move freed.
+     */
+    @Test
+    public void testUpdateTreatmentStartHour_DisplacesWiderWindow() {
+        CountingPolicy policy = new CountingPolicy(true);
+        Schedule schedule = createOtters().task(5, "Flush wound", 50, 3).task(6, "Give insulin", 50, 1)
+                .treatment(20, 1, 5, 8).treatment(21, 2, 6, 9).createSchedule(policy);
+        schedule.planSchedule();
+        assertEquals("The wide treatment should start at 8", 8, findTreatment(schedule, 20).getScheduledHour());
+
+        schedule.updateTreatmentStartHour(21, 8);
+
+        assertEquals("The moved treatment should take hour 8", 8, findTreatment(schedule, 21).getScheduledHour());
+        assertEquals("The displaced treatment should move to 9", 9, findTreatment(schedule, 20).getScheduledHour());
+        assertEquals("No volunteer should be needed", 0, policy.volunteersAsked);
+        assertTrue("Nothing should be left out", schedule.getUnscheduledItems().isEmpty());
+        schedule.close();
+    }
+
+    /**
+     * Tests that a volunteer chosen by the search engine is put to the conflict policy, and that an item whose
+     * volunteer is declined is rescheduled instead of being placed with one.
+     */
+    @Test
+    public void testSetSearchBudget_AsksPolicyForVolunteers() {
+        CountingPolicy policy = new CountingPolicy(false);
+        Schedule schedule = createOtters().task(5, "Flush wound", 40, 1)
+                .treatment(20, 1, 5, 8).treatment(21, 2, 5, 8).createSchedule(policy);
+        schedule.setSearchBudget(100);
+
+        schedule.planSchedule();
+
+        assertEquals("The engine's volunteer should be asked for once", 1, policy.volunteersAsked);
+        assertEquals("One treatment should be left out", 1, schedule.getUnscheduledItems().size());
+        ScheduleSnapshot snapshot = schedule.getSnapshot();
+        assertEquals("Only one treatment should be placed", 1, snapshot.getPlacements().size());
+        assertFalse("No placed treatment should need a volunteer", snapshot.getPlacements().get(0).getNeedsVolunteer());
+        schedule.close();
+    }
+
+    /**
+     * Tests that volunteers the search engine chooses are added once approved, one per hour.
+     */
+    @Test
+    public void testSetSearchBudget_AddsApprovedVolunteers() {
+        CountingPolicy policy = new CountingPolicy(true);
+        Schedule schedule = createOtters().task(5, "Flush wound", 40, 1)
+                .treatment(20, 1, 5, 8).treatment(21, 2, 5, 8).createSchedule(policy);
+        schedule.setSearchBudget(100);
+
+        schedule.planSchedule();
+
+        assertEquals("The engine's volunteer should be asked for once", 1, policy.volunteersAsked);
+        assertTrue("Nothing should be left out", schedule.getUnscheduledItems().isEmpty());
+        assertEquals("Both treatments should be at 8", 2, schedule.getSnapshot().getPlacementsInHour(8).size());
+        schedule.close();
+    }
+
+    /**
+     * Tests that the search engine's plan is applied in its own order and lanes. Placed in generation order, the
+     * short treatments would split the first staff member's hour and leave no lane for the second long one, but
+     * the engine places the long ones first and needs no volunteer.
+     */
+    @Test
+    public void testSetSearchBudget_AppliesEngineOrder() {
+        CountingPolicy policy = new CountingPolicy(true);
+        Schedule schedule = createOtters().task(5, "Flush wound", 20, 1).task(6, "Give fluids", 40, 1)
+                .treatment(20, 1, 5, 8).treatment(21, 2, 5, 8).treatment(22, 1, 6, 8).treatment(23, 2, 6, 8)
+                .staff(8, 2).createSchedule(policy);
+        schedule.setSearchBudget(100);
+
+        schedule.planSchedule();
+
+        assertEquals("No volunteer should be asked for", 0, policy.volunteersAsked);
+        assertTrue("Nothing should be left out", schedule.getUnscheduledItems().isEmpty());
+        assertEquals("Every treatment should be at 8", 4, schedule.getSnapshot().getPlacementsInHour(8).size());
+        schedule.close();
+    }
+
+    /**
+     * Tests that when a volunteer the search engine chose is declined, every treatment it packed into the
+     * volunteer's lane is rescheduled, without asking for the same volunteer again.
+     */
+    @Test
+    public void testSetSearchBudget_DeclinesWholeVolunteerLane() {
+        CountingPolicy policy = new CountingPolicy(false);
+        Schedule schedule = createOtters().task(5, "Hold for surgery", 60, 1).task(6, "Flush wound", 20, 1)
+                .treatment(20, 1, 5, 8).treatment(21, 2, 6, 8).treatment(22, 2, 6, 8).createSchedule(policy);
+        schedule.setSearchBudget(100);
+
+        schedule.planSchedule();
+
+        assertEquals("The engine's volunteer should be asked for once", 1, policy.volunteersAsked);
+        assertEquals("Both treatments of the volunteer's lane should be left out", 2,
+                schedule.getUnscheduledItems().size());
+        assertEquals("The staff member's treatment should stay at 8", 8,
+                findTreatment(schedule, 20).getScheduledHour());
+        schedule.close();
+    }
+
+    /**
+     * Tests that comparing ordering strategies after the day has been planned gives the same results as before, so
+     * the day's own placements are not counted against it.
+     */
+    @Test
+    public void testCompareOrderingStrategies_IgnoresOwnPlacements() {
+        Schedule schedule = createOtters().task(5, "Flush wound", 40, 1)
+                .treatment(20, 1, 5, 8).treatment(21, 2, 5, 8).createSchedule(new CountingPolicy(true));
+        ArrayList<OrderingStrategy> strategies = new ArrayList<>();
+        strategies.add(new EarliestDeadlineFirst());
+
+        PlacementResult before = schedule.compareOrderingStrategies(strategies).get("Earliest deadline first");
+        schedule.planSchedule();
+        PlacementResult after = schedule.compareOrderingStrategies(strategies).get("Earliest deadline first");
+
+        assertEquals("Every treatment should still be placed", 0, after.getUnplacedCount());
+        assertEquals("The placement rate should not change", before.getPlacementRate(), after.getPlacementRate(), 0.0);
+        assertEquals("The day should still need one volunteer", before.getVolunteerCount(), after.getVolunteerCount());
+        schedule.close();
+    }
+
+    /**
+     * Tests that a volunteer chosen by an ordering strategy is put to the conflict policy.
+     */
+    @Test
+    public void testSetOrderingStrategy_AsksPolicyForVolunteers() {
+        CountingPolicy policy = new CountingPolicy(false);
+        Schedule schedule = createOtters().task(5, "Flush wound", 40, 1)
+                .treatment(20, 1, 5, 8).treatment(21, 2, 5, 8).createSchedule(policy);
+        schedule.setOrderingStrategy(new EarliestDeadlineFirst());
+
+        schedule.planSchedule();
+
+        assertEquals("The strategy's volunteer should be asked for once", 1, policy.volunteersAsked);
+        assertEquals("One treatment should be left out", 1, schedule.getUnscheduledItems().size());
+        schedule.close();
+    }
+
+    /**
+     * Tests that simulating a planned day does not count its own placements, so a day that fits without
+     * volunteers never needs one when durations do not vary.
+     */
+    @Test
+    public void testSimulateDurations_IgnoresOwnPlacements() {
+        Schedule schedule = createOtters().task(5, "Flush wound", 40, 1)
+                .treatment(20, 1, 5, 8).createSchedule(new CountingPolicy(true));
+        schedule.planSchedule();
+
+        SimulationReport report = schedule.simulateDurations(new DurationModel(), 10, 1L);
+
+        assertEquals("No trial should need a volunteer", 0.0, report.getExpectedVolunteers(), 0.0);
+        assertEquals("Hour 8 should never need a volunteer", 0.0, report.getVolunteerProbability(8), 0.0);
+        assertEquals("Every trial should place the treatment", 0.0, report.getUnplacedProbability(), 0.0);
+        schedule.close();
+    }
+
+    /**
+     * Tests that simulations with the same seed give the same report.
+     */
+    @Test
+    public void testSimulateDurations_SameSeedSameReport() {
+        Schedule schedule = createOtters().task(5, "Flush wound", 45, 1).task(6, "Give insulin", 20, 2)
+                .treatment(20, 1, 5, 8).treatment(21, 2, 6, 8).createSchedule(new CountingPolicy(true));
+        schedule.planSchedule();
+
+        SimulationReport first = schedule.simulateDurations(DurationModel.createDefault(), 200, 42L);
+        SimulationReport second = schedule.simulateDurations(DurationModel.createDefault(), 200, 42L);
+
+        assertEquals("The expected volunteers should match", first.getExpectedVolunteers(),
+                second.getExpectedVolunteers(), 0.0);
+        for (int hour = 8; hour < 10; hour++) {
+            assertEquals("The volunteer probability of hour " + hour + " should match",
+                    first.getVolunteerProbability(hour), second.getVolunteerProbability(hour), 0.0);
+        }
+        schedule.close();
+    }
+
+    /**
+     * Tests that simulating with a search budget set places each trial in earliest-deadline-first order, so the
+     * trials do not depend on how far the time-budgeted search gets. The search would avoid the volunteer that
+     * earliest-deadline-first order needs here.
+     */
+    @Test
+    public void testSimulateDurations_SearchBudgetUsesOrderedPlacer() {
+        ShelterFixture fixture = createOtters().task(5, "Flush wound", 20, 2).task(6, "Give insulin", 45, 2)
+                .task(7, "Give fluids", 35, 1).treatment(20, 1, 5, 8).treatment(21, 2, 6, 8).treatment(22, 1, 7, 9);
+        Schedule searched = fixture.createSchedule(new CountingPolicy(true));
+        searched.setSearchBudget(1000);
+        Schedule ordered = fixture.createSchedule(new CountingPolicy(true));
+        ordered.setOrderingStrategy(new EarliestDeadlineFirst());
+
+        SimulationReport first = searched.simulateDurations(DurationModel.createDefault(), 200, 42L);
+        SimulationReport second = ordered.simulateDurations(DurationModel.createDefault(), 200, 42L);
+
+        assertEquals("The expected volunteers should match", second.getExpectedVolunteers(),
+                first.getExpectedVolunteers(), 0.0);
+        assertEquals("The unplaced probability should match", second.getUnplacedProbability(),
+                first.getUnplacedProbability(), 0.0);
+        searched.close();
+        ordered.close();
+    }
+
+    /**
+     * Tests that planning the horizon places the items of every one of its days.
+     */
+    @Test
+    public void testPlanHorizon_PlansEveryDay() {
+        Schedule schedule = createOtters().task(5, "Flush wound", 40, 1)
+                .treatment(20, 1, 5, 8).createSchedule(new CountingPolicy(true));
+
+        schedule.planHorizon();
+
+        for (int day = 0; day < Schedule.HORIZON_DAYS; day++) {
+            assertEquals("The treatment of day " + day + " should be at 8", day * 24 + 8,
+                    findTreatment(schedule, 20, day).getScheduledHour());
+        }
+        assertEquals("Only the horizon's days should be planned", Schedule.HORIZON_DAYS,
+                schedule.getSnapshot().getPlacements().size());
+        schedule.close();
+    }
+
+    /**
+     * Tests that a window on the last day of the horizon can run past its midnight, both before and after the
+     * horizon has moved on a day.
+     */
+    @Test
+    public void testPlanHorizon_LastDayRunsPastMidnight() {
+        CountingPolicy policy = new CountingPolicy(false);
+        Schedule schedule = createLateOtters(policy);
+        int lastDay = Schedule.HORIZON_DAYS - 1;
+
+        schedule.planHorizon();
+        assertEquals("The last day's treatment should run into the next day", (lastDay + 1) * 24,
+                findTreatment(schedule, 21, lastDay).getScheduledHour());
+
+        schedule.advanceDay();
+        schedule.planHorizon();
+        assertEquals("The new last day's treatment should run into the next day", (lastDay + 2) * 24,
+                findTreatment(schedule, 21, lastDay + 1).getScheduledHour());
+        assertTrue("Nothing should be left out", schedule.getUnscheduledItems().isEmpty());
+        assertEquals("No volunteer should be asked for", 0, policy.volunteersAsked);
+        schedule.close();
+    }
+
+    /**
+     * Tests that moving on a day drops the placements of the day left behind and keeps those of later days.
+     */
+    @Test
+    public void testAdvanceDay_KeepsLaterDays() {
+        Schedule schedule = createOtters().task(5, "Flush wound", 40, 1)
+                .treatment(20, 1, 5, 8).createSchedule(new CountingPolicy(true));
+        schedule.planHorizon();
+
+        schedule.advanceDay();
+        schedule.planSchedule();
+
+        assertEquals("The current day should be day 1", 1, schedule.getCurrentDay());
+        assertEquals("Day 1 should be published", 1, schedule.getSnapshot().getDay());
+        assertEquals("Only the day left behind should be dropped", Schedule.HORIZON_DAYS - 1,
+                schedule.getSnapshot().getPlacements().size());
+        for (ScheduleSnapshot.Placement placement : schedule.getSnapshot().getPlacements()) {
+            assertTrue("No placement of day 0 should be kept", placement.getDay() > 0);
+        }
+        schedule.close();
+    }
+
+    /**
+     * Tests that an item of the day left behind that runs past midnight keeps its place in the new day.
+     */
+    @Test
+    public void testAdvanceDay_KeepsSpilledItems() {
+        Schedule schedule = createLateOtters(new CountingPolicy(false));
+        schedule.planSchedule();
+
+        schedule.advanceDay();
+        schedule.planSchedule();
+
+        ScheduleSnapshot.Placement spilled = findTreatment(schedule, 21, 0);
+        assertEquals("The spilled treatment should stay at midnight", 24, spilled.getScheduledHour());
+        assertEquals("It should be shown at the top of the new day", 1,
+                schedule.getSnapshot().getPlacementsInHour(24).size());
+        assertEquals("The new day's own treatment should run past its midnight", 48,
+                findTreatment(schedule, 21, 1).getScheduledHour());
+        schedule.close();
+    }
+
+    /**
+     * Tests that an item of the day left behind that starts at 23:xx and runs past midnight is still found at the
+     * start of the new day, and that the new day's first hour is laid out after it until it is dropped a day later.
+     */
+    @Test
+    public void testAdvanceDay_KeepsItemsCrossingMidnight() {
+        Schedule schedule = createOtters().task(5, "Flush wound", 30, 1).task(6, "Give fluids", 40, 2)
+                .task(7, "Hold for surgery", 45, 2).treatment(20, 1, 5, 23).treatment(21, 2, 6, 23)
+                .treatment(22, 1, 7, 23).createSchedule(new CountingPolicy(false));
+        schedule.planSchedule();
+        assertEquals("The last treatment should start at 23:30", 23 * 60 + 30,
+                findTreatment(schedule, 22, 0).getStartMinute());
+
+        schedule.advanceDay();
+        schedule.planSchedule();
+
+        ArrayList<Item> running = schedule.getItemsAt(24 * 60 + 5);
+        assertEquals("The crossing treatment should still be running at 00:05", 1, running.size());
+        assertEquals("The crossing treatment should still be running at 00:05", 22, running.get(0).getTreatmentID());
+        assertEquals("The snapshot should still hold it", 24 * 60 + 15, findTreatment(schedule, 22, 0).getEndMinute());
+        assertEquals("The new day's first hour should start after it", 24 * 60 + 15,
+                findTreatment(schedule, 21, 0).getStartMinute());
+
+        schedule.advanceDay();
+        schedule.planSchedule();
+        for (ScheduleSnapshot.Placement placement : schedule.getSnapshot().getPlacements()) {
+            assertTrue("No placement of day 0 should be kept", placement.getDay() > 0);
+        }
+        schedule.close();
+    }
+
+    /**
+     * Tests that moving a treatment after moving on a day only re-places it on the days still planned.
+     */
+    @Test
+    public void testAdvanceDay_PrunesTreatmentItems() {
+        Schedule schedule = createOtters().task(5, "Flush wound", 40, 1)
+                .treatment(20, 1, 5, 8).createSchedule(new CountingPolicy(true));
+        schedule.planHorizon();
+        schedule.advanceDay();
+
+        schedule.updateTreatmentStartHour(20, 12);
+
+        assertTrue("Nothing should be left out", schedule.getUnscheduledItems().isEmpty());
+        assertEquals("Only the days still planned should hold the treatment", Schedule.HORIZON_DAYS - 1,
+                schedule.getSnapshot().getPlacements().size());
+        for (ScheduleSnapshot.Placement placement : schedule.getSnapshot().getPlacements()) {
+            assertEquals("The treatment should be at 12 of its day", placement.getDay() * 24 + 12,
+                    placement.getScheduledHour());
+        }
+        schedule.close();
+    }
+
+    /**
+     * Tests that a treatment rescheduled while planning keeps its new start hour on the days planned after it, as
+     * the database does, instead of being rescheduled again every day.
+     */
+    @Test
+    public void testPlanHorizon_KeepsRescheduledStartHour() {
+        CountingPolicy policy = new CountingPolicy(false, 12);
+        Schedule schedule = createOtters().task(5, "Hold for surgery", 60, 1)
+                .treatment(20, 1, 5, 8).treatment(21, 2, 5, 8).createSchedule(policy);
+
+        schedule.planHorizon();
+
+        assertEquals("The volunteer should only be asked for on the first day", 1, policy.volunteersAsked);
+        for (int day = 0; day < Schedule.HORIZON_DAYS; day++) {
+            assertEquals("The treatment of day " + day + " should be at 12", day * 24 + 12,
+                    findTreatment(schedule, 21, day).getScheduledHour());
+        }
+        schedule.close();
+    }
+
+    /**
+     * Tests that rescheduling a feeding, which has no treatment row, queues no database update.
+     */
+    @Test
+    public void testPlanSchedule_ReschedulingFeedingSavesNothing() {
+        ShelterFixture fixture = new ShelterFixture().animal(new Beaver(1, "Eraser", "beaver"))
+                .task(5, "Hold for surgery", 60, 1)
+                .treatment(20, 1, 5, 8).treatment(21, 1, 5, 9).treatment(22, 1, 5, 10);
+        SavingSource source = new SavingSource(fixture);
+        Schedule schedule = new Schedule(source);
+        schedule.setConflictPolicy(new CountingPolicy(false, 20));
+
+        schedule.planSchedule();
+        schedule.close();
+
+        assertEquals("The feeding should be moved to 20", 1, schedule.getSnapshot().getPlacementsInHour(20).size());
+        assertTrue("No treatment should be saved", source.savedIDs.isEmpty());
+    }
+
+    /**
+     * Tests that a moved treatment the conflict policy reschedules to another hour is saved once, at the hour it
+     * was placed in, and that the following day is planned from that hour.
+     */
+    @Test
+    public void testUpdateTreatmentStartHour_SavesReschedulingOnce() {
+        SavingSource source = new SavingSource(createOtters().task(5, "Hold for surgery", 60, 1)
+                .task(6, "Flush wound", 30, 1).treatment(20, 1, 5, 8).treatment(21, 2, 6, 10));
+        Schedule schedule = new Schedule(source);
+        CountingPolicy policy = new CountingPolicy(false, 12);
+        schedule.setConflictPolicy(policy);
+        schedule.planSchedule();
+
+        schedule.updateTreatmentStartHour(21, 8);
+        schedule.advanceDay();
+        schedule.planSchedule();
+        schedule.close();
+
+        assertEquals("The next day should be planned at 12", 36, findTreatment(schedule, 21, 1).getScheduledHour());
+        assertEquals("The volunteer should only be asked for during the move", 1, policy.volunteersAsked);
+        assertEquals("The treatment should be saved once", 1, source.savedIDs.size());
+        assertEquals("The treatment should be saved at 12", Integer.valueOf(12), source.savedHours.get(21));
+    }
+
+    /**
+     * Tests that the feeding items animals create are scheduled as feedings, charging their species' food prep
+     * once in the hour and listing them by the built-in task's description.
+     */
+    @Test
+    public void testAddItem_AnimalFeeding() {
+        Fox annie = new Fox(1, "Annie", "fox");
+        Fox slyly = new Fox(2, "Slyly", "fox");
+        Schedule schedule = new ShelterFixture().animal(annie).animal(slyly).createSchedule(new CountingPolicy(false));
+        Item first = annie.feeding();
+        Item second = slyly.feeding();
+
+        assertTrue("The first feeding should be placed", schedule.addItem(first));
+        assertTrue("The second feeding should be placed", schedule.addItem(second));
+
+        assertEquals("The second feeding should share the hour's food prep", first.getScheduledHour(),
+                second.getScheduledHour());
+        assertEquals("The first feeding should include the food prep", 10, first.getReservedMinutes());
+        assertEquals("The second feeding should not prepare the food again", 5, second.getReservedMinutes());
+        assertTrue("The feeding should be listed as a feeding", schedule.formatItem(first, 10, 20).contains("Feeding"));
+        schedule.close();
+    }
+
+    /**
+     * Tests that a schedule whose data cannot be loaded, such as a staffing row out of range, fails with the cause
+     * instead of planning with a default roster.
+     */
+    @Test
+    public void testConstructor_LoadFailureKeepsCause() {
+        IllegalArgumentException rowError = new IllegalArgumentException("Staff count must be between 0 and 32.");
+        try {
+            new Schedule(new ShelterDataSource() {
+                @Override
+                public ShelterData load() throws SQLException {
+                    throw new SQLException("Importing the shelter's data failed.", rowError);
+                }
+
+                @Override
+                public void updateTreatmentStartHours(Map<Integer, Integer> startHours) {
+                }
+
+                @Override
+                public void close() {
+                }
+            });
+            fail("The schedule should not be created");
+        } catch (IllegalArgumentException e) {
+            assertSame("The staffing error should be kept as the cause", rowError, e.getCause().getCause());
+        }
+    }
+
+    // Helper method to build otters whose hour 23 is taken by an hour-long treatment, so that a second treatment
+    // opening at 23 has to run on past midnight.
+    private Schedule createLateOtters(ConflictPolicy policy) {
+        return createOtters().task(5, "Hold for surgery", 60, 1).task(6, "Flush wound", 50, 3)
+                .treatment(20, 1, 5, 23).treatment(21, 2, 6, 23).createSchedule(policy);
+    }
+
+    // Helper method to find the placement of a treatment on a day in the schedule's latest snapshot.
+    private ScheduleSnapshot.Placement findTreatment(Schedule schedule, int treatmentID, int day) {
+        for (ScheduleSnapshot.Placement placement : schedule.getSnapshot().getPlacements()) {
+            if (placement.getTreatmentID() == treatmentID && placement.getDay() == day) {
+                return placement;
+            }
+        }
+        fail("Treatment " + treatmentID + " should be placed on day " + day);
+        return null;
+    }
+
+    // Helper method to find the placement of a treatment in the schedule's latest snapshot.
+    private ScheduleSnapshot.Placement findTreatment(Schedule schedule, int treatmentID) {
+        for (ScheduleSnapshot.Placement placement : schedule.getSnapshot().getPlacements()) {
+            if (placement.getTreatmentID() == treatmentID) {
+                return placement;
+            }
+        }
+        fail("Treatment " + treatmentID + " should be placed");
+        return null;
+    }
+}
@@ -0,0 +1,115 @@
+package edu.ucalgary.oop.Tests;
+
+import edu.ucalgary.oop.Schedule.*;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the ScheduleWriter class in the Schedule package.
+ * This test suite verifies that items are laid out in the same columns as before, that hours with and without
+ * items are rendered correctly, and that schedule files are replaced whole or not at all.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class ScheduleWriterTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /**
+     * Tests that item columns match the format pattern the schedule used before, including long nicknames that
+     * overflow their column and durations wider than five digits.
+     */
+    @Test
+    public void testAppendItem_MatchesFormat() throws IOException {
+        String[][] cases = {{"Annie", "Eyedrops"}, {"A nickname longer than thirty chars", "Feeding"}, {"", ""}};
+        int[] durations = {5, 123456, 0};
+        for (int i = 0; i < cases.length; i++) {
+            StringBuilder builder = new StringBuilder();
+            ScheduleWriter.appendItem(builder, cases[i][0], false, cases[i][1], durations[i], 30, 25);
+
+            assertEquals("Columns should match the format pattern", String.format("%-30s%-25s%5d mins",
+                    cases[i][0], cases[i][1], durations[i]), builder.toString());
+        }
+    }
+
+    /**
+     * Tests that a volunteer is marked after the nickname, within the nickname column.
+     */
+    @Test
+    public void testAppendItem_Volunteer() throws IOException {
+        StringBuilder builder = new StringBuilder();
+
+        ScheduleWriter.appendItem(builder, "Eraser", true, "Cage Cleaning", 5, 30, 25);
+
+        assertEquals("The volunteer should be padded with the nickname",
+                String.format("%-30s%-25s%5d mins", "Eraser (+ Volunteer)", "Cage Cleaning", 5), builder.toString());
+    }
+
+    /**
+     * Tests that an hour lists its items with their start time, and that an hour without items is marked empty.
+     */
+    @Test
+    public void testWriteHours() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        ScheduleWriter writer = new ScheduleWriter(builder, 6, 8);
+
+        writer.startHour(8);
+        writer.writeItem(8 * 60 + 5, "Annie", false, "Feeding", 5);
+        writer.endHour();
+        writer.startHour(9);
+        writer.endHour();
+
+        assertEquals("Hours should be rendered in the schedule layout",
+                "Hour: 8\n08:05  Annie Feeding     5 mins\n\nHour: 9\nEmpty\n\n", builder.toString());
+    }
+
+    /**
+     * Tests that writing a file replaces the old schedule and leaves no temporary files behind.
+     */
+    @Test
+    public void testWriteFile_ReplacesTarget() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("Schedule.txt");
+        Files.write(file, Collections.singletonList("old schedule"), StandardCharsets.UTF_8);
+
+        ScheduleWriter.writeFile(file, out -> out.append("Hour: 0\nEmpty\n\n"));
+
+        assertEquals("The new schedule should be written", "Hour: 0\nEmpty\n\n",
+                new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+        assertEquals("Only the schedule file should be left", 1, folder.getRoot().list().length);
+    }
+
+    /**
+     * Tests that a failure while writing leaves the old schedule in place and no temporary files behind.
+     */
+    @Test
+    public void testWriteFile_FailureKeepsOldFile() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("Schedule.txt");
+        Files.write(file, Collections.singletonList("old schedule"), StandardCharsets.UTF_8);
+
+        try {
+            ScheduleWriter.writeFile(file, out -> {
+                out.append("Hour: 0\n");
+                throw new IOException("disk full");
+            });
+            fail("The failure should be passed on");
+        } catch (IOException e) {
+            assertEquals("The original failure should be passed on", "disk full", e.getMessage());
+        }
+
+        assertEquals("The old schedule should be kept", Collections.singletonList("old schedule"),
+                Files.readAllLines(file, StandardCharsets.UTF_8));
+        assertEquals("Only the schedule file should be left", 1, folder.getRoot().list().length);
+    }
+}
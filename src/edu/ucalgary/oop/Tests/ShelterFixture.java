@@ -0,0 +1,115 @@
+package edu.ucalgary.oop.Tests;
+
+import edu.ucalgary.oop.Animals.*;
+import edu.ucalgary.oop.Medical.Tasks;
+import edu.ucalgary.oop.Schedule.*;
+import java.util.*;
+
+/**
+ * Builds the small shelters the Schedule package tests plan from, one table at a time. Treatments take their
+ * duration and window from their task, the way the joined treatment import does, so a test only states what it
+ * is about.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class ShelterFixture {
+    private final HashMap<Integer, Animal> animals = new HashMap<>();
+    private final HashMap<Integer, Tasks> tasks = new HashMap<>();
+    private final ArrayList<Item> treatmentItems = new ArrayList<>();
+    private final StaffRoster staffRoster = new StaffRoster();
+
+    /**
+     * Creates the shelter most tests share: Eraser the beaver with eyedrops at 8 (treatment 10), and Annie the fox
+     * with a broken leg to inspect at 14 (treatment 11), each worked by one staff member per hour.
+     *
+     * @return The fixture, which can still be added to.
+     */
+    public static ShelterFixture createDefault() {
+        return new ShelterFixture()
+                .animal(new Beaver(1, "Eraser", "beaver"))
+                .animal(new Fox(2, "Annie", "fox"))
+                .task(3, "Eyedrops", 25, 1)
+                .task(4, "Inspect broken leg", 5, 2)
+                .treatment(10, 1, 3, 8)
+                .treatment(11, 2, 4, 14);
+    }
+
+    /**
+     * Adds an animal.
+     *
+     * @param animal The animal.
+     * @return This fixture.
+     */
+    public ShelterFixture animal(Animal animal) {
+        animals.put(animal.getID(), animal);
+        return this;
+    }
+
+    /**
+     * Adds a task.
+     *
+     * @param taskID The ID of the task.
+     * @param description The description of the task.
+     * @param duration The minutes the task takes.
+     * @param maxWindow The hours the task may be started in.
+     * @return This fixture.
+     */
+    public ShelterFixture task(int taskID, String description, int duration, int maxWindow) {
+        tasks.put(taskID, new Tasks(taskID, description, duration, maxWindow));
+        return this;
+    }
+
+    /**
+     * Adds a treatment of an animal with a task that has already been added.
+     *
+     * @param treatmentID The ID of the treatment.
+     * @param animalID The animal treated.
+     * @param taskID The task done.
+     * @param startHour The hour the treatment's window opens.
+     * @return This fixture.
+     */
+    public ShelterFixture treatment(int treatmentID, int animalID, int taskID, int startHour) {
+        Tasks task = tasks.get(taskID);
+        treatmentItems.add(new Item(animalID, taskID, startHour, task.getMaxWindow(), task.getDuration(),
+                treatmentID));
+        return this;
+    }
+
+    /**
+     * Sets the staff on shift in an hour of the day.
+     *
+     * @param hour The hour of the day.
+     * @param count The number of staff.
+     * @return This fixture.
+     */
+    public ShelterFixture staff(int hour, int count) {
+        staffRoster.setStaff(hour, count);
+        return this;
+    }
+
+    /**
+     * Returns the tables built so far.
+     *
+     * @return The shelter's tables.
+     */
+    public ShelterData build() {
+        return new ShelterData(animals, tasks, treatmentItems, staffRoster);
+    }
+
+    /**
+     * Creates a schedule planning from the tables in memory.
+     *
+     * @param conflictPolicy How conflicts are resolved, so that no dialog is shown.
+     * @return The schedule, not yet planned.
+     */
+    public Schedule createSchedule(ConflictPolicy conflictPolicy) {
+        Schedule schedule = new Schedule(new InMemoryShelterDataSource(build()));
+        schedule.setConflictPolicy(conflictPolicy);
+        return schedule;
+    }
+}
@@ -0,0 +1,145 @@
+package edu.ucalgary.oop.Tests;
+
+import edu.ucalgary.oop.Animals.*;
+import edu.ucalgary.oop.Schedule.*;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.*;
+import java.util.*;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the SnapshotCache class in the Schedule package.
+ * This test suite verifies that a written snapshot reads back as the same tables, and that a snapshot for another
+ * fingerprint, a damaged snapshot or a missing one is treated as absent so the caller imports from the database.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class SnapshotCacheTest {
+    private static final long[] FINGERPRINT = {3, 7, 2, 10, 41};
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    // Helper method to build a small shelter with every kind of table filled in.
+    private ShelterData createShelterData() {
+        return new ShelterFixture()
+                .animal(new Beaver(1, "Eraser", "beaver"))
+                .animal(new Porcupine(2, "Spike", "porcupine"))
+                .task(1, "Kit feeding", 30, 2)
+                .task(4, "Rebandage leg wound \u2013 h\u00e9ros", 20, 1)
+                .treatment(5, 1, 1, 0)
+                .treatment(9, 2, 4, 13)
+                .staff(9, 3)
+                .build();
+    }
+
+    /**
+     * Tests that a snapshot read with the fingerprint it was written with gives back the same tables.
+     */
+    @Test
+    public void testRead_RoundTrip() throws IOException {
+        SnapshotCache cache = new SnapshotCache(folder.getRoot().toPath().resolve("shelter.snapshot"));
+        cache.write(createShelterData(), FINGERPRINT);
+
+        ShelterData data = cache.read(FINGERPRINT.clone());
+
+        assertNotNull("The snapshot should be read", data);
+        assertEquals("Both animals should be read", 2, data.getAnimals().size());
+        assertTrue("The species should be kept", data.getAnimals().get(2) instanceof Porcupine);
+        assertEquals("The nickname should be kept", "Spike", data.getAnimals().get(2).getNickName());
+        assertEquals("Non-ASCII descriptions should be kept", "Rebandage leg wound \u2013 h\u00e9ros",
+                data.getTasks().get(4).getDescription());
+        assertEquals("The task duration should be kept", 20, data.getTasks().get(4).getDuration());
+        Item item = data.getTreatmentItems().get(1);
+        assertEquals("The treatment ID should be kept", 9, item.getTreatmentID());
+        assertEquals("The start hour should be kept", 13, item.getStartHour());
+        assertEquals("The window should be kept", 1, item.getMaxWindow());
+        assertEquals("The staffing should be kept", 3, data.getStaffRoster().getStaff(9));
+        assertEquals("Unset hours should keep the default staff", 1, data.getStaffRoster().getStaff(10));
+    }
+
+    /**
+     * Tests that a snapshot of a database that has changed since is not used, unless any snapshot is accepted.
+     */
+    @Test
+    public void testRead_FingerprintMismatch() throws IOException {
+        SnapshotCache cache = new SnapshotCache(folder.getRoot().toPath().resolve("shelter.snapshot"));
+        cache.write(createShelterData(), FINGERPRINT);
+
+        assertNull("A snapshot of another fingerprint should not be used", cache.read(new long[]{3, 7, 2, 10, 42}));
+        assertNotNull("Any snapshot should be used without a fingerprint", cache.read(null));
+    }
+
+    /**
+     * Tests that writing a snapshot again replaces the earlier one and leaves no temporary file behind.
+     */
+    @Test
+    public void testWrite_ReplacesSnapshot() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("shelter.snapshot");
+        SnapshotCache cache = new SnapshotCache(file);
+        cache.write(createShelterData(), FINGERPRINT);
+        cache.write(createShelterData(), new long[]{1});
+
+        assertNull("The old fingerprint should no longer match", cache.read(FINGERPRINT));
+        assertNotNull("The new fingerprint should match", cache.read(new long[]{1}));
+        assertEquals("Only the snapshot file should be left", 1, folder.getRoot().list().length);
+    }
+
+    /**
+     * Tests that a cut-off snapshot is treated as absent rather than read partially.
+     */
+    @Test
+    public void testRead_DamagedSnapshot() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("shelter.snapshot");
+        SnapshotCache cache = new SnapshotCache(file);
+        cache.write(createShelterData(), FINGERPRINT);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 10));
+
+        assertNull("A damaged snapshot should not be used", cache.read(FINGERPRINT));
+    }
+
+    /**
+     * Tests that a fingerprint length larger than the rest of the file is treated as damage, without allocating
+     * for it.
+     */
+    @Test
+    public void testRead_DamagedFingerprintLength() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("shelter.snapshot");
+        SnapshotCache cache = new SnapshotCache(file);
+        cache.write(createShelterData(), FINGERPRINT);
+        byte[] bytes = Files.readAllBytes(file);
+        ByteBuffer.wrap(bytes).putInt(8, Integer.MAX_VALUE); // After the magic number and format version.
+        Files.write(file, bytes);
+
+        assertNull("A snapshot with a damaged fingerprint length should not be used", cache.read(null));
+    }
+
+    /**
+     * Tests that reading before any snapshot has been written finds nothing.
+     */
+    @Test
+    public void testRead_MissingSnapshot() {
+        SnapshotCache cache = new SnapshotCache(folder.getRoot().toPath().resolve("missing.snapshot"));
+
+        assertNull("A missing snapshot should not be used", cache.read(null));
+    }
+
+    /**
+     * Tests the constructor with a null file.
+     * Expects an IllegalArgumentException to ensure proper validation.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructor_NullFile() {
+        new SnapshotCache(null);
+    }
+}
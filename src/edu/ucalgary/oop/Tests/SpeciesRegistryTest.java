@@ -0,0 +1,172 @@
+package edu.ucalgary.oop.Tests;
+
+import edu.ucalgary.oop.Animals.*;
+import edu.ucalgary.oop.Medical.Tasks;
+import edu.ucalgary.oop.Schedule.*;
+import java.util.*;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the SpeciesRegistry and SpeciesProfile classes in the Schedule package.
+ * This test suite verifies the default profiles of the shelter's species, the assignment of species IDs, loading
+ * profiles from configuration, the validation of profiles, and that the scheduler takes feeding and cage cleaning
+ * from the profiles rather than from animal classes.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class SpeciesRegistryTest {
+
+    /**
+     * Tests that the default registry keeps the shelter's feeding hours, prep costs and cage cleaning times.
+     */
+    @Test
+    public void testCreateDefault_ShelterProfiles() {
+        SpeciesRegistry registry = SpeciesRegistry.createDefault();
+        int beaver = registry.getSpeciesID("beaver");
+        int porcupine = registry.getSpeciesID("porcupine");
+
+        assertEquals("Foxes should need 5 minutes of prep", 5, registry.getPrepMinutes(registry.getSpeciesID("fox")));
+        assertEquals("Coyotes should need 10 minutes of prep", 10,
+                registry.getPrepMinutes(registry.getSpeciesID("coyote")));
+        assertEquals("Beavers should need no prep", 0, registry.getPrepMinutes(beaver));
+        assertEquals("Raccoons should take 5 minutes to feed", 5,
+                registry.getFeedingMinutes(registry.getSpeciesID("raccoon")));
+        assertEquals("Beavers should be fed from 8", 8, registry.getFeedingStartHour(beaver));
+        assertEquals("Porcupines should be fed from 19", 19, registry.getFeedingStartHour(porcupine));
+        assertEquals("Feedings should have a 3 hour window", 3, registry.getFeedingWindow(beaver));
+        assertEquals("Porcupine cages should take 10 minutes", 10, registry.getCageMinutes(porcupine));
+        assertEquals("Porcupine cages should be listed separately", SpeciesProfile.SPECIAL_CAGE_CLEANING_TASK,
+                registry.getCageTaskID(porcupine));
+        assertEquals("Other cages should take 5 minutes", 5, registry.getCageMinutes(beaver));
+        assertEquals("Five species should be registered", 5, registry.size());
+    }
+
+    /**
+     * Tests that species lookup ignores case and surrounding spaces, and that unknown species have no ID.
+     */
+    @Test
+    public void testGetSpeciesID() {
+        SpeciesRegistry registry = SpeciesRegistry.createDefault();
+
+        assertEquals("Lookup should ignore case and spaces", registry.getSpeciesID("fox"),
+                registry.getSpeciesID(" Fox "));
+        assertEquals("An unknown species should have no ID", -1, registry.getSpeciesID("otter"));
+        assertEquals("A null species should have no ID", -1, registry.getSpeciesID(null));
+    }
+
+    /**
+     * Tests that registering a species again keeps its ID and replaces its profile.
+     */
+    @Test
+    public void testRegister_UpdatesExistingSpecies() {
+        SpeciesRegistry registry = new SpeciesRegistry();
+        int id = registry.register(new SpeciesProfile("otter", 6, 2, 6, 4, 5));
+
+        assertEquals("Re-registering should keep the ID", id,
+                registry.register(new SpeciesProfile("Otter", 7, 2, 3, 8, 5)));
+        assertEquals("The prep minutes should be updated", 8, registry.getPrepMinutes(id));
+        assertEquals("The feeding minutes should be updated", 3, registry.getFeedingMinutes(id));
+        assertEquals("The feeding start hour should be updated", 7, registry.getProfile(id).getFeedingStartHour());
+        assertEquals("Only one species should be registered", 1, registry.size());
+    }
+
+    /**
+     * Tests loading profiles from configuration, with defaults for the settings left out.
+     */
+    @Test
+    public void testFromProperties() {
+        Properties properties = new Properties();
+        properties.setProperty("otter.feedingStartHour", "6");
+        properties.setProperty("otter.prepMinutes", "4");
+        properties.setProperty("badger.feedingStartHour", "21");
+        properties.setProperty("badger.cageMinutes", " 15 ");
+        properties.setProperty("badger.specialCage", "1");
+
+        SpeciesRegistry registry = SpeciesRegistry.fromProperties(properties);
+
+        assertEquals("Species should be registered alphabetically", 0, registry.getSpeciesID("badger"));
+        int otter = registry.getSpeciesID("otter");
+        assertEquals("The feeding start hour should be loaded", 6, registry.getFeedingStartHour(otter));
+        assertEquals("The prep minutes should be loaded", 4, registry.getPrepMinutes(otter));
+        assertEquals("The feeding window should default to 3 hours", 3, registry.getFeedingWindow(otter));
+        assertEquals("The cage minutes should be loaded", 15, registry.getCageMinutes(0));
+        assertEquals("The cage task should be loaded", SpeciesProfile.SPECIAL_CAGE_CLEANING_TASK,
+                registry.getCageTaskID(0));
+    }
+
+    /**
+     * Tests loading configuration with a misspelled setting.
+     * Expects an IllegalArgumentException so a typo is not silently ignored.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testFromProperties_UnknownSetting() {
+        Properties properties = new Properties();
+        properties.setProperty("otter.feedingStartHour", "6");
+        properties.setProperty("otter.prepMinuts", "4");
+
+        SpeciesRegistry.fromProperties(properties);
+    }
+
+    /**
+     * Tests that a Schedule feeds and cleans up after a species that has a profile but no animal class, and skips
+     * animals of species without a profile.
+     */
+    @Test
+    public void testSchedule_UsesProfiles() {
+        HashMap<Integer, Animal> animals = new HashMap<>();
+        animals.put(1, new Animal(1, "Slick", "otter"));
+        animals.put(2, new Animal(2, "Stripe", "badger"));
+        ShelterData data = new ShelterData(animals, new HashMap<Integer, Tasks>(), new ArrayList<Item>(),
+                new StaffRoster());
+        Schedule schedule = new Schedule(new InMemoryShelterDataSource(data));
+        SpeciesRegistry registry = new SpeciesRegistry();
+        registry.register(new SpeciesProfile("otter", 6, 2, 7, 0, 12));
+        schedule.setSpeciesRegistry(registry);
+
+        ArrayList<Item> feedings = schedule.addFeeding();
+        ArrayList<Item> cages = schedule.addCage();
+
+        assertEquals("Only the otter should be fed", 1, feedings.size());
+        assertEquals("The otter should be fed from its profile's hour", 6, feedings.get(0).getStartHour());
+        assertEquals("The otter's feeding should take its profile's minutes", 7, feedings.get(0).getDuration());
+        assertEquals("Only the otter's cage should be cleaned", 1, cages.size());
+        assertEquals("The otter's cage should take its profile's minutes", 12, cages.get(0).getDuration());
+        schedule.close();
+    }
+
+    /**
+     * Tests a profile with a negative prep cost.
+     * Expects an IllegalArgumentException to ensure proper validation.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testProfile_NegativeMinutes() {
+        new SpeciesProfile("otter", 6, 3, 5, -1, 5);
+    }
+
+    /**
+     * Tests a profile whose feeding starts outside the day.
+     * Expects an IllegalArgumentException to ensure proper validation.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testProfile_InvalidStartHour() {
+        new SpeciesProfile("otter", 24, 3, 5, 0, 5);
+    }
+
+    /**
+     * Tests registering more species than fit in a mask.
+     * Expects an IllegalArgumentException to ensure proper validation.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testRegister_TooManySpecies() {
+        SpeciesRegistry registry = new SpeciesRegistry();
+        for (int i = 0; i <= SpeciesRegistry.MAX_SPECIES; i++) {
+            registry.register(new SpeciesProfile("species" + i, 0, 3, 1, 1, 5));
+        }
+    }
+}
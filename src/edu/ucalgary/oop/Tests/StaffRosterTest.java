@@ -0,0 +1,75 @@
+package edu.ucalgary.oop.Tests;
+
+import edu.ucalgary.oop.Schedule.StaffRoster;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the StaffRoster class in the Schedule package.
+ * This test suite verifies the default of one staff member per hour, that hours wrap to their hour of the day,
+ * and that out of range hours and staff counts are rejected.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class StaffRosterTest {
+
+    /**
+     * Tests that a new roster has one staff member in every hour.
+     */
+    @Test
+    public void testConstructor_OneStaffPerHour() {
+        StaffRoster roster = new StaffRoster();
+
+        for (int hour = 0; hour < 24; hour++) {
+            assertEquals("Every hour should start with one staff member", 1, roster.getStaff(hour));
+        }
+        assertEquals("The most staff in an hour should be 1", 1, roster.getMaxStaff());
+    }
+
+    /**
+     * Tests that the staff of an hour applies to the same hour of every day.
+     */
+    @Test
+    public void testSetStaff_AppliesToEveryDay() {
+        StaffRoster roster = new StaffRoster();
+        roster.setStaff(9, 3);
+        roster.setStaff(2, 0);
+
+        assertEquals("Hour 9 should have three staff", 3, roster.getStaff(9));
+        assertEquals("Hour 9 of the next day should have three staff", 3, roster.getStaff(33));
+        assertEquals("Hour 2 should have no staff", 0, roster.getStaff(2));
+        assertEquals("The most staff in an hour should be 3", 3, roster.getMaxStaff());
+    }
+
+    /**
+     * Tests setStaff with an hour outside the day.
+     * Expects an IllegalArgumentException to ensure proper validation.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetStaff_InvalidHour() {
+        new StaffRoster().setStaff(24, 1);
+    }
+
+    /**
+     * Tests setStaff with a negative staff count.
+     * Expects an IllegalArgumentException to ensure proper validation.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetStaff_NegativeCount() {
+        new StaffRoster().setStaff(5, -1);
+    }
+
+    /**
+     * Tests setStaff with more staff than a timeline can hold.
+     * Expects an IllegalArgumentException to ensure proper validation.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetStaff_TooManyStaff() {
+        new StaffRoster().setStaff(5, StaffRoster.MAX_STAFF + 1);
+    }
+}
@@ -0,0 +1,92 @@
+package edu.ucalgary.oop.Tests;
+
+import edu.ucalgary.oop.Medical.Tasks;
+import edu.ucalgary.oop.Schedule.*;
+import java.util.*;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the TaskRegistry class in the Schedule package.
+ * This test suite verifies the fixed slots of the built-in tasks, the indexing of imported tasks after them, and
+ * that imported tasks cannot take a reserved ID but can use any other, including 0.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class TaskRegistryTest {
+
+    /**
+     * Tests that the built-in tasks have their own slots and descriptions even without imported tasks.
+     */
+    @Test
+    public void testBuiltInTasks() {
+        TaskRegistry registry = new TaskRegistry(new HashMap<Integer, Tasks>());
+
+        assertEquals("Only the built-in tasks should be registered", TaskRegistry.BUILT_IN_TASKS, registry.size());
+        assertEquals("Feeding should be described", "Feeding", registry.getDescription(TaskRegistry.FEEDING_TASK));
+        assertEquals("Cage cleaning should be described", "Cage Cleaning",
+                registry.getDescription(TaskRegistry.CAGE_CLEANING_TASK));
+        assertEquals("Porcupine cage cleaning should be described", "Porcupine Cage Cleaning",
+                registry.getDescription(TaskRegistry.SPECIAL_CAGE_CLEANING_TASK));
+        assertTrue("Built-in slots should come first",
+                registry.indexOf(TaskRegistry.CAGE_CLEANING_TASK) < TaskRegistry.BUILT_IN_TASKS);
+    }
+
+    /**
+     * Tests that imported tasks are indexed after the built-in tasks, in ID order.
+     */
+    @Test
+    public void testIndexOf_ImportedTasks() {
+        HashMap<Integer, Tasks> tasks = new HashMap<>();
+        tasks.put(9, new Tasks(9, "Eyedrops", 25, 1));
+        tasks.put(2, new Tasks(2, "Rebandage leg wound", 20, 1));
+        TaskRegistry registry = new TaskRegistry(tasks);
+
+        assertEquals("The smallest imported ID should follow the built-in tasks", TaskRegistry.BUILT_IN_TASKS,
+                registry.indexOf(2));
+        assertEquals("The task should be found by its slot", "Eyedrops", registry.getTask(registry.indexOf(9))
+                .getDescription());
+        assertEquals("An unknown task should not be found", -1, registry.indexOf(5));
+    }
+
+    /**
+     * Tests that an imported task may have ID 0 or a negative ID, as neither is reserved.
+     */
+    @Test
+    public void testConstructor_ZeroAndNegativeIDs() {
+        HashMap<Integer, Tasks> tasks = new HashMap<>();
+        tasks.put(0, new Tasks(0, "Weigh", 5, 24));
+        tasks.put(-1, new Tasks(-1, "Trim claws", 10, 24));
+        TaskRegistry registry = new TaskRegistry(tasks);
+
+        assertEquals("Task 0 should be imported", "Weigh", registry.getDescription(0));
+        assertEquals("A negative ID should be imported", "Trim claws", registry.getDescription(-1));
+        assertEquals("Feeding should keep its own slot", "Feeding", registry.getDescription(TaskRegistry.FEEDING_TASK));
+    }
+
+    /**
+     * Tests describing a task that is not registered.
+     * Expects an IllegalArgumentException so an unknown task is reported.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetDescription_UnknownTask() {
+        new TaskRegistry(new HashMap<Integer, Tasks>()).getDescription(7);
+    }
+
+    /**
+     * Tests importing a task with an ID reserved for a built-in task.
+     * Expects an IllegalArgumentException so an imported task cannot hide a built-in one.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructor_ReservedID() {
+        HashMap<Integer, Tasks> tasks = new HashMap<>();
+        tasks.put(TaskRegistry.CAGE_CLEANING_TASK, new Tasks(TaskRegistry.CAGE_CLEANING_TASK, "Sweep", 5, 24));
+
+        new TaskRegistry(tasks);
+    }
+}
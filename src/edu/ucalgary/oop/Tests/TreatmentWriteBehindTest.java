@@ -0,0 +1,160 @@
+package edu.ucalgary.oop.Tests;
+
+import edu.ucalgary.oop.Schedule.TreatmentWriteBehind;
+import java.sql.SQLException;
+import java.util.*;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the TreatmentWriteBehind class in the Schedule package.
+ * This test suite verifies that queued start hours are written in batches with only the latest change per
+ * treatment, that a full queue and the flush interval both start a write, that failed batches are retried without
+ * losing newer changes, and that closing the writer flushes what is left.
+ *
+ * @author Matteo Valente
+ * @author Marcus Gee
+ * @author Findlay Dunn-Wolbaum
+ * @author Omar Ahmed
+ * @version 1.0.0
+ * @since 2.11.0
+ */
+public class TreatmentWriteBehindTest {
+
+    // Stands in for the database, recording every batch and failing while told to.
+    private static class RecordingWriter implements TreatmentWriteBehind.BatchWriter {
+        final List<Map<Integer, Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+        volatile int failuresLeft = 0;
+
+        @Override
+        public void write(Map<Integer, Integer> startHours) throws SQLException {
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw new SQLException("Database unavailable");
+            }
+            batches.add(new LinkedHashMap<>(startHours));
+        }
+    }
+
+    // Helper method to wait for a background write, failing the test if it does not happen in time.
+    private void awaitBatches(RecordingWriter writer, int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (writer.batches.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals("The background write should happen in time", count, writer.batches.size());
+    }
+
+    /**
+     * Tests that moving a treatment twice before a flush only writes its latest start hour, in one batch.
+     */
+    @Test
+    public void testFlush_CoalescesChanges() throws SQLException {
+        RecordingWriter writer = new RecordingWriter();
+        TreatmentWriteBehind queue = new TreatmentWriteBehind(writer, 100, 60000);
+        queue.enqueue(1, 4);
+        queue.enqueue(2, 5);
+        queue.enqueue(1, 6);
+
+        assertTrue("The flush should succeed", queue.flush());
+
+        assertEquals("The changes should be written in one batch", 1, writer.batches.size());
+        Map<Integer, Integer> batch = writer.batches.get(0);
+        assertEquals("Only the latest change of each treatment should be written", 2, batch.size());
+        assertEquals("Treatment 1 should be written with its last start hour", Integer.valueOf(6), batch.get(1));
+        assertEquals("Both changes should be counted as written", 2, queue.getWrittenCount());
+        queue.close();
+    }
+
+    /**
+     * Tests that reaching the batch size starts a write in the background.
+     */
+    @Test
+    public void testEnqueue_FullBatchIsWritten() throws Exception {
+        RecordingWriter writer = new RecordingWriter();
+        TreatmentWriteBehind queue = new TreatmentWriteBehind(writer, 3, 60000);
+        queue.enqueue(1, 1);
+        queue.enqueue(2, 2);
+        queue.enqueue(3, 3);
+
+        awaitBatches(writer, 1);
+        assertEquals("The full batch should be written together", 3, writer.batches.get(0).size());
+        queue.close();
+    }
+
+    /**
+     * Tests that pending changes are written once the flush interval passes, even if the batch is not full.
+     */
+    @Test
+    public void testFlushInterval_WritesPartialBatch() throws Exception {
+        RecordingWriter writer = new RecordingWriter();
+        TreatmentWriteBehind queue = new TreatmentWriteBehind(writer, 100, 20);
+        queue.enqueue(7, 9);
+
+        awaitBatches(writer, 1);
+        assertEquals("Nothing should be left pending", 0, queue.getPendingCount());
+        queue.close();
+    }
+
+    /**
+     * Tests that a failed batch is kept and retried, and that a change queued after it is not overwritten.
+     */
+    @Test
+    public void testFlush_RetriesFailedBatch() throws SQLException {
+        RecordingWriter writer = new RecordingWriter();
+        writer.failuresLeft = 1;
+        TreatmentWriteBehind queue = new TreatmentWriteBehind(writer, 100, 60000);
+        queue.enqueue(1, 4);
+        queue.enqueue(2, 5);
+
+        assertFalse("The first flush should fail", queue.flush());
+        assertEquals("The failed changes should still be pending", 2, queue.getPendingCount());
+        queue.enqueue(1, 8);
+        assertTrue("The retry should succeed", queue.flush());
+
+        Map<Integer, Integer> batch = writer.batches.get(0);
+        assertEquals("The newer change should win over the failed one", Integer.valueOf(8), batch.get(1));
+        assertEquals("The other failed change should be retried", Integer.valueOf(5), batch.get(2));
+        assertEquals("One failure should be recorded", 1, queue.getFailedCount());
+        queue.close();
+    }
+
+    /**
+     * Tests that closing the writer retries until the pending changes are written.
+     */
+    @Test
+    public void testClose_FlushesPendingChanges() throws SQLException {
+        RecordingWriter writer = new RecordingWriter();
+        writer.failuresLeft = 1;
+        TreatmentWriteBehind queue = new TreatmentWriteBehind(writer, 100, 60000);
+        queue.enqueue(3, 12);
+
+        queue.close();
+
+        assertEquals("The change should be written on close", 1, writer.batches.size());
+        assertEquals("Nothing should be left pending", 0, queue.getPendingCount());
+    }
+
+    /**
+     * Tests that closing the writer reports changes it could not write.
+     * Expects an SQLException so the caller knows the changes were not saved.
+     */
+    @Test(expected = SQLException.class)
+    public void testClose_ReportsUnwrittenChanges() throws SQLException {
+        RecordingWriter writer = new RecordingWriter();
+        writer.failuresLeft = Integer.MAX_VALUE;
+        TreatmentWriteBehind queue = new TreatmentWriteBehind(writer, 100, 60000);
+        queue.enqueue(3, 12);
+
+        queue.close();
+    }
+
+    /**
+     * Tests enqueue with a start hour outside the day.
+     * Expects an IllegalArgumentException to ensure proper validation.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testEnqueue_InvalidHour() {
+        new TreatmentWriteBehind(new RecordingWriter()).enqueue(1, 24);
+    }
+}
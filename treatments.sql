@@ -92,3 +92,12 @@ INSERT INTO TREATMENTS (TreatmentID, AnimalID, TaskID, StartHour) VALUES
 (28, 14, 10, 13),
 (29, 14, 8, 13),
 (30, 15, 8, 13);
+
+DROP TABLE IF EXISTS STAFFING;
+CREATE TABLE STAFFING (
+	StartHour	int not null PRIMARY KEY,
+	StaffCount	int not null
+);
+
+INSERT INTO STAFFING (StartHour, StaffCount)
+SELECT hour, 1 FROM generate_series(0, 23) AS hour;